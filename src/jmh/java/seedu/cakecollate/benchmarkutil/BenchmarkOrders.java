@@ -0,0 +1,32 @@
+package seedu.cakecollate.benchmarkutil;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.util.SampleDataGenerator;
+
+/**
+ * Creates the orders of benchmarks, which are the orders written by {@code GenerateSampleData} with the default
+ * seed and {@link #TODAY} as today, so that a benchmark can be reproduced in the application from its data file.
+ */
+public class BenchmarkOrders {
+
+    public static final LocalDate TODAY = LocalDate.of(2021, 4, 1);
+
+    private BenchmarkOrders() {}
+
+    /**
+     * Returns a generator of {@code count} orders.
+     */
+    public static SampleDataGenerator generator(int count) {
+        return new SampleDataGenerator(count, SampleDataGenerator.DEFAULT_SEED, TODAY);
+    }
+
+    /**
+     * Returns {@code count} different orders.
+     */
+    public static List<Order> generate(int count) {
+        return generator(count).generateOrders();
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.cakecollate.logic.parser;
+
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ORDER_DESCRIPTION;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ORDER_ITEM_IDX;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.cakecollate.logic.commands.AddCommand;
+import seedu.cakecollate.logic.commands.Command;
+import seedu.cakecollate.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks parsing {@code add} commands as typed by a user.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CakeCollateParserBenchmark {
+
+    private static final String ADD_COMMAND = "add n/Alex Yeoh p/87438807 e/alexyeoh@example.com "
+            + "a/Blk 30 Geylang Street 29, #06-40 o/Chocolate Cake o/Strawberry Cake o/Chocolate Cake "
+            + "t/friends t/owesMoney d/13/05/2099";
+    private static final String ADD_COMMAND_WITH_ORDER_ITEMS = "add n/Bernice Yu p/99272758 "
+            + "e/berniceyu@example.com a/Blk 30 Lorong 3 Serangoon Gardens, #07-18 oi/1 2 2 3 "
+            + "o/Black Forest Cake t/colleagues d/02/12/2099";
+
+    /** Whether the cakes are given as order descriptions only, or also as order item indexes. */
+    @Param({"orderDescriptions", "orderItems"})
+    public String cakes;
+
+    private final CakeCollateParser parser = new CakeCollateParser();
+    private String input;
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        input = cakes.equals("orderItems") ? ADD_COMMAND_WITH_ORDER_ITEMS : ADD_COMMAND;
+        // the arguments of the command, as the parser passes them to the tokenizer
+        arguments = input.substring(AddCommand.COMMAND_WORD.length());
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(input);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_ORDER_DESCRIPTION, PREFIX_ORDER_ITEM_IDX, PREFIX_TAG, PREFIX_DATE);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.cakecollate.model.order;
+
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ALL;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.cakecollate.benchmarkutil.BenchmarkOrders;
+import seedu.cakecollate.logic.parser.Prefix;
+
+/**
+ * Benchmarks testing orders against {@code find} keywords, in a single field and in all fields.
+ * Each operation tests a fixed set of orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContainsKeywordsPredicateBenchmark {
+
+    private static final int ORDER_COUNT = 1000;
+
+    private List<Order> orders;
+    private ContainsKeywordsPredicate namePredicate;
+    private ContainsKeywordsPredicate allFieldsPredicate;
+
+    @Setup
+    public void setUp() {
+        orders = BenchmarkOrders.generate(ORDER_COUNT);
+        namePredicate = createPredicate(PREFIX_NAME, "alex", "roy");
+        allFieldsPredicate = createPredicate(PREFIX_ALL, "durian", "bedok");
+    }
+
+    private static ContainsKeywordsPredicate createPredicate(Prefix prefix, String... keywords) {
+        HashMap<Prefix, List<String>> keywordsByPrefix = new HashMap<>();
+        keywordsByPrefix.put(prefix, List.of(keywords));
+        return new ContainsKeywordsPredicate(keywordsByPrefix);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public void testName(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(namePredicate.test(order));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ORDER_COUNT)
+    public void testAllFields(Blackhole blackhole) {
+        for (Order order : orders) {
+            blackhole.consume(allFieldsPredicate.test(order));
+        }
+    }
+}
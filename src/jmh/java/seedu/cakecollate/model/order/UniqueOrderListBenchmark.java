@@ -0,0 +1,61 @@
+package seedu.cakecollate.model.order;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.cakecollate.benchmarkutil.BenchmarkOrders;
+
+/**
+ * Benchmarks adding an order to, and replacing all the orders of, lists of 10^3 to 10^6 orders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class UniqueOrderListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Order> orders;
+    private Order otherOrder;
+    private UniqueOrderList uniqueOrderList;
+
+    @Setup
+    public void setUp() {
+        orders = BenchmarkOrders.generate(size + 1);
+        otherOrder = orders.remove(size);
+        uniqueOrderList = new UniqueOrderList();
+        uniqueOrderList.setOrders(orders);
+    }
+
+    /**
+     * Adds an order to the list, and removes it again so that the list keeps its size.
+     */
+    @Benchmark
+    public UniqueOrderList addAndRemove() {
+        uniqueOrderList.add(otherOrder);
+        uniqueOrderList.remove(otherOrder);
+        return uniqueOrderList;
+    }
+
+    @Benchmark
+    public UniqueOrderList setOrders() {
+        uniqueOrderList.setOrders(orders);
+        return uniqueOrderList;
+    }
+}
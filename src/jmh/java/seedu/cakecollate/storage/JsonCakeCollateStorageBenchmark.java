@@ -0,0 +1,74 @@
+package seedu.cakecollate.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.cakecollate.benchmarkutil.BenchmarkOrders;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.util.SampleDataGenerator;
+
+/**
+ * Benchmarks saving and loading CakeCollate data as json.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class JsonCakeCollateStorageBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private Path folder;
+    private CakeCollate cakeCollate;
+    private JsonCakeCollateStorage savedStorage;
+    private JsonCakeCollateStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("cakecollate-benchmark");
+        SampleDataGenerator generator = BenchmarkOrders.generator(size);
+        cakeCollate = new CakeCollate();
+        cakeCollate.setOrders(generator.generateOrders());
+        savedStorage = new JsonCakeCollateStorage(folder.resolve("saved.json"));
+        savedStorage.saveOrders(generator, savedStorage.getCakeCollateFilePath());
+        storage = new JsonCakeCollateStorage(folder.resolve("cakecollate.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedStorage.getCakeCollateFilePath());
+        Files.deleteIfExists(storage.getCakeCollateFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Path save() throws IOException {
+        storage.saveCakeCollate(cakeCollate);
+        return storage.getCakeCollateFilePath();
+    }
+
+    @Benchmark
+    public ReadOnlyCakeCollate load() throws DataConversionException {
+        return savedStorage.readCakeCollate().get();
+    }
+}
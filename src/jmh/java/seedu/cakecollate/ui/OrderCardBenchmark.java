@@ -0,0 +1,73 @@
+package seedu.cakecollate.ui;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import seedu.cakecollate.benchmarkutil.BenchmarkOrders;
+import seedu.cakecollate.model.order.Order;
+
+/**
+ * Benchmarks creating {@code OrderCard}s, which loads the card from its FXML file, and binding an order to a card
+ * that is reused.
+ * The JavaFX toolkit is started for the benchmarks, so they need a display to run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCardBenchmark {
+
+    private static final int ORDER_COUNT = 100;
+
+    private List<Order> orders;
+    private OrderCard reusedCard;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+
+        orders = BenchmarkOrders.generate(ORDER_COUNT);
+        reusedCard = new OrderCard();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Platform.exit();
+    }
+
+    private Order nextOrder() {
+        next = (next + 1) % ORDER_COUNT;
+        return orders.get(next);
+    }
+
+    @Benchmark
+    public OrderCard construct() {
+        return new OrderCard(nextOrder(), next + 1);
+    }
+
+    @Benchmark
+    public OrderCard setOrder() {
+        reusedCard.setOrder(nextOrder(), next + 1);
+        return reusedCard;
+    }
+}
@@ -0,0 +1,237 @@
+package seedu.cakecollate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import java.util.logging.Logger;
+
+import seedu.cakecollate.api.ApiServer;
+import seedu.cakecollate.commons.core.Config;
+import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.commons.util.ConfigUtil;
+import seedu.cakecollate.commons.util.StringUtil;
+import seedu.cakecollate.logic.Logic;
+import seedu.cakecollate.logic.LogicManager;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.ModelManager;
+import seedu.cakecollate.model.OrderItems;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.ReadOnlyOrderItems;
+import seedu.cakecollate.model.ReadOnlyUserPrefs;
+import seedu.cakecollate.model.UserPrefs;
+import seedu.cakecollate.model.util.SampleDataUtil;
+import seedu.cakecollate.storage.CakeCollateStorage;
+import seedu.cakecollate.storage.JournalCakeCollateStorage;
+import seedu.cakecollate.storage.JsonOrderItemsStorage;
+import seedu.cakecollate.storage.JsonUserPrefsStorage;
+import seedu.cakecollate.storage.OrderItemsStorage;
+import seedu.cakecollate.storage.Storage;
+import seedu.cakecollate.storage.StorageManager;
+import seedu.cakecollate.storage.UserPrefsStorage;
+
+/**
+ * The config, storage, model and logic of the application, which are everything but its user interface.
+ * Setting them up does not need JavaFX to be running, so that commands can also be run without a window.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Sets up the components from the config file at {@code configPath} and the files it leads to.
+     *
+     * @param configPath Location of the config file, or null for the default config file.
+     * @param dataFolder Folder of the data files to use instead of those in the user prefs, or null to use those
+     *                   in the user prefs.
+     * @param storageWrapper Wraps the storage of the data files, to change when the data is written.
+     */
+    public static AppComponents create(Path configPath, Path dataFolder, UnaryOperator<Storage> storageWrapper) {
+        try {
+            return create(configPath, dataFolder, storageWrapper, true);
+        } catch (DataConversionException | IOException e) {
+            throw new AssertionError("Data that cannot be read is replaced", e);
+        }
+    }
+
+    /**
+     * Sets up the components like {@link #create(Path, Path, UnaryOperator)}, but only from the data in the data
+     * files, so that the data is never replaced by an empty CakeCollate that would be saved over it.
+     *
+     * @throws DataConversionException if the data files are not in the correct format.
+     * @throws IOException if the data files cannot be read.
+     */
+    public static AppComponents createFromStoredData(Path configPath, Path dataFolder,
+            UnaryOperator<Storage> storageWrapper) throws DataConversionException, IOException {
+        return create(configPath, dataFolder, storageWrapper, false);
+    }
+
+    private static AppComponents create(Path configPath, Path dataFolder, UnaryOperator<Storage> storageWrapper,
+            boolean isUnreadableDataReplaced) throws DataConversionException, IOException {
+        Config config = initConfig(configPath);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        if (dataFolder != null) {
+            userPrefs.setCakeCollateFilePath(dataFolder.resolve(userPrefs.getCakeCollateFilePath().getFileName()));
+            userPrefs.setOrderItemsFilePath(dataFolder.resolve(userPrefs.getOrderItemsFilePath().getFileName()));
+        }
+        CakeCollateStorage cakeCollateStorage = new JournalCakeCollateStorage(userPrefs.getCakeCollateFilePath(),
+                userPrefs.getCakeCollateFileFormat());
+        OrderItemsStorage orderItemsStorage = new JsonOrderItemsStorage(userPrefs.getOrderItemsFilePath());
+        Storage storage = storageWrapper.apply(
+                new StorageManager(cakeCollateStorage, userPrefsStorage, orderItemsStorage));
+
+        LogsCenter.init(config);
+
+        Model model = initModelManager(storage, userPrefs, isUnreadableDataReplaced);
+
+        Logic logic = new LogicManager(model, storage);
+
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s cakecollate and {@code userPrefs}. <br>
+     * The data from the sample cakecollate will be used instead if {@code storage}'s cakecollate is not found,
+     * or an empty cakecollate will be used instead if errors occur when reading {@code storage}'s cakecollate and
+     * {@code isUnreadableDataReplaced} is true.
+     *
+     * @throws DataConversionException if the data is not in the correct format and is not to be replaced.
+     * @throws IOException if the data cannot be read and is not to be replaced.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            boolean isUnreadableDataReplaced) throws DataConversionException, IOException {
+        Optional<ReadOnlyOrderItems> orderItemsOptional;
+        Optional<ReadOnlyCakeCollate> cakeCollateOptional;
+        ReadOnlyCakeCollate initialData;
+        ReadOnlyOrderItems initialDataForOrderItems;
+        try {
+            cakeCollateOptional = storage.readCakeCollate();
+            orderItemsOptional = storage.readOrderItems();
+            if (!cakeCollateOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample CakeCollate");
+            }
+            initialData = cakeCollateOptional.orElseGet(SampleDataUtil::getSampleCakeCollate);
+            initialDataForOrderItems = orderItemsOptional.orElseGet(SampleDataUtil::getSampleOrderItems);
+        } catch (DataConversionException e) {
+            if (!isUnreadableDataReplaced) {
+                throw e;
+            }
+            logger.warning("Data file not in the correct format. Will be starting with an empty CakeCollate");
+            initialData = new CakeCollate();
+            initialDataForOrderItems = new OrderItems();
+        } catch (IOException e) {
+            if (!isUnreadableDataReplaced) {
+                throw e;
+            }
+            logger.warning("Problem while reading from the file. Will be starting with an empty CakeCollate");
+            initialData = new CakeCollate();
+            initialDataForOrderItems = new OrderItems();
+        }
+
+        return new ModelManager(initialData, userPrefs, initialDataForOrderItems);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataConversionException e) {
+            logger.warning("Config file at " + configFilePathUsed + " is not in the correct format. "
+                    + "Using default config properties");
+            initializedConfig = new Config();
+        }
+
+        if (initializedConfig.getApiPort() > 0 && initializedConfig.getApiToken().isEmpty()) {
+            initializedConfig.setApiToken(ApiServer.newToken());
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using prefs file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataConversionException e) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " is not in the correct format. "
+                    + "Using default user prefs");
+            initializedPrefs = new UserPrefs();
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the file. Will be starting with an empty CakeCollate");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,185 @@
+package seedu.cakecollate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.cakecollate.commons.core.Config;
+import seedu.cakecollate.commons.core.DataFormat;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.commons.util.ConfigUtil;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.ReadOnlyUserPrefs;
+import seedu.cakecollate.model.UserPrefs;
+import seedu.cakecollate.model.util.SampleDataGenerator;
+import seedu.cakecollate.storage.BinaryCakeCollateStorage;
+import seedu.cakecollate.storage.JournalCakeCollateStorage;
+import seedu.cakecollate.storage.JsonCakeCollateStorage;
+import seedu.cakecollate.storage.JsonOrderItemsStorage;
+import seedu.cakecollate.storage.JsonUserPrefsStorage;
+
+/**
+ * The entry point that writes a generated book of orders, for load testing and for reproducing bugs on large
+ * data. Does not start the application or its user interface.
+ *
+ * The orders are written in the format of the data files set in the preferences of the application, to those
+ * files unless {@code --data} is given. Existing data is never written over unless {@code --overwrite} is given.
+ * The parameters are:
+ * <pre>
+ *     --orders=COUNT     number of orders, which is required
+ *     --seed=SEED        seed of the orders, which is {@value SampleDataGenerator#DEFAULT_SEED} by default
+ *     --today=DATE       date taken as today in the format yyyy-mm-dd, which is the current date by default
+ *     --data=FOLDER      folder to write the data files to
+ *     --overwrite        replaces the data files if they exist, and deletes the journal of the orders
+ * </pre>
+ * The same parameters always give the same orders, so that data files can be shared by giving their parameters.
+ */
+public class GenerateSampleData {
+
+    public static final String MESSAGE_USAGE = "Usage: GenerateSampleData --orders=COUNT [--seed=SEED] "
+            + "[--today=yyyy-mm-dd] [--data=FOLDER] [--overwrite]";
+    public static final String MESSAGE_DATA_EXISTS = "%1$s already exists. Give --data=FOLDER to write to another "
+            + "folder, or --overwrite to replace the existing data.";
+
+    private int orderCount = -1;
+    private long seed = SampleDataGenerator.DEFAULT_SEED;
+    private LocalDate today = LocalDate.now();
+    private Path cakeCollateFilePath;
+    private Path orderItemsFilePath;
+    private final DataFormat cakeCollateFileFormat;
+    private boolean isOverwriteAllowed;
+
+    /**
+     * Creates a {@code GenerateSampleData} that writes to the data files set in {@code userPrefs}, in their format.
+     */
+    public GenerateSampleData(ReadOnlyUserPrefs userPrefs) {
+        cakeCollateFilePath = userPrefs.getCakeCollateFilePath();
+        orderItemsFilePath = userPrefs.getOrderItemsFilePath();
+        cakeCollateFileFormat = userPrefs.getCakeCollateFileFormat();
+    }
+
+    public static void main(String[] args) {
+        GenerateSampleData generateSampleData;
+        try {
+            generateSampleData = new GenerateSampleData(readUserPrefs());
+        } catch (DataConversionException e) {
+            System.err.println("Could not read the preferences: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        try {
+            generateSampleData.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            System.exit(2);
+        }
+
+        try {
+            generateSampleData.write();
+        } catch (IOException e) {
+            System.err.println("Could not write the orders: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Returns the preferences in the preferences file named in the default config file, or the default preferences
+     * if there is no such file.
+     */
+    private static ReadOnlyUserPrefs readUserPrefs() throws DataConversionException {
+        Config config = ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElse(new Config());
+        return new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs().orElse(new UserPrefs());
+    }
+
+    /**
+     * Reads the parameters from {@code args}.
+     *
+     * @throws IllegalArgumentException if a parameter is not valid, or the number of orders is not given.
+     */
+    void parse(String... args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg : arg.substring(0, separator);
+            String value = separator < 0 ? "" : arg.substring(separator + 1);
+            try {
+                switch (name) {
+                case "--orders":
+                    orderCount = Integer.parseInt(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--today":
+                    today = LocalDate.parse(value);
+                    break;
+                case "--data":
+                    Path folder = Paths.get(value);
+                    cakeCollateFilePath = folder.resolve(cakeCollateFilePath.getFileName());
+                    orderItemsFilePath = folder.resolve(orderItemsFilePath.getFileName());
+                    break;
+                case "--overwrite":
+                    isOverwriteAllowed = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown parameter " + arg);
+                }
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid value of " + name + ": " + value);
+            }
+        }
+        if (orderCount < 0) {
+            throw new IllegalArgumentException("A number of orders of at least 0 has to be given as --orders=COUNT");
+        }
+    }
+
+    /**
+     * Writes the orders and the order items to their files.
+     * The journal of the orders is deleted first, so that it is not replayed over the orders written.
+     *
+     * @throws IOException if a data file exists and overwriting is not allowed, or the files cannot be written.
+     */
+    void write() throws IOException {
+        List<Path> journalPaths = JournalCakeCollateStorage.getJournalPaths(cakeCollateFilePath);
+        List<Path> dataPaths = new ArrayList<>(List.of(cakeCollateFilePath, orderItemsFilePath));
+        dataPaths.addAll(journalPaths);
+        for (Path dataPath : dataPaths) {
+            if (!isOverwriteAllowed && Files.exists(dataPath)) {
+                throw new IOException(String.format(MESSAGE_DATA_EXISTS, dataPath));
+            }
+        }
+
+        long start = System.nanoTime();
+        for (Path journalPath : journalPaths) {
+            Files.deleteIfExists(journalPath);
+        }
+        SampleDataGenerator generator = new SampleDataGenerator(orderCount, seed, today);
+        if (cakeCollateFileFormat == DataFormat.BINARY) {
+            // a binary snapshot lists all the strings before the orders, so the orders are generated up front
+            CakeCollate cakeCollate = new CakeCollate();
+            cakeCollate.setOrders(generator.generateOrders());
+            new BinaryCakeCollateStorage(cakeCollateFilePath).saveCakeCollate(cakeCollate);
+        } else {
+            new JsonCakeCollateStorage(cakeCollateFilePath).saveOrders(generator, cakeCollateFilePath);
+        }
+        new JsonOrderItemsStorage(orderItemsFilePath).saveOrderItems(SampleDataGenerator.getOrderItems());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Wrote " + orderCount + " orders to " + cakeCollateFilePath + " and the menu to "
+                + orderItemsFilePath + " in " + elapsedMillis + " ms.");
+    }
+
+    Path getCakeCollateFilePath() {
+        return cakeCollateFilePath;
+    }
+
+    Path getOrderItemsFilePath() {
+        return orderItemsFilePath;
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.cakecollate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.logic.Logic;
+import seedu.cakecollate.logic.commands.CommandResult;
+import seedu.cakecollate.logic.commands.exceptions.CommandException;
+import seedu.cakecollate.logic.parser.exceptions.ParseException;
+import seedu.cakecollate.storage.DeferredStorageManager;
+import seedu.cakecollate.storage.Storage;
+
+/**
+ * The entry point that runs commands from a file or the standard input without the user interface, for bulk work
+ * such as nightly imports and end-of-day status updates. Does not start JavaFX.
+ *
+ * Each line is run as if it was typed into the command box, except empty lines and lines starting with
+ * {@code #}. A command that fails is reported and the next line is run. The data is saved once, after the last
+ * command, and the time taken is reported. Nothing is run if the data files cannot be read. The parameters are:
+ * <pre>
+ *     --config=FILE      config file to use instead of config.json
+ *     --data=FOLDER      folder of cakecollate.json and OrderItems.json to use instead of the data files in the
+ *                        user prefs
+ *     --verbose          shows the result of each command, not only of those that fail
+ *     COMMANDS_FILE      file to read the commands from, which is the standard input by default
+ * </pre>
+ */
+public class RunBatch {
+
+    public static final String MESSAGE_USAGE = "Usage: RunBatch [--config=FILE] [--data=FOLDER] [--verbose] "
+            + "[COMMANDS_FILE]";
+    public static final String COMMENT_PREFIX = "#";
+
+    private Path configPath;
+    private Path dataFolder;
+    private Path commandsFilePath;
+    private boolean isVerbose;
+
+    public static void main(String[] args) {
+        RunBatch runBatch = new RunBatch();
+        try {
+            runBatch.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            exit(2);
+        }
+
+        try (BufferedReader commands = runBatch.openCommands()) {
+            boolean isSuccessful = runBatch.run(commands, System.out, System.err);
+            exit(isSuccessful ? 0 : 1);
+        } catch (IOException e) {
+            System.err.println("Could not read the commands: " + e.getMessage());
+            exit(1);
+        }
+    }
+
+    /**
+     * Writes the log messages still waiting and exits with {@code status}.
+     */
+    private static void exit(int status) {
+        LogsCenter.close();
+        System.exit(status);
+    }
+
+    /**
+     * Reads the parameters from {@code args}.
+     *
+     * @throws IllegalArgumentException if a parameter is not valid.
+     */
+    void parse(String... args) {
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String name = separator < 0 ? arg : arg.substring(0, separator);
+            String value = separator < 0 ? "" : arg.substring(separator + 1);
+            switch (name) {
+            case "--config":
+                configPath = toPath(name, value);
+                break;
+            case "--data":
+                dataFolder = toPath(name, value);
+                break;
+            case "--verbose":
+                isVerbose = true;
+                break;
+            default:
+                if (arg.startsWith("--") || commandsFilePath != null) {
+                    throw new IllegalArgumentException("Unknown parameter " + arg);
+                }
+                commandsFilePath = toPath("COMMANDS_FILE", arg);
+            }
+        }
+    }
+
+    private static Path toPath(String name, String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException("Invalid value of " + name + ": " + value);
+        }
+        return Paths.get(value);
+    }
+
+    /**
+     * Opens the commands file, or the standard input if no commands file was given.
+     */
+    BufferedReader openCommands() throws IOException {
+        if (commandsFilePath == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(commandsFilePath, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Runs each command read from {@code commands}, then saves the data.
+     * Results are shown on {@code out}, and the commands that fail on {@code err}.
+     *
+     * If the data files cannot be read, no commands are run and nothing is saved, so that the data is not lost.
+     *
+     * @return true if all the commands succeeded and the data was saved.
+     * @throws IOException if the commands cannot be read.
+     */
+    boolean run(BufferedReader commands, PrintStream out, PrintStream err) throws IOException {
+        long start = System.nanoTime();
+        AppComponents components;
+        try {
+            components = AppComponents.createFromStoredData(configPath, dataFolder, DeferredStorageManager::new);
+        } catch (DataConversionException | IOException e) {
+            err.println("Could not read the data, so no commands were run: " + e.getMessage());
+            return false;
+        }
+        Logic logic = components.getLogic();
+        Storage storage = components.getStorage();
+        long runStart = System.nanoTime();
+
+        int commandCount = 0;
+        int failedCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult result = logic.execute(commandText);
+                if (isVerbose) {
+                    out.println(result.getFeedbackToUser());
+                }
+                if (result.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                err.println("Line " + lineNumber + ": " + commandText);
+                err.println("    " + e.getMessage());
+            }
+        }
+        long saveStart = System.nanoTime();
+
+        boolean isSaved = true;
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            isSaved = false;
+            err.println("Could not save the data: " + e.getMessage());
+        }
+        long end = System.nanoTime();
+
+        double runSeconds = (saveStart - runStart) / 1e9;
+        out.println(String.format("Ran %d command(s), %d failed, in %d ms (%.0f commands/s).", commandCount,
+                failedCount, toMillis(saveStart - runStart), runSeconds > 0 ? commandCount / runSeconds : 0));
+        out.println(String.format("Loaded the data in %d ms and %s in %d ms.", toMillis(runStart - start),
+                isSaved ? "saved it" : "failed to save it", toMillis(end - saveStart)));
+        return failedCount == 0 && isSaved;
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.cakecollate.api;
+
+/**
+ * Represents a request to the API that cannot be served, with the HTTP status code to respond with.
+ */
+public class ApiException extends Exception {
+
+    private final int statusCode;
+
+    /**
+     * Constructs an {@code ApiException} with the HTTP {@code statusCode} and {@code message} to respond with.
+     */
+    public ApiException(int statusCode, String message) {
+        super(message);
+        this.statusCode = statusCode;
+    }
+
+    /**
+     * Constructs an {@code ApiException} with the HTTP {@code statusCode} and {@code message} to respond with,
+     * and the {@code cause} of the error.
+     */
+    public ApiException(int statusCode, String message, Throwable cause) {
+        super(message, cause);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
@@ -0,0 +1,443 @@
+package seedu.cakecollate.api;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.util.JsonUtil;
+import seedu.cakecollate.commons.util.StringUtil;
+import seedu.cakecollate.logic.Logic;
+import seedu.cakecollate.logic.commands.AddCommand;
+import seedu.cakecollate.logic.commands.Command;
+import seedu.cakecollate.logic.commands.CommandResult;
+import seedu.cakecollate.logic.commands.DeliveryStatusCommand;
+import seedu.cakecollate.logic.commands.exceptions.CommandException;
+import seedu.cakecollate.logic.parser.FindCommandParser;
+import seedu.cakecollate.logic.parser.RemindCommandParser;
+import seedu.cakecollate.logic.parser.exceptions.ParseException;
+import seedu.cakecollate.model.order.DeliveryStatus;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
+import seedu.cakecollate.model.order.Status;
+
+/**
+ * Serves the orders as json over HTTP on the local machine, for programs such as an online storefront.
+ *
+ * <pre>
+ *     GET  /api/orders                     lists all the orders
+ *     GET  /api/orders?find=KEYWORDS       lists the orders that the find command with KEYWORDS finds
+ *     GET  /api/orders?remind=DAYS         lists the orders that the remind command with DAYS finds
+ *     POST /api/orders                     adds the order in the body
+ *     PUT  /api/orders/ID/status           sets the status of the order with ID to the status in the body, such as
+ *                                          {"status": "delivered"}
+ * </pre>
+ *
+ * Only programs on the local machine that know the API token in the config file are served: each request must
+ * be sent with the header {@code Authorization: Bearer TOKEN}, and requests from web pages on other sites, which
+ * name another host or origin, are refused. Requests with a body must send it as {@code application/json}.
+ *
+ * Requests are served by a bounded pool of threads. Reads are served concurrently from the snapshot of the data
+ * after the last command, without waiting for the app, and do not change the orders shown in the app.
+ * Writes are run as commands through {@code Logic} on the thread that runs the commands entered by the user, one
+ * at a time, so they can be undone and are saved like those commands. If that thread is too busy to run a write
+ * in time, the response is {@code 202 Accepted} and the write is run once the thread is free.
+ */
+public class ApiServer {
+
+    public static final String ORDERS_PATH = "/api/orders";
+    public static final String MESSAGE_NOT_FOUND = "There is no such resource.";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported here.";
+    public static final String MESSAGE_INVALID_JSON = "The request body is not valid json: %1$s";
+    public static final String MESSAGE_INVALID_STATUS = "The status should be one of undelivered, delivered and "
+            + "cancelled.";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown query parameter %1$s.";
+    public static final String MESSAGE_ACCEPTED = "CakeCollate is busy. The request will be run when it is free.";
+    public static final String MESSAGE_UNAUTHORIZED = "The request does not have the API token in the config file.";
+    public static final String MESSAGE_FORBIDDEN = "Only programs on this computer can use the API.";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "The request body should be sent as application/json.";
+
+    static final int THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+    static final int QUEUE_CAPACITY = 128;
+    static final long MODEL_THREAD_TIMEOUT_MILLIS = 30_000;
+    private static final Set<String> LOCAL_HOST_NAMES = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final int TOKEN_BYTE_COUNT = 24;
+    private static final Pattern STATUS_PATH = Pattern.compile(Pattern.quote(ORDERS_PATH) + "/(\\d+)/status/?");
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor modelThread;
+    private final byte[] token;
+    private final long modelThreadTimeoutMillis;
+
+    private HttpServer server;
+    private ThreadPoolExecutor requestExecutor;
+
+    /**
+     * Creates a server over the orders of {@code logic}.
+     *
+     * @param modelThread Runs tasks on the thread that commands run on, such as {@code Platform::runLater}.
+     * @param token The API token that requests must be sent with.
+     */
+    public ApiServer(Logic logic, Executor modelThread, String token) {
+        this(logic, modelThread, token, MODEL_THREAD_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a server over the orders of {@code logic}, which responds to a write with {@code 202 Accepted} if it
+     * does not run within {@code modelThreadTimeoutMillis}.
+     */
+    ApiServer(Logic logic, Executor modelThread, String token, long modelThreadTimeoutMillis) {
+        requireNonNull(logic);
+        requireNonNull(modelThread);
+        requireNonNull(token);
+        checkArgument(!token.isEmpty(), "The API token should not be empty.");
+        this.logic = logic;
+        this.modelThread = modelThread;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.modelThreadTimeoutMillis = modelThreadTimeoutMillis;
+    }
+
+    /**
+     * Returns a new random API token.
+     */
+    public static String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTE_COUNT];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Starts serving on {@code port} of the local machine, or on any free port if {@code port} is 0.
+     * Must be called on the thread commands run on, as it starts the snapshots the orders are listed from.
+     *
+     * @throws IOException if the port cannot be used.
+     */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        logic.addSnapshotReader();
+        AtomicInteger threadCount = new AtomicInteger();
+        // when all threads are busy and the queue is full, the thread accepting requests serves the next one itself,
+        // so that no more requests are accepted until one is done
+        requestExecutor = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                    Thread thread = new Thread(runnable, "cakecollate-api-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        server.setExecutor(requestExecutor);
+        server.createContext(ORDERS_PATH, this::handle);
+        server.start();
+        logger.info("Serving the API at http://" + server.getAddress().getHostString() + ":" + getPort()
+                + ORDERS_PATH);
+    }
+
+    /**
+     * Returns the port the server listens on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops serving, without waiting for the requests being served.
+     * Must be called on the thread commands run on.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            requestExecutor.shutdownNow();
+            logic.removeSnapshotReader();
+            server = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            Matcher statusPathMatcher = STATUS_PATH.matcher(path);
+            checkSender(exchange);
+            if (path.equals(ORDERS_PATH) || path.equals(ORDERS_PATH + "/")) {
+                if (method.equals("GET")) {
+                    respond(exchange, HttpURLConnection.HTTP_OK, listOrders(exchange.getRequestURI().getRawQuery()));
+                } else if (method.equals("POST")) {
+                    respondToCommand(exchange, HttpURLConnection.HTTP_CREATED, addOrder(readBody(exchange)));
+                } else {
+                    throw new ApiException(HttpURLConnection.HTTP_BAD_METHOD,
+                            String.format(MESSAGE_METHOD_NOT_ALLOWED, method));
+                }
+            } else if (statusPathMatcher.matches()) {
+                if (!method.equals("PUT")) {
+                    throw new ApiException(HttpURLConnection.HTTP_BAD_METHOD,
+                            String.format(MESSAGE_METHOD_NOT_ALLOWED, method));
+                }
+                respondToCommand(exchange, HttpURLConnection.HTTP_OK,
+                        setStatus(statusPathMatcher.group(1), readBody(exchange)));
+            } else {
+                throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, MESSAGE_NOT_FOUND);
+            }
+        } catch (ParseException | CommandException e) {
+            respondWithError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+        } catch (ApiException e) {
+            respondWithError(exchange, e.getStatusCode(), e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            respondWithError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR, e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Checks that the request was sent by a program on the local machine with the API token.
+     * A web page on another site can make a browser send requests to the local machine, but the browser names the
+     * site in the {@code Origin} header, or the site's host in the {@code Host} header if its name was pointed at
+     * the local machine, and cannot send the token without knowing it.
+     */
+    private void checkSender(HttpExchange exchange) throws ApiException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        if (host == null || !isLocalHost(host.replaceFirst(":\\d*$", ""))
+                || origin != null && !isLocalOrigin(origin)) {
+            throw new ApiException(HttpURLConnection.HTTP_FORBIDDEN, MESSAGE_FORBIDDEN);
+        }
+
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String bearerPrefix = "Bearer ";
+        if (authorization == null || !authorization.startsWith(bearerPrefix)
+                || !MessageDigest.isEqual(token,
+                        authorization.substring(bearerPrefix.length()).getBytes(StandardCharsets.UTF_8))) {
+            throw new ApiException(HttpURLConnection.HTTP_UNAUTHORIZED, MESSAGE_UNAUTHORIZED);
+        }
+    }
+
+    private static boolean isLocalHost(String hostName) {
+        return LOCAL_HOST_NAMES.contains(hostName.toLowerCase());
+    }
+
+    private static boolean isLocalOrigin(String origin) {
+        try {
+            URI uri = new URI(origin);
+            String hostName = uri.getHost();
+            return "http".equalsIgnoreCase(uri.getScheme()) && hostName != null && isLocalHost(hostName);
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    // ================ Reads ==============================
+
+    /**
+     * Returns the orders that match all the filters in {@code rawQuery}, which may be null.
+     */
+    private Map<String, Object> listOrders(String rawQuery) throws ParseException, ApiException {
+        List<Predicate<Order>> filters = new ArrayList<>();
+        for (Map.Entry<String, String> parameter : parseQuery(rawQuery).entrySet()) {
+            // the parameters are parsed like the arguments typed after a command word
+            String args = " " + parameter.getValue();
+            switch (parameter.getKey()) {
+            case "find":
+                filters.add(new FindCommandParser().parse(args).getPredicate());
+                break;
+            case "remind":
+                filters.add(new RemindCommandParser().parse(args).getPredicate());
+                break;
+            default:
+                throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST,
+                        String.format(MESSAGE_UNKNOWN_PARAMETER, parameter.getKey()));
+            }
+        }
+
+        List<JsonApiOrder> orders = new ArrayList<>();
+        for (Order order : logic.getSnapshot().getOrderList()) {
+            if (filters.stream().allMatch(filter -> filter.test(order))) {
+                orders.add(new JsonApiOrder(order));
+            }
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("count", orders.size());
+        response.put("orders", orders);
+        return response;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws ApiException {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int separator = parameter.indexOf('=');
+            String name = separator < 0 ? parameter : parameter.substring(0, separator);
+            String value = separator < 0 ? "" : parameter.substring(separator + 1);
+            try {
+                parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, e.getMessage());
+            }
+        }
+        return parameters;
+    }
+
+    // ================ Writes ==============================
+
+    private Optional<CommandResult> addOrder(String body) throws ParseException, CommandException, ApiException {
+        AddCommand command = readJson(body, JsonApiOrder.class).toAddCommand();
+        return execute(AddCommand.COMMAND_WORD, command);
+    }
+
+    private Optional<CommandResult> setStatus(String orderId, String body) throws CommandException, ApiException {
+        String statusName = String.valueOf(readJson(body, Map.class).get("status"));
+        Status status;
+        try {
+            status = Status.valueOf(statusName.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST, MESSAGE_INVALID_STATUS);
+        }
+
+        OrderId id;
+        try {
+            id = new OrderId(Long.parseLong(orderId));
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpURLConnection.HTTP_NOT_FOUND, MESSAGE_NOT_FOUND);
+        }
+        Command command = new DeliveryStatusCommand(List.of(id), new DeliveryStatus(status));
+        return execute(status.name().toLowerCase(), command);
+    }
+
+    /**
+     * Runs {@code command} through {@code Logic} on the thread that commands run on, and waits for its result.
+     * Returns an empty {@code Optional} if the command was not run in time, in which case it is run later.
+     */
+    private Optional<CommandResult> execute(String commandWord, Command command)
+            throws CommandException, ApiException {
+        try {
+            return callOnModelThread(() -> logic.execute(commandWord, command));
+        } catch (ApiException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Responds with {@code statusCode} and the feedback of the command that was run, or with {@code 202 Accepted}
+     * if the command was not run yet.
+     */
+    private static void respondToCommand(HttpExchange exchange, int statusCode, Optional<CommandResult> result)
+            throws IOException {
+        Map<String, Object> response = new LinkedHashMap<>();
+        if (result.isPresent()) {
+            response.put("message", result.get().getFeedbackToUser());
+            respond(exchange, statusCode, response);
+        } else {
+            response.put("message", MESSAGE_ACCEPTED);
+            respond(exchange, HttpURLConnection.HTTP_ACCEPTED, response);
+        }
+    }
+
+    // ================ Helpers ==============================
+
+    /**
+     * Runs {@code task} on the thread that commands run on and returns its result, or an empty {@code Optional} if
+     * the task does not run in time. The task is not cancelled then, so it still runs once the thread is free.
+     *
+     * @throws ApiException if the task fails, with the exception it threw as the cause.
+     */
+    private <T> Optional<T> callOnModelThread(Callable<T> task) throws ApiException {
+        FutureTask<T> future = new FutureTask<>(task);
+        modelThread.execute(future);
+        try {
+            return Optional.of(future.get(modelThreadTimeoutMillis, TimeUnit.MILLISECONDS));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new ApiException(HttpURLConnection.HTTP_INTERNAL_ERROR, e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            logger.info("A write through the API did not run in time and will be run later");
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException, ApiException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null
+                || !contentType.split(";")[0].trim().equalsIgnoreCase("application/json")) {
+            throw new ApiException(HttpURLConnection.HTTP_UNSUPPORTED_TYPE, MESSAGE_UNSUPPORTED_MEDIA_TYPE);
+        }
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static <T> T readJson(String body, Class<T> valueClass) throws ApiException {
+        try {
+            T value = JsonUtil.fromJsonString(body, valueClass);
+            if (value == null) {
+                throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST,
+                        String.format(MESSAGE_INVALID_JSON, "the body is empty"));
+            }
+            return value;
+        } catch (IOException e) {
+            throw new ApiException(HttpURLConnection.HTTP_BAD_REQUEST,
+                    String.format(MESSAGE_INVALID_JSON, e.getMessage()));
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, Object response) throws IOException {
+        byte[] body = JsonUtil.toCompactJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private static void respondWithError(HttpExchange exchange, int statusCode, String message) throws IOException {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("error", message);
+        respond(exchange, statusCode, response);
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.cakecollate.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.cakecollate.logic.commands.AddCommand;
+import seedu.cakecollate.logic.commands.AddCommand.AddOrderDescriptor;
+import seedu.cakecollate.logic.parser.ParserUtil;
+import seedu.cakecollate.logic.parser.exceptions.ParseException;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.Request;
+
+/**
+ * An order as it is sent and received through the API.
+ * Order descriptions are listed once for each cake ordered, and the delivery date is in the format dd MMM yyyy
+ * when sent. Orders received are checked like the parameters of the {@code add} command.
+ */
+class JsonApiOrder {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
+
+    private final Long id;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final List<String> orderDescriptions = new ArrayList<>();
+    private final List<String> tags = new ArrayList<>();
+    private final String deliveryDate;
+    private final String deliveryStatus;
+    private final String request;
+
+    /**
+     * Constructs a {@code JsonApiOrder} with the given order details, as received to be added.
+     * The order ID, delivery status and request of an order to be added are ignored.
+     */
+    @JsonCreator
+    public JsonApiOrder(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+                        @JsonProperty("email") String email, @JsonProperty("address") String address,
+                        @JsonProperty("orderDescriptions") List<String> orderDescriptions,
+                        @JsonProperty("tags") List<String> tags,
+                        @JsonProperty("deliveryDate") String deliveryDate) {
+        this.id = null;
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        if (orderDescriptions != null) {
+            this.orderDescriptions.addAll(orderDescriptions);
+        }
+        if (tags != null) {
+            this.tags.addAll(tags);
+        }
+        this.deliveryDate = deliveryDate;
+        this.deliveryStatus = null;
+        this.request = null;
+    }
+
+    /**
+     * Converts a given {@code Order} into this class to be sent.
+     */
+    public JsonApiOrder(Order source) {
+        id = source.getId().map(orderId -> orderId.value).orElse(null);
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        for (Map.Entry<OrderDescription, Integer> entry : source.getOrderDescriptions().entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                orderDescriptions.add(entry.getKey().value);
+            }
+        }
+        tags.addAll(source.getTags().stream().map(tag -> tag.tagName).collect(Collectors.toList()));
+        deliveryDate = source.getDeliveryDate().toString();
+        deliveryStatus = source.getDeliveryStatus().toString();
+        request = source.getRequest().value;
+    }
+
+    /**
+     * Returns an {@code AddCommand} that adds this order.
+     *
+     * @throws ParseException if a field is missing or not valid.
+     */
+    public AddCommand toAddCommand() throws ParseException {
+        AddOrderDescriptor descriptor = new AddOrderDescriptor();
+        descriptor.setName(ParserUtil.parseName(requireField(name, "name")));
+        descriptor.setPhone(ParserUtil.parsePhone(requireField(phone, "phone")));
+        descriptor.setEmail(ParserUtil.parseEmail(requireField(email, "email")));
+        descriptor.setAddress(ParserUtil.parseAddress(requireField(address, "address")));
+        if (orderDescriptions.isEmpty()) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "orderDescriptions"));
+        }
+        descriptor.setOrderDescriptions(ParserUtil.parseOrderDescriptions(orderDescriptions));
+        descriptor.setTags(ParserUtil.parseTags(tags));
+        descriptor.setDeliveryDate(ParserUtil.parseDeliveryDate(requireField(deliveryDate, "deliveryDate")));
+        descriptor.setRequest(new Request(""));
+        return new AddCommand(null, descriptor);
+    }
+
+    private static String requireField(String value, String fieldName) throws ParseException {
+        if (value == null) {
+            throw new ParseException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return value;
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.cakecollate.commons.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records to other handlers on a background thread, so that logging does not slow down the thread
+ * that logs, which is usually the UI thread.
+ *
+ * Records wait in a ring buffer of {@code capacity} records. A background thread takes them in batches, passes
+ * each batch to the handlers and flushes the handlers once per batch. If the buffer is full, the record is dropped
+ * rather than making the thread that logs wait; the number of records dropped is counted, and logged as a warning
+ * once there is room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    static final int MAX_BATCH_SIZE = 256;
+    private static final long POLL_INTERVAL_MILLIS = 100;
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> buffer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private long reportedDroppedCount;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes records to {@code handlers}, keeping up to {@code capacity} records waiting.
+     */
+    public AsyncLogHandler(int capacity, Handler... handlers) {
+        this.handlers = List.of(handlers);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the source would otherwise be found lazily from the stack of the background thread
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        if (!buffer.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Writes the records waiting on the calling thread, instead of waiting for the background thread to write them.
+     */
+    @Override
+    public void flush() {
+        writeBatches();
+    }
+
+    /**
+     * Writes the records still waiting and closes the handlers. Records published afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeBatches();
+        handlers.forEach(Handler::close);
+    }
+
+    private void writeRecords() {
+        while (!isClosed) {
+            try {
+                LogRecord record = buffer.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (record != null) {
+                    writeBatch(record);
+                }
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+        writeBatches();
+    }
+
+    /**
+     * Writes all the records waiting.
+     */
+    private synchronized void writeBatches() {
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            writeBatch(record);
+        }
+    }
+
+    /**
+     * Writes {@code first} and the records waiting after it, up to {@link #MAX_BATCH_SIZE} records.
+     */
+    private synchronized void writeBatch(LogRecord first) {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        batch.add(first);
+        buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            batch.add(createDroppedRecord(dropped - reportedDroppedCount));
+            reportedDroppedCount = dropped;
+        }
+
+        for (Handler handler : handlers) {
+            for (LogRecord record : batch) {
+                handler.publish(record);
+            }
+            handler.flush();
+        }
+    }
+
+    private static LogRecord createDroppedRecord(long count) {
+        LogRecord record = new LogRecord(Level.WARNING, "Dropped " + count + " log message(s) as too many were "
+                + "logged at once");
+        record.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        record.setSourceClassName(AsyncLogHandler.class.getSimpleName());
+        return record;
+    }
+}
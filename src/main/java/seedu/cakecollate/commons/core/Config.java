@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsFilePath = Paths.get("metrics.json");
+    private int apiPort = 0;
+    private String apiToken = "";
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,39 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the file that the command metrics are saved to when the app stops.
+     */
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns the port of the local machine that the API is served on, or 0 if the API is not served.
+     */
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Returns the secret that requests to the API must be sent with, or an empty string if none was made yet.
+     */
+    public String getApiToken() {
+        return apiToken;
+    }
+
+    public void setApiToken(String apiToken) {
+        this.apiToken = apiToken;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +80,15 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && apiPort == o.apiPort
+                && Objects.equals(apiToken, o.apiToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsFilePath, apiPort, apiToken);
     }
 
     @Override
@@ -57,6 +96,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMetrics file Location : " + metricsFilePath);
+        sb.append("\nAPI port : " + apiPort);
         return sb.toString();
     }
 
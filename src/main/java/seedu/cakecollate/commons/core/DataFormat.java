@@ -0,0 +1,11 @@
+package seedu.cakecollate.commons.core;
+
+/**
+ * Formats in which CakeCollate data can be stored on the hard disk.
+ */
+public enum DataFormat {
+    /** Human-readable json, which can be edited by hand. */
+    JSON,
+    /** Compact versioned binary snapshot, which is smaller and faster to load and save. */
+    BINARY
+}
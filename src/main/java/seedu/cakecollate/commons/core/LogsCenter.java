@@ -3,10 +3,9 @@ package seedu.cakecollate.commons.core;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
-import java.util.logging.SimpleFormatter;
 
 /**
  * Configures and manages loggers and handlers, including their logging level
@@ -14,15 +13,18 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written on a background thread by an {@link AsyncLogHandler}, so logging does not slow down
+ *   commands. Messages that are costly to build should be logged with a {@code Supplier<String>}, such as
+ *   {@code logger.fine(() -> "..." + order)}, so that they are only built if they are logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int BUFFER_CAPACITY = 4096;
     private static final String LOG_FILE = "cakecollate.log";
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -32,21 +34,28 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        getAsyncHandler().setLevel(currentLogLevel);
+        logger.setLevel(currentLogLevel);
+        logger.info(() -> "currentLogLevel: " + currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * The handlers of the logger are only set up the first time it is requested.
      */
     public static Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
+        // messages below the level are discarded before they are formatted
+        logger.setLevel(currentLogLevel);
 
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        AsyncLogHandler handler = getAsyncHandler();
+        if (!Arrays.asList(logger.getHandlers()).contains(handler)) {
+            logger.setUseParentHandlers(false);
+            removeHandlers(logger);
+            logger.addHandler(handler);
+        }
 
-        return Logger.getLogger(name);
+        return logger;
     }
 
     /**
@@ -60,53 +69,63 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Returns the number of log messages dropped because too many were logged at once.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    public static long getDroppedMessageCount() {
+        return getAsyncHandler().getDroppedCount();
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Writes the log messages still waiting and closes the log file. Messages logged afterwards are discarded.
+     * Is called when the application stops, and by a shutdown hook in case it exits without stopping.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    public static synchronized void close() {
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the {@code asyncHandler} that all loggers log to. <br>
+     * Creates the {@code asyncHandler}, which writes to the console and the log file, if it is null, and
+     * registers a shutdown hook that closes it.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
+    private static synchronized AsyncLogHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            ConsoleHandler consoleHandler = createConsoleHandler();
+            try {
+                asyncHandler = new AsyncLogHandler(BUFFER_CAPACITY, consoleHandler, createFileHandler());
+            } catch (IOException e) {
+                asyncHandler = new AsyncLogHandler(BUFFER_CAPACITY, consoleHandler);
+                consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
             }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            asyncHandler.setLevel(currentLogLevel);
+            Runtime.getRuntime().addShutdownHook(new Thread(LogsCenter::close));
         }
+        return asyncHandler;
+    }
+
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
-     * Creates a {@code FileHandler} for the log file.
+     * Creates a {@code RollingFileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
      */
-    private static FileHandler createFileHandler() throws IOException {
-        FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
-        fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+    private static RollingFileHandler createFileHandler() throws IOException {
+        RollingFileHandler fileHandler = new RollingFileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
@@ -12,6 +12,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_ORDER_DISPLAYED_INDEX = "The order index provided is invalid.";
     public static final String MESSAGE_INVALID_ORDER_ITEM_INDEX = "The order item index provided is invalid.";
+    public static final String MESSAGE_ORDER_ID_NOT_FOUND = "There is no order with the ID %1$s.";
     public static final String MESSAGE_NEGATIVE_INDEX = "Index can't be negative. Look out for stray dashes!";
     public static final String MESSAGE_ORDERS_LISTED_OVERVIEW = "%1$d order(s) listed!";
     public static final String MESSAGE_ORDERS_REMINDER_OVERVIEW = "REMINDER! \n"
@@ -20,5 +21,7 @@ public class Messages {
             + ".\n"
             + "%1$d order(s) with an upcoming delivery date"
             + " in %2$d day(s)";
+    public static final String MESSAGE_OVERDUE_ORDERS_DELIVERED =
+            "%1$d order(s) past their delivery date were updated to delivered: %2$s";
 }
 
@@ -0,0 +1,108 @@
+package seedu.cakecollate.commons.core;
+
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.logging.ErrorManager;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+/**
+ * Writes log records to a log file, starting a new log file when it reaches a size limit and keeping a number of
+ * the previous log files, like {@link java.util.logging.FileHandler} does with the same file names.
+ *
+ * Unlike {@code FileHandler}, records are only written to the file when {@link #flush()} is called, so that a
+ * batch of records takes a single write.
+ */
+public class RollingFileHandler extends StreamHandler {
+
+    private final String fileName;
+    private final long maxFileSize;
+    private final int maxFileCount;
+    private CountingOutputStream output;
+
+    /**
+     * Creates a handler that appends to the log file named after {@code fileName}.
+     *
+     * @throws IOException if the log file cannot be opened.
+     */
+    public RollingFileHandler(String fileName, long maxFileSize, int maxFileCount) throws IOException {
+        assert maxFileSize > 0 && maxFileCount > 0;
+        this.fileName = fileName;
+        this.maxFileSize = maxFileSize;
+        this.maxFileCount = maxFileCount;
+        setFormatter(new SimpleFormatter());
+        open();
+    }
+
+    /**
+     * Returns the path of the log file of {@code generation}, where generation 0 is the current log file.
+     */
+    Path getFilePath(int generation) {
+        return Paths.get(maxFileCount == 1 ? fileName : fileName + "." + generation);
+    }
+
+    @Override
+    public synchronized void flush() {
+        super.flush();
+        if (output != null && output.written >= maxFileSize) {
+            rotate();
+        }
+    }
+
+    private void open() throws IOException {
+        Path filePath = getFilePath(0);
+        long existingSize = Files.exists(filePath) ? Files.size(filePath) : 0;
+        output = new CountingOutputStream(new FileOutputStream(filePath.toFile(), true), existingSize);
+        setOutputStream(output);
+    }
+
+    /**
+     * Moves each log file to the next generation, dropping the oldest, and starts a new log file.
+     */
+    private void rotate() {
+        super.close();
+        output = null;
+        try {
+            for (int generation = maxFileCount - 2; generation >= 0; generation--) {
+                Path filePath = getFilePath(generation);
+                if (Files.exists(filePath)) {
+                    Files.move(filePath, getFilePath(generation + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.deleteIfExists(getFilePath(0));
+            open();
+        } catch (IOException e) {
+            reportError("Could not start a new log file", e, ErrorManager.OPEN_FAILURE);
+        }
+    }
+
+    /**
+     * Counts the bytes written to the log file.
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long written;
+
+        CountingOutputStream(OutputStream out, long written) {
+            super(out);
+            this.written = written;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            written += len;
+        }
+    }
+}
@@ -1,56 +1,227 @@
 package seedu.cakecollate.commons.core.index;
 
-import java.util.Collections;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.IntConsumer;
 
+/**
+ * Represents a list of indexes input by the user, such as {@code 1 3-5 7,9}, or all the indexes of a displayed list.
+ *
+ * The indexes are held as sorted runs of consecutive zero-based indexes, each with the number of times its indexes
+ * were given, so that a range of thousands of indexes takes a single run and can be iterated without boxing.
+ * Repeated indexes are kept, as a command may count them (e.g. {@code oi/4 4} orders item 4 twice).
+ * The indexes are iterated in ascending order, or in descending order after {@link #sortList()}.
+ */
 public class IndexList {
-    private List<Index> indexList;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final boolean isAll;
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int runCount;
+    private boolean isDescending;
 
     public IndexList(List<Index> indexList) {
-        this.indexList = indexList;
+        this(false);
+        requireNonNull(indexList);
+        indexList.forEach(this::add);
+    }
+
+    private IndexList(boolean isAll) {
+        this.isAll = isAll;
+    }
+
+    /**
+     * Returns an {@code IndexList} of all the indexes of the displayed list, which is only known once the list is.
+     * It has to be {@link #resolve(int) resolved} against the size of the list before its indexes can be read.
+     */
+    public static IndexList all() {
+        return new IndexList(true);
     }
 
     /**
      * Sorts {@code IndexList} in descending order.
      */
     public void sortList() {
-        Collections.sort(this.indexList);
-        Collections.reverse(this.indexList);
+        isDescending = true;
     }
 
     public void add(Index index) {
-        this.indexList.add(index);
+        addRange(index, index);
     }
 
-    public List<Index> getIndexList() {
-        return this.indexList; // unmodifiable?
+    /**
+     * Adds the indexes from {@code first} to {@code last}, both inclusive.
+     */
+    public void addRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        assert !isAll : "indexes cannot be added to a list of all indexes";
+        assert first.getZeroBased() <= last.getZeroBased();
+
+        int start = first.getZeroBased();
+        int end = last.getZeroBased();
+        if (runCount == 0 || start > ends[runCount - 1]) {
+            // indexes are usually given in ascending order
+            appendRun(start, end, 1);
+        } else {
+            insertRun(start, end);
+        }
     }
 
-    /** Checks whether two @code IndexList}s are equal.
-     * @param other {@code IndexList} to compare this list to.
-     * @return true if the two {@code IndexList}s are equal and false otherwise.
+    /**
+     * Returns true if this list stands for all the indexes of the displayed list.
      */
-    public boolean checkIfEqual(IndexList other) {
-        boolean equal = true;
+    public boolean isAll() {
+        return isAll;
+    }
 
-        if (other == null) {
-            return this == null;
+    /**
+     * Returns this list if it does not stand for all indexes, or else the indexes of a list of {@code listSize} items.
+     */
+    public IndexList resolve(int listSize) {
+        if (!isAll) {
+            return this;
         }
+        IndexList resolved = new IndexList(false);
+        if (listSize > 0) {
+            resolved.appendRun(0, listSize - 1, 1);
+        }
+        resolved.isDescending = isDescending;
+        return resolved;
+    }
 
-        // will this affect anyone else's work
-        this.sortList();
-        other.sortList();
+    /**
+     * Returns true if this list has no indexes. A list of {@link #all()} indexes is not empty.
+     */
+    public boolean isEmpty() {
+        return !isAll && runCount == 0;
+    }
 
-        if (this.indexList.size() != other.getIndexList().size()) {
-            return false;
+    /**
+     * Returns the largest zero-based index in this list, or -1 if it is empty.
+     */
+    public int getLargestZeroBased() {
+        assert !isAll : "a list of all indexes has to be resolved first";
+        return runCount == 0 ? -1 : ends[runCount - 1];
+    }
+
+    /**
+     * Performs {@code action} on each zero-based index in this list, in the order of the list.
+     */
+    public void forEachZeroBased(IntConsumer action) {
+        requireNonNull(action);
+        assert !isAll : "a list of all indexes has to be resolved first";
+        if (isDescending) {
+            for (int run = runCount - 1; run >= 0; run--) {
+                for (int index = ends[run]; index >= starts[run]; index--) {
+                    repeat(action, index, counts[run]);
+                }
+            }
         } else {
-            for (int i = 0; i < other.getIndexList().size(); i++) {
-                if (!this.indexList.get(i).equals(other.indexList.get(i))) {
-                    equal = false;
+            for (int run = 0; run < runCount; run++) {
+                for (int index = starts[run]; index <= ends[run]; index++) {
+                    repeat(action, index, counts[run]);
                 }
             }
         }
-        return equal;
+    }
+
+    public List<Index> getIndexList() {
+        List<Index> indexList = new ArrayList<>();
+        forEachZeroBased(index -> indexList.add(Index.fromZeroBased(index)));
+        return indexList;
+    }
+
+    private static void repeat(IntConsumer action, int index, int count) {
+        for (int i = 0; i < count; i++) {
+            action.accept(index);
+        }
+    }
+
+    /**
+     * Appends a run after the last run, merging it into the last run if they are adjacent and equally repeated.
+     */
+    private void appendRun(int start, int end, int count) {
+        if (runCount > 0 && ends[runCount - 1] == start - 1 && counts[runCount - 1] == count) {
+            ends[runCount - 1] = end;
+            return;
+        }
+        if (runCount == starts.length) {
+            starts = Arrays.copyOf(starts, runCount * 2);
+            ends = Arrays.copyOf(ends, runCount * 2);
+            counts = Arrays.copyOf(counts, runCount * 2);
+        }
+        starts[runCount] = start;
+        ends[runCount] = end;
+        counts[runCount] = count;
+        runCount++;
+    }
+
+    /**
+     * Adds the indexes from {@code start} to {@code end} once more, splitting the runs they overlap.
+     */
+    private void insertRun(int start, int end) {
+        int[] oldStarts = starts;
+        int[] oldEnds = ends;
+        int[] oldCounts = counts;
+        int oldRunCount = runCount;
+        starts = new int[oldRunCount + 2];
+        ends = new int[oldRunCount + 2];
+        counts = new int[oldRunCount + 2];
+        runCount = 0;
+
+        int next = start; // the smallest index of the new run not added yet
+        for (int run = 0; run < oldRunCount; run++) {
+            int runStart = oldStarts[run];
+            int runEnd = oldEnds[run];
+            int repeats = oldCounts[run];
+            if (runEnd < start || runStart > end) {
+                if (runStart > end && next <= end) {
+                    appendRun(next, end, 1);
+                    next = end + 1;
+                }
+                appendRun(runStart, runEnd, repeats);
+                continue;
+            }
+
+            int overlapStart = Math.max(runStart, start);
+            int overlapEnd = Math.min(runEnd, end);
+            if (runStart < overlapStart) {
+                appendRun(runStart, overlapStart - 1, repeats);
+            }
+            if (next < overlapStart) {
+                appendRun(next, overlapStart - 1, 1);
+            }
+            appendRun(overlapStart, overlapEnd, repeats + 1);
+            next = overlapEnd + 1;
+            if (runEnd > overlapEnd) {
+                appendRun(overlapEnd + 1, runEnd, repeats);
+            }
+        }
+        if (next <= end) {
+            appendRun(next, end, 1);
+        }
+    }
+
+    /** Checks whether two @code IndexList}s are equal.
+     * @param other {@code IndexList} to compare this list to.
+     * @return true if the two {@code IndexList}s hold the same indexes, regardless of their order.
+     */
+    public boolean checkIfEqual(IndexList other) {
+        if (other == null) {
+            return false;
+        }
+
+        return isAll == other.isAll
+                && runCount == other.runCount
+                && Arrays.equals(starts, 0, runCount, other.starts, 0, runCount)
+                && Arrays.equals(ends, 0, runCount, other.ends, 0, runCount)
+                && Arrays.equals(counts, 0, runCount, other.counts, 0, runCount);
     }
 
     @Override
@@ -60,4 +231,15 @@ public class IndexList {
                 && checkIfEqual((IndexList) other)); // state check
     }
 
+    @Override
+    public int hashCode() {
+        int hash = Boolean.hashCode(isAll);
+        for (int run = 0; run < runCount; run++) {
+            hash = 31 * hash + starts[run];
+            hash = 31 * hash + ends[run];
+            hash = 31 * hash + counts[run];
+        }
+        return hash;
+    }
+
 }
@@ -0,0 +1,82 @@
+package seedu.cakecollate.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The number of runs, the number of failed runs and the duration of each phase of the runs of a command.
+ */
+public class CommandMetrics {
+
+    /**
+     * The phases of a run of a command, in the order in which they happen.
+     */
+    public enum Phase {
+        PARSE("parse"),
+        EXECUTE("execute"),
+        PERSIST("persist"),
+        UI_REFRESH("UI refresh");
+
+        private final String displayName;
+
+        Phase(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    private final String commandWord;
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final Map<Phase, LatencyHistogram> phaseDurations = new EnumMap<>(Phase.class);
+
+    CommandMetrics(String commandWord) {
+        requireNonNull(commandWord);
+        this.commandWord = commandWord;
+        for (Phase phase : Phase.values()) {
+            phaseDurations.put(phase, new LatencyHistogram());
+        }
+    }
+
+    public String getCommandWord() {
+        return commandWord;
+    }
+
+    /**
+     * Records a run of the command, which failed if {@code isError} is true.
+     */
+    public void recordRun(boolean isError) {
+        runCount.incrementAndGet();
+        if (isError) {
+            errorCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Records that {@code phase} of a run took {@code nanos} nanoseconds.
+     */
+    public void recordPhase(Phase phase, long nanos) {
+        requireNonNull(phase);
+        phaseDurations.get(phase).record(nanos);
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+
+    public LatencyHistogram getPhaseDurations(Phase phase) {
+        requireNonNull(phase);
+        return phaseDurations.get(phase);
+    }
+}
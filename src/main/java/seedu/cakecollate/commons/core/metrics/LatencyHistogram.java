@@ -0,0 +1,108 @@
+package seedu.cakecollate.commons.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts durations in nanoseconds into buckets, to find their percentiles without keeping each duration.
+ *
+ * Each power of two is split into {@link #SUB_BUCKET_COUNT} buckets of equal width, so a percentile is off by at
+ * most 1/{@value #SUB_BUCKET_COUNT} of its value however long the durations are, and the histogram takes a few
+ * kilobytes whatever the number of durations. Recording a duration only increments two counters, without locking,
+ * so durations can be recorded from any thread.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(nanos, 0);
+        bucketCounts.incrementAndGet(indexOf(duration));
+        count.incrementAndGet();
+        max.accumulateAndGet(duration, Math::max);
+    }
+
+    /**
+     * Clears the durations recorded.
+     */
+    public void reset() {
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            bucketCounts.set(index, 0);
+        }
+        count.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Returns the number of durations recorded.
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the longest duration recorded, or 0 if there are none.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the duration that {@code percentile} percent of the recorded durations are at most, rounded up to
+     * the end of its bucket, or 0 if there are no durations.
+     *
+     * @param percentile A number from 0 to 100.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            seen += bucketCounts.get(index);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(index), max.get());
+            }
+        }
+        // durations recorded while the buckets were being read
+        return max.get();
+    }
+
+    /**
+     * Returns the index of the bucket of {@code value}.
+     * Values below {@link #SUB_BUCKET_COUNT} each have their own bucket.
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value in the bucket at {@code index}.
+     */
+    static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowestValue = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowestValue + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.cakecollate.commons.core.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.cakecollate.commons.core.metrics.CommandMetrics.Phase;
+import seedu.cakecollate.commons.util.FileUtil;
+import seedu.cakecollate.commons.util.JsonUtil;
+
+/**
+ * Collects how long commands take and how much data is written, for as long as the app runs.
+ *
+ * Each run of a command is recorded under its command word, with the duration of each of its {@link Phase}s.
+ * The files written through {@code FileUtil}, which include the data files, are recorded with their size and the
+ * time taken to write them, whichever thread writes them. They are recorded for all the commands together, not
+ * per command, as a save in the background can write the changes of several commands at once.
+ * The metrics can be shown as a report, and saved as json when the app stops.
+ */
+public class MetricsCenter {
+
+    private static final double[] PERCENTILES = {50, 95, 99};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private static final Map<String, CommandMetrics> commandMetrics = new ConcurrentSkipListMap<>();
+    private static final LatencyHistogram storageWriteDurations = new LatencyHistogram();
+    private static final AtomicLong bytesWritten = new AtomicLong();
+    private static volatile CommandMetrics lastRunCommandMetrics;
+
+    /**
+     * Returns the metrics of the command with {@code commandWord}, to record a run of it in.
+     * The next UI refresh recorded is taken to be the refresh after this run.
+     */
+    public static CommandMetrics startRun(String commandWord) {
+        requireNonNull(commandWord);
+        CommandMetrics metrics = commandMetrics.computeIfAbsent(commandWord, CommandMetrics::new);
+        lastRunCommandMetrics = metrics;
+        return metrics;
+    }
+
+    /**
+     * Records that the UI took {@code nanos} nanoseconds to show the result of the last command run.
+     * Commands are run and their results shown one at a time, so the refresh is always that of the last run.
+     */
+    public static void recordUiRefresh(long nanos) {
+        CommandMetrics metrics = lastRunCommandMetrics;
+        if (metrics != null) {
+            metrics.recordPhase(Phase.UI_REFRESH, nanos);
+        }
+    }
+
+    /**
+     * Records that a file of {@code bytes} bytes took {@code nanos} nanoseconds to write.
+     */
+    public static void recordStorageWrite(long bytes, long nanos) {
+        bytesWritten.addAndGet(bytes);
+        storageWriteDurations.record(nanos);
+    }
+
+    /**
+     * Returns the number of bytes written to files by all the commands together since the metrics were cleared.
+     */
+    public static long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    public static LatencyHistogram getStorageWriteDurations() {
+        return storageWriteDurations;
+    }
+
+    /**
+     * Returns a report of the median, 95th and 99th percentile durations of each phase of each command that ran,
+     * and of the files written.
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder("Durations in ms, as p50 / p95 / p99:");
+        for (CommandMetrics metrics : commandMetrics.values()) {
+            if (metrics.getRunCount() == 0) {
+                continue;
+            }
+            report.append("\n").append(metrics.getCommandWord()).append(": ")
+                    .append(metrics.getRunCount()).append(" run(s), ")
+                    .append(metrics.getErrorCount()).append(" failed\n   ");
+            String separator = " ";
+            for (Phase phase : Phase.values()) {
+                report.append(separator).append(phase).append(" ")
+                        .append(formatPercentiles(metrics.getPhaseDurations(phase)));
+                separator = ", ";
+            }
+        }
+        report.append("\nFiles, for all commands together: ")
+                .append(storageWriteDurations.getCount()).append(" written, ")
+                .append(String.format("%,d", bytesWritten.get())).append(" bytes in total\n    write ")
+                .append(formatPercentiles(storageWriteDurations));
+        return report.toString();
+    }
+
+    /**
+     * Saves all the metrics as json to {@code filePath}.
+     */
+    public static void saveMetrics(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonFile(toJsonMap(), filePath);
+    }
+
+    /**
+     * Clears all the metrics.
+     */
+    public static void reset() {
+        commandMetrics.clear();
+        lastRunCommandMetrics = null;
+        bytesWritten.set(0);
+        storageWriteDurations.reset();
+    }
+
+    private static String formatPercentiles(LatencyHistogram histogram) {
+        StringBuilder percentiles = new StringBuilder();
+        for (double percentile : PERCENTILES) {
+            if (percentiles.length() > 0) {
+                percentiles.append(" / ");
+            }
+            percentiles.append(String.format("%.2f", histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI));
+        }
+        return percentiles.toString();
+    }
+
+    private static Map<String, Object> toJsonMap() {
+        Map<String, Object> commands = new LinkedHashMap<>();
+        for (CommandMetrics metrics : commandMetrics.values()) {
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("runs", metrics.getRunCount());
+            command.put("errors", metrics.getErrorCount());
+            for (Phase phase : Phase.values()) {
+                command.put(phase.name().toLowerCase(), toJsonMap(metrics.getPhaseDurations(phase)));
+            }
+            commands.put(metrics.getCommandWord(), command);
+        }
+
+        Map<String, Object> storage = new LinkedHashMap<>();
+        storage.put("bytesWritten", bytesWritten.get());
+        storage.put("write", toJsonMap(storageWriteDurations));
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("commands", commands);
+        metrics.put("storage", storage);
+        return metrics;
+    }
+
+    private static Map<String, Object> toJsonMap(LatencyHistogram histogram) {
+        Map<String, Object> durations = new LinkedHashMap<>();
+        durations.put("count", histogram.getCount());
+        for (double percentile : PERCENTILES) {
+            durations.put("p" + (int) percentile + "Nanos", histogram.getValueAtPercentile(percentile));
+        }
+        durations.put("maxNanos", histogram.getMax());
+        return durations;
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.cakecollate.commons.util;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
 
 /**
  * Writes and reads files
@@ -75,9 +80,52 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is written to a temporary file that then replaces {@code file}, so {@code file} is never left
+     * partially written.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, without holding the whole content in memory.
+     * Will create the file if it does not exist yet.
+     * As with {@link #writeToFile(Path, String)}, {@code file} is never left partially written.
+     * The size of the file and the time taken to write it are recorded in the {@link MetricsCenter}.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        long start = System.nanoTime();
+        Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(tempFile)) {
+                contentWriter.writeTo(out);
+            }
+            long size = Files.size(tempFile);
+            replaceFile(tempFile, file);
+            MetricsCenter.recordStorageWrite(size, System.nanoTime() - start);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic where the file system supports it.
+     */
+    public static void replaceFile(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
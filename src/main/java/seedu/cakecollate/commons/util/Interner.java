@@ -0,0 +1,117 @@
+package seedu.cakecollate.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A pool of immutable objects made from strings, which gives out one shared object for each string.
+ *
+ * Objects are only kept in the pool while they are in use elsewhere. Each object is kept under a string it holds,
+ * equal to the string it was made from, so the pool holds no strings of its own, and its entry is dropped once the
+ * object is garbage collected. The pool can be used by many threads at once without locking, e.g. by threads
+ * converting orders in parallel: an object found in the pool is returned without waiting for any other thread.
+ *
+ * @param <T> Type of the objects in the pool.
+ */
+public class Interner<T> {
+
+    private final Function<String, T> factory;
+    private final Function<T, String> keyOf;
+    private final ConcurrentMap<String, Entry<T>> pool = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> collectedObjects = new ReferenceQueue<>();
+
+    /**
+     * Creates an empty pool, which makes the objects it has not got with {@code factory}.
+     *
+     * @param keyOf Returns the string an object holds that is equal to the string it was made from.
+     */
+    public Interner(Function<String, T> factory, Function<T, String> keyOf) {
+        requireAllNonNull(factory, keyOf);
+        this.factory = factory;
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Returns the object in the pool made from {@code value}, making it and adding it to the pool if there is none.
+     * An object is only made, and checked, the first time it is asked for, unless two threads ask for it at once,
+     * in which case both make it and all but one of them are dropped.
+     */
+    public T intern(String value) {
+        requireNonNull(value);
+        dropCollectedObjects();
+        T interned = get(value);
+        if (interned != null) {
+            return interned;
+        }
+
+        T made = factory.apply(value);
+        String key = keyOf.apply(made);
+        assert key.equals(value);
+        Entry<T> entry = new Entry<>(key, made, collectedObjects);
+        while (true) {
+            Entry<T> existing = pool.putIfAbsent(key, entry);
+            if (existing == null) {
+                return made;
+            }
+            T existingObject = existing.get();
+            if (existingObject != null) {
+                return existingObject;
+            }
+            // the object in the pool was collected, but its entry is not dropped yet
+            if (pool.replace(key, existing, entry)) {
+                return made;
+            }
+        }
+    }
+
+    /**
+     * Returns true if the pool has an object made from {@code value}, which was therefore already checked.
+     */
+    public boolean contains(String value) {
+        requireNonNull(value);
+        return get(value) != null;
+    }
+
+    /**
+     * Returns the number of objects in the pool, including those garbage collected but not yet dropped.
+     */
+    public int size() {
+        dropCollectedObjects();
+        return pool.size();
+    }
+
+    private T get(String value) {
+        Entry<T> entry = pool.get(value);
+        return entry == null ? null : entry.get();
+    }
+
+    /**
+     * Drops the entries of the objects that were garbage collected.
+     */
+    private void dropCollectedObjects() {
+        Reference<? extends T> collected;
+        while ((collected = collectedObjects.poll()) != null) {
+            Entry<?> entry = (Entry<?>) collected;
+            pool.remove(entry.key, entry);
+        }
+    }
+
+    /**
+     * A weak reference to an object in the pool, which remembers the key it is kept under.
+     */
+    private static class Entry<T> extends WeakReference<T> {
+        private final String key;
+
+        Entry(String key, T object, ReferenceQueue<? super T> queue) {
+            super(object, queue);
+            this.key = key;
+        }
+    }
+}
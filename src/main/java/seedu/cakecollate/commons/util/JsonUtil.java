@@ -5,16 +5,25 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +31,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.cakecollate.commons.core.LogsCenter;
 import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -91,6 +101,102 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Reads the json object in the given file field by field, and passes each element of the json array in its
+     * {@code arrayFieldName} field to {@code elementHandler} as soon as the element is read, so that neither the
+     * file content nor the whole array is ever held in memory. A missing or null {@code arrayFieldName} field is read
+     * as an empty array.
+     * @param filePath cannot be null, and the file has to exist.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @return the other fields of the object, by name.
+     * @throws DataConversionException if the file format is not as expected.
+     * @throws IllegalValueException if {@code elementHandler} rejects an element.
+     */
+    public static <T> Map<String, JsonNode> readJsonArrayFile(Path filePath, String arrayFieldName,
+            Class<T> elementClass, JsonElementHandler<T> elementHandler)
+            throws DataConversionException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementHandler);
+
+        ObjectReader reader = objectMapper.readerFor(elementClass);
+        Map<String, JsonNode> otherFields = new LinkedHashMap<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(Files.newInputStream(filePath))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName)) {
+                    otherFields.put(fieldName, parser.readValueAsTree());
+                    continue;
+                }
+                if (value == JsonToken.VALUE_NULL) {
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected a json array in field " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    T element = reader.readValue(parser);
+                    if (element == null) {
+                        throw new IOException("Unexpected null element in field " + arrayFieldName);
+                    }
+                    elementHandler.handle(element);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return otherFields;
+    }
+
+    /**
+     * Saves {@code elements} as the json array in the {@code arrayFieldName} field of a json object in the
+     * specified file, in the same format as {@link #saveJsonFile(Object, Path)}.
+     * The elements are written one at a time as they are taken from {@code elements}, without building the
+     * file content in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Iterable<T> elements, String arrayFieldName, Path filePath)
+            throws IOException {
+        saveJsonArrayFile(Map.of(), elements, arrayFieldName, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveJsonArrayFile(Iterable, String, Path)}, but writes the values in {@code otherFields}
+     * as fields of the object before the array, each under its key.
+     */
+    public static <T> void saveJsonArrayFile(Map<String, ?> otherFields, Iterable<T> elements, String arrayFieldName,
+            Path filePath) throws IOException {
+        requireNonNull(otherFields);
+        requireNonNull(elements);
+        requireNonNull(arrayFieldName);
+        requireNonNull(filePath);
+
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                for (Map.Entry<String, ?> field : otherFields.entrySet()) {
+                    generator.writeFieldName(field.getKey());
+                    writer.writeValue(generator, field.getValue());
+                }
+                generator.writeFieldName(arrayFieldName);
+                generator.writeStartArray();
+                for (T element : elements) {
+                    writer.writeValue(generator, element);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -110,6 +216,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -140,4 +256,12 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Handles an element read by {@link #readJsonArrayFile(Path, String, Class, JsonElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface JsonElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
 }
@@ -1,12 +1,15 @@
 package seedu.cakecollate.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.cakecollate.commons.core.GuiSettings;
+import seedu.cakecollate.logic.commands.Command;
 import seedu.cakecollate.logic.commands.CommandResult;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
+import seedu.cakecollate.model.ModelSnapshot;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
 import seedu.cakecollate.model.order.Order;
 import seedu.cakecollate.model.orderitem.OrderItem;
@@ -24,6 +27,16 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes a command that was built without being entered, such as one received through the API, and returns
+     * the result. The command is undone, saved and recorded like an entered command.
+     * @param commandWord The command word of the command, which its run is recorded under.
+     * @param command The command to execute.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(String commandWord, Command command) throws CommandException;
+
     /**
      * Returns the CakeCollate.
      *
@@ -31,11 +44,38 @@ public interface Logic {
      */
     ReadOnlyCakeCollate getCakeCollate();
 
+    /**
+     * Starts keeping a snapshot of the data after each command. Must be called on the thread commands run on.
+     *
+     * @see seedu.cakecollate.model.Model#addSnapshotReader()
+     */
+    void addSnapshotReader();
+
+    /**
+     * Stops keeping snapshots for a reader added by {@link #addSnapshotReader()}.
+     *
+     * @see seedu.cakecollate.model.Model#removeSnapshotReader()
+     */
+    void removeSnapshotReader();
+
+    /**
+     * Returns the snapshot of the data after the last command. Can be called from any thread, while a snapshot
+     * reader is added.
+     *
+     * @see seedu.cakecollate.model.Model#getSnapshot()
+     */
+    ModelSnapshot getSnapshot();
+
     /** Returns an unmodifiable view of the filtered list of orders */
     ObservableList<Order> getFilteredOrderList();
 
-    /** Updates the deliveryStatus of an order to Status.DELIVERED if the delivery date is before the current date */
-    String updateDeliveryStatus();
+    /**
+     * Updates the delivery status of the undelivered orders with a delivery date before the current date to
+     * delivered, and saves them.
+     * @return the updated orders.
+     * @throws CommandException If an error occurs while saving.
+     */
+    List<Order> deliverOverdueOrders() throws CommandException;
 
     /**
      * Returns the user prefs' cakecollate file path.
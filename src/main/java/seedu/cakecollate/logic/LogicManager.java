@@ -1,23 +1,32 @@
 package seedu.cakecollate.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.cakecollate.commons.core.GuiSettings;
 import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.core.metrics.CommandMetrics;
+import seedu.cakecollate.commons.core.metrics.CommandMetrics.Phase;
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
 import seedu.cakecollate.logic.commands.Command;
 import seedu.cakecollate.logic.commands.CommandResult;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.logic.parser.CakeCollateParser;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
 import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.ModelSnapshot;
+import seedu.cakecollate.model.OrderChanges;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
-import seedu.cakecollate.model.order.DeliveryStatus;
 import seedu.cakecollate.model.order.Order;
-import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.orderitem.OrderItem;
 import seedu.cakecollate.storage.Storage;
 
@@ -26,12 +35,20 @@ import seedu.cakecollate.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    /** The command word that commands which are not commands of the app are recorded under. */
+    public static final String UNKNOWN_COMMAND_WORD = "(unknown)";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CakeCollateParser cakeCollateParser;
 
+    /** Versions of the model data that were last saved, or loaded from storage. */
+    private long savedCakeCollateVersion;
+    private long savedOrderItemsVersion;
+    /** Orders changed since the cakecollate was last saved, or null if it has to be saved in full. */
+    private OrderChanges unsavedOrderChanges = new OrderChanges();
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -39,46 +56,134 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         cakeCollateParser = new CakeCollateParser();
+        savedCakeCollateVersion = model.getCakeCollateVersion();
+        savedOrderItemsVersion = model.getOrderItemsVersion();
+        model.getCakeCollate().getOrderList().addListener((ListChangeListener<Order>) change -> {
+            if (unsavedOrderChanges != null) {
+                unsavedOrderChanges.record(change);
+            }
+        });
     }
 
+    /**
+     * {@inheritDoc}
+     * The run is recorded in the {@code MetricsCenter}, with the time taken to parse, execute and save the command.
+     */
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = cakeCollateParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandMetrics metrics = MetricsCenter.startRun(
+                CakeCollateParser.getCommandWord(commandText).orElse(UNKNOWN_COMMAND_WORD));
+        boolean isError = true;
+        try {
+            long parseStart = System.nanoTime();
+            Command command = cakeCollateParser.parseCommand(commandText);
+            metrics.recordPhase(Phase.PARSE, System.nanoTime() - parseStart);
+
+            CommandResult commandResult = executeAndSave(command, metrics);
+            isError = false;
+            return commandResult;
+        } finally {
+            metrics.recordRun(isError);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * The run is recorded in the {@code MetricsCenter}, with the time taken to execute and save the command.
+     */
+    @Override
+    public CommandResult execute(String commandWord, Command command) throws CommandException {
+        requireNonNull(command);
+        logger.info(() -> "----------------[COMMAND][" + commandWord + "]");
 
+        CommandMetrics metrics = MetricsCenter.startRun(commandWord);
+        boolean isError = true;
         try {
-            storage.saveCakeCollate(model.getCakeCollate());
-            storage.saveOrderItems(model.getOrderItems());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            CommandResult commandResult = executeAndSave(command, metrics);
+            isError = false;
+            return commandResult;
+        } finally {
+            metrics.recordRun(isError);
+        }
+    }
+
+    /**
+     * Executes {@code command}, commits it so that it can be undone as a whole, and saves the data it changed.
+     * The changes of a command that fails part of the way are rolled back, so that a failed command changes nothing.
+     */
+    private CommandResult executeAndSave(Command command, CommandMetrics metrics) throws CommandException {
+        long executeStart = System.nanoTime();
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            model.rollBackCakeCollate();
+            throw e;
         }
+        model.commitCakeCollate();
+        long persistStart = System.nanoTime();
+        metrics.recordPhase(Phase.EXECUTE, persistStart - executeStart);
 
+        saveChangedData();
+        metrics.recordPhase(Phase.PERSIST, System.nanoTime() - persistStart);
         return commandResult;
     }
 
     /**
-     * Updates the deliveryStatus to delivered if the delivery date is before the current date.
-     * @return A parsable string to update the deliveryStatus if necessary, and an empty string otherwise.
+     * Saves the cakecollate and order items data that changed since they were last saved, and then reports any
+     * earlier save that failed. Data that did not change, e.g. after a read-only command, is not written again.
+     * Only the orders changed are passed to the storage, unless a save failed, after which the next save of the
+     * cakecollate is in full.
      */
-    public String updateDeliveryStatus() {
-        ObservableList<Order> orderList = getFilteredOrderList();
-        String result = "delivered";
-        boolean entered = false;
-        for (int i = 0; i < orderList.size(); i++) {
-            if (orderList.get(i).getDeliveryDate().value.isBefore(LocalDate.now())
-                    && orderList.get(i).getDeliveryStatus().equals(new DeliveryStatus(Status.DELIVERED))) {
-                result += " " + String.valueOf(i + 1);
-                entered = true;
+    private void saveChangedData() throws CommandException {
+        try {
+            long cakeCollateVersion = model.getCakeCollateVersion();
+            if (cakeCollateVersion != savedCakeCollateVersion) {
+                saveCakeCollate();
+                savedCakeCollateVersion = cakeCollateVersion;
             }
+
+            long orderItemsVersion = model.getOrderItemsVersion();
+            if (orderItemsVersion != savedOrderItemsVersion) {
+                storage.saveOrderItems(model.getOrderItems());
+                savedOrderItemsVersion = orderItemsVersion;
+            }
+
+            storage.checkForSaveErrors();
+        } catch (IOException ioe) {
+            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
-        if (entered) {
-            return result;
+    }
+
+    /**
+     * Saves the orders changed since the cakecollate was last saved, or the whole cakecollate if they are unknown.
+     */
+    private void saveCakeCollate() throws IOException {
+        OrderChanges changes = unsavedOrderChanges;
+        // any save that fails may have left the storage without some of the changes, so the next one is in full
+        unsavedOrderChanges = null;
+        if (changes == null) {
+            storage.saveCakeCollate(model.getCakeCollate());
         } else {
-            return "";
+            storage.saveCakeCollateChanges(model.getCakeCollate(), changes);
         }
+        unsavedOrderChanges = new OrderChanges();
+    }
+
+    @Override
+    public List<Order> deliverOverdueOrders() throws CommandException {
+        // not committed as a command, so that undo does not revert the orders delivered
+        List<Order> deliveredOrders = model.deliverOrdersBefore(LocalDate.now());
+        logger.info(() -> "Updated " + deliveredOrders.size() + " overdue order(s) to delivered: "
+                + deliveredOrders.stream()
+                        .map(order -> order.getId().map(OrderId::toString).orElse("") + " " + order.getName())
+                        .collect(Collectors.joining(", ")));
+
+        saveChangedData();
+
+        return deliveredOrders;
     }
 
     @Override
@@ -86,12 +191,23 @@ public class LogicManager implements Logic {
         return model.getCakeCollate();
     }
 
+    @Override
+    public void addSnapshotReader() {
+        model.addSnapshotReader();
+    }
+
+    @Override
+    public void removeSnapshotReader() {
+        model.removeSnapshotReader();
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        return model.getSnapshot();
+    }
+
     @Override
     public ObservableList<Order> getFilteredOrderList() {
-        // MainWindow calls this function to get a filteredOrderList.
-        // if cakecollate.json is not sorted, this call to sort ensures
-        // that list will be sorted when gui first opens
-        model.sortFilteredOrderList();
         return model.getFilteredOrderList();
     }
 
@@ -20,7 +20,6 @@ import java.util.Optional;
 import java.util.Set;
 
 import seedu.cakecollate.commons.core.Messages;
-import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.commons.core.index.IndexList;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
@@ -33,7 +32,6 @@ import seedu.cakecollate.model.order.OrderDescription;
 import seedu.cakecollate.model.order.Phone;
 import seedu.cakecollate.model.order.Request;
 import seedu.cakecollate.model.orderitem.OrderItem;
-import seedu.cakecollate.model.orderitem.Type;
 import seedu.cakecollate.model.tag.Tag;
 
 /**
@@ -99,7 +97,7 @@ public class AddCommand extends Command {
      */
     public AddCommand(IndexList orderItemIndexList, AddOrderDescriptor addOrderDescriptor) {
         requireNonNull(addOrderDescriptor);
-        assert orderItemIndexList == null || !orderItemIndexList.getIndexList().isEmpty();
+        assert orderItemIndexList == null || !orderItemIndexList.isEmpty();
 
         this.orderItemIndexList = orderItemIndexList;
         this.addOrderDescriptor = new AddOrderDescriptor(addOrderDescriptor); // defensive copy like in edit command
@@ -110,17 +108,17 @@ public class AddCommand extends Command {
         requireNonNull(model);
 
         assert this.addOrderDescriptor.getOrderDescriptions().isPresent()
-                || this.orderItemIndexList.getIndexList().size() != 0
+                || !this.orderItemIndexList.isEmpty()
                 : "some error here; neither order description nor order item index was provided";
 
-        checkValidIndexes(model);
+        IndexList orderItemIndexes = getValidIndexes(model);
 
         if (this.addOrderDescriptor.getOrderDescriptions().isPresent()) {
             addToOrderItemsModel(model);
         }
 
-        if (orderItemIndexList != null) {
-            addToOrderDescriptionsBasedOnIndexes(model);
+        if (orderItemIndexes != null) {
+            addToOrderDescriptionsBasedOnIndexes(model, orderItemIndexes);
         }
 
         Order toAdd = addOrderDescriptor.build();
@@ -134,25 +132,25 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Checks if indexes exceed number of items in order item model. Other validity checks like -ve numbers and
-     * non-integers are taken care of by parser for index list.
+     * Checks if indexes exceed number of items in order item model, and returns them resolved against the displayed
+     * order items. Other validity checks like -ve numbers and non-integers are taken care of by parser for index list.
      * @param model
+     * @return null if no index was given by user
      * @throws CommandException
      */
-    private void checkValidIndexes(Model model) throws CommandException {
+    private IndexList getValidIndexes(Model model) throws CommandException {
         if (orderItemIndexList == null) {
-            return;
+            return null;
         }
 
         List<OrderItem> lastShownOrderItems = model.getFilteredOrderItemsList();
 
-        List<Index> indexList = orderItemIndexList.getIndexList();
+        IndexList indexList = orderItemIndexList.resolve(lastShownOrderItems.size());
 
-        for (Index i : indexList) {
-            if (i.getZeroBased() >= lastShownOrderItems.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_ORDER_ITEM_INDEX);
-            }
+        if (indexList.isEmpty() || indexList.getLargestZeroBased() >= lastShownOrderItems.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_ITEM_INDEX);
         }
+        return indexList;
     }
 
     /**
@@ -165,7 +163,7 @@ public class AddCommand extends Command {
     private void addToOrderItemsModel(Model model) {
         this.addOrderDescriptor.getOrderDescriptions().get().keySet().stream()
                 .map(OrderDescription::getValue) // because a string is needed for creating a new Type for new OrderItem
-                .map(o -> new OrderItem(new Type(o))) // map to order item so can check if already in model
+                .map(OrderItem::of) // map to order item so can check if already in model
                 .filter(o -> !model.hasOrderItem(o)) // filters out items that already exist in model
                 .forEach(model::addOrderItem);
     }
@@ -175,19 +173,18 @@ public class AddCommand extends Command {
      * given by the user, which have been added to the descriptor by the parser
      *
      * @param model
+     * @param indexList the order item indexes given by the user, resolved against the displayed order items
      */
-    private void addToOrderDescriptionsBasedOnIndexes(Model model) {
+    private void addToOrderDescriptionsBasedOnIndexes(Model model, IndexList indexList) {
         List<OrderItem> lastShownOrderItems = model.getFilteredOrderItemsList();
 
-        List<Index> indexList = orderItemIndexList.getIndexList();
-
         /* for each index specified
          * get corresponding order item
          * create an order description from the order item
          */
-        indexList.forEach(index -> addOrderDescriptor.setOrderDescription(new OrderDescription(
+        indexList.forEachZeroBased(index -> addOrderDescriptor.setOrderDescription(OrderDescription.of(
                 lastShownOrderItems
-                    .get(index.getZeroBased())
+                    .get(index)
                     .getType()
                     .toString()
                 )
@@ -1,7 +1,14 @@
 package seedu.cakecollate.logic.commands;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.cakecollate.commons.core.Messages;
+import seedu.cakecollate.commons.core.index.IndexList;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +24,45 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the order in {@code model} with the given {@code id}.
+     *
+     * @throws CommandException If there is no such order.
+     */
+    protected static Order getOrder(Model model, OrderId id) throws CommandException {
+        return model.getOrder(id).orElseThrow(() ->
+                new CommandException(String.format(Messages.MESSAGE_ORDER_ID_NOT_FOUND, id)));
+    }
+
+    /**
+     * Returns the orders in {@code model} with the given {@code ids}, in the same order.
+     *
+     * @throws CommandException If there is no order with one of the IDs.
+     */
+    protected static List<Order> getOrders(Model model, List<OrderId> ids) throws CommandException {
+        List<Order> orders = new ArrayList<>();
+        for (OrderId id : ids) {
+            orders.add(getOrder(model, id));
+        }
+        return orders;
+    }
+
+    /**
+     * Returns the orders at {@code indexes} of the order list displayed by {@code model}, in the order of
+     * {@code indexes}.
+     *
+     * @throws CommandException If there are no indexes, or one of them is not in the displayed list.
+     */
+    protected static List<Order> getDisplayedOrders(Model model, IndexList indexes) throws CommandException {
+        List<Order> lastShownList = model.getFilteredOrderList();
+        IndexList resolvedIndexes = indexes.resolve(lastShownList.size());
+        if (resolvedIndexes.isEmpty() || resolvedIndexes.getLargestZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        resolvedIndexes.forEachZeroBased(index -> orders.add(lastShownList.get(index)));
+        return orders;
+    }
+
 }
@@ -3,14 +3,18 @@ package seedu.cakecollate.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
-import seedu.cakecollate.commons.core.Messages;
-import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.commons.core.index.IndexList;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.OrderBatch;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 
 /**
  * Deletes a order identified using it's displayed index from the CakeCollate database.
@@ -20,9 +24,11 @@ public class DeleteCommand extends Command {
     public static final String COMMAND_WORD = "delete";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the orders identified by the index numbers used in the displayed order list.\n"
-            + "Parameters: INDEXES (must be positive integers)\n"
-            + "Example: " + COMMAND_WORD + " 1 2 3";
+            + ": Deletes the orders identified by the index numbers used in the displayed order list, "
+            + "or by their order IDs.\n"
+            + "Parameters: INDEXES (must be positive integers, ranges of them like 4-6, or all) "
+            + "or ORDER_IDS (e.g. #12 #15)\n"
+            + "Example: " + COMMAND_WORD + " 1 2 3 5-7";
 
     public static final String MESSAGE_DELETE_ORDER_SUCCESS = "Deleted Order: %1$s";
 
@@ -30,6 +36,8 @@ public class DeleteCommand extends Command {
 
     private final IndexList targetIndexList;
 
+    private final List<OrderId> targetOrderIds;
+
     /**
      * Creates a DeleteCommand object with an IndexList containing the indexes passed in by user.
      *
@@ -37,15 +45,27 @@ public class DeleteCommand extends Command {
      */
     public DeleteCommand(IndexList targetIndexList) {
         this.targetIndexList = targetIndexList;
+        this.targetOrderIds = null;
+    }
+
+    /**
+     * Creates a DeleteCommand object for the orders with the order IDs passed in by user.
+     *
+     * @param targetOrderIds One or more order IDs passed by the user
+     */
+    public DeleteCommand(List<OrderId> targetOrderIds) {
+        requireNonNull(targetOrderIds);
+        this.targetIndexList = null;
+        this.targetOrderIds = targetOrderIds;
     }
 
     public static String getResultString(List<Order> ordersToDelete) {
         if (ordersToDelete.size() == 1) {
             return String.format(MESSAGE_DELETE_ORDER_SUCCESS, ordersToDelete.get(0));
         }
-        String convertedToString = "";
+        StringBuilder convertedToString = new StringBuilder();
         for (Order order : ordersToDelete) {
-            convertedToString = convertedToString + String.format("\n%1$s", order);
+            convertedToString.append('\n').append(order);
         }
         return String.format(MESSAGE_DELETE_ORDERS_SUCCESS, convertedToString);
     }
@@ -53,22 +73,21 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Order> lastShownList = model.getFilteredOrderList();
-        List<Order> ordersToDelete = new ArrayList<>();
-        for (Index targetIndex:this.targetIndexList.getIndexList()) {
-            if (targetIndex.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
-            }
+        List<Order> targetOrders = targetOrderIds != null
+                ? getOrders(model, targetOrderIds)
+                : getDisplayedOrders(model, targetIndexList);
 
-            Order orderToDelete = lastShownList.get(targetIndex.getZeroBased());
-            if (!ordersToDelete.contains(orderToDelete)) {
+        List<Order> ordersToDelete = new ArrayList<>();
+        Set<Order> stagedOrders = Collections.newSetFromMap(new IdentityHashMap<>());
+        OrderBatch batch = model.beginOrderBatch();
+        for (Order orderToDelete : targetOrders) {
+            if (stagedOrders.add(orderToDelete)) {
                 ordersToDelete.add(orderToDelete);
+                batch.deleteOrder(orderToDelete);
             }
         }
 
-        for (Order orderToDelete:ordersToDelete) {
-            model.deleteOrder(orderToDelete);
-        }
+        batch.commit();
 
         return new CommandResult(getResultString(ordersToDelete));
     }
@@ -77,6 +96,7 @@ public class DeleteCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteCommand // instanceof handles nulls
-                && targetIndexList.equals(((DeleteCommand) other).targetIndexList)); // state check
+                && Objects.equals(targetIndexList, ((DeleteCommand) other).targetIndexList)
+                && Objects.equals(targetOrderIds, ((DeleteCommand) other).targetOrderIds)); // state check
     }
 }
@@ -6,7 +6,6 @@ import java.util.ArrayList;
 import java.util.List;
 
 import seedu.cakecollate.commons.core.Messages;
-import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.commons.core.index.IndexList;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
@@ -54,16 +53,18 @@ public class DeleteOrderItemCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
         List<OrderItem> lastShownList = model.getFilteredOrderItemsList();
+        IndexList targetIndexes = targetIndexList.resolve(lastShownList.size());
+        if (targetIndexes.isEmpty() || targetIndexes.getLargestZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
+        }
+
         List<OrderItem> orderItemsToDelete = new ArrayList<>();
-        for (Index targetIndex:this.targetIndexList.getIndexList()) {
-            if (targetIndex.getZeroBased() >= lastShownList.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
-            }
-            OrderItem orderItemToDelete = lastShownList.get(targetIndex.getZeroBased());
+        targetIndexes.forEachZeroBased(targetIndex -> {
+            OrderItem orderItemToDelete = lastShownList.get(targetIndex);
             if (!orderItemsToDelete.contains(orderItemToDelete)) {
                 orderItemsToDelete.add(orderItemToDelete);
             }
-        }
+        });
         for (OrderItem orderItemToDelete:orderItemsToDelete) {
             model.deleteOrderItem(orderItemToDelete);
         }
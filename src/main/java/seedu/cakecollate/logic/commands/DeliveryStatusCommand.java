@@ -4,15 +4,19 @@ import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
-import seedu.cakecollate.commons.core.Messages;
-import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.commons.core.index.IndexList;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.OrderBatch;
 import seedu.cakecollate.model.order.DeliveryStatus;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 
 public class DeliveryStatusCommand extends Command {
 
@@ -29,6 +33,8 @@ public class DeliveryStatusCommand extends Command {
 
     private final IndexList targetIndexList;
 
+    private final List<OrderId> targetOrderIds;
+
     private final DeliveryStatus status;
 
     /**
@@ -39,6 +45,20 @@ public class DeliveryStatusCommand extends Command {
      */
     public DeliveryStatusCommand(IndexList targetIndexList, DeliveryStatus status) {
         this.targetIndexList = targetIndexList;
+        this.targetOrderIds = null;
+        this.status = status;
+    }
+
+    /**
+     * Initialises a delivery status command for orders given by their order IDs.
+     *
+     * @param targetOrderIds Order IDs of the orders that need to be updated.
+     * @param status         The status the deliveryStatus has to be changed to.
+     */
+    public DeliveryStatusCommand(List<OrderId> targetOrderIds, DeliveryStatus status) {
+        requireNonNull(targetOrderIds);
+        this.targetIndexList = null;
+        this.targetOrderIds = targetOrderIds;
         this.status = status;
     }
 
@@ -48,9 +68,10 @@ public class DeliveryStatusCommand extends Command {
     public static String messageUsage(String commandWord) {
         return commandWord
                 + ": Updates the deliveryStatus of the order identified by the index number "
-                + "used in the displayed order list to " + commandWord + ".\n"
-                + "Parameters: INDEX (must be a positive integer)\n"
-                + "Example: " + commandWord + " 1 2 3";
+                + "used in the displayed order list, or by its order ID, to " + commandWord + ".\n"
+                + "Parameters: INDEXES (must be positive integers, ranges of them like 4-6, or all) "
+                + "or ORDER_IDS (e.g. #12 #15)\n"
+                + "Example: " + commandWord + " 1 2 3 5-7";
     }
 
     public static String getMessageUsage(String commandWord) {
@@ -58,26 +79,26 @@ public class DeliveryStatusCommand extends Command {
     }
 
     public static String getResultString(List<Order> ordersToUpdate, List<Order> sameOrders) {
-        String convertedToStringUpdated = "";
+        StringBuilder convertedToStringUpdated = new StringBuilder();
         for (Order order : ordersToUpdate) {
-            convertedToStringUpdated = convertedToStringUpdated + String.format("\n%1$s", order);
+            convertedToStringUpdated.append('\n').append(order);
         }
 
-        String convertedToStringSame = "";
+        StringBuilder convertedToStringSame = new StringBuilder();
         for (Order order : sameOrders) {
-            convertedToStringSame = convertedToStringSame + String.format("\n%1$s", order);
+            convertedToStringSame.append('\n').append(order);
         }
 
         String output = "";
-        if (!convertedToStringUpdated.equals("")) {
+        if (convertedToStringUpdated.length() > 0) {
             output += String.format(MESSAGE_DELIVERY_STATUS_ORDER_SUCCESS_UPDATED, convertedToStringUpdated);
         }
 
-        if (!convertedToStringUpdated.equals("") && !convertedToStringSame.equals("")) {
+        if (convertedToStringUpdated.length() > 0 && convertedToStringSame.length() > 0) {
             output += "\n\n";
         }
 
-        if (!convertedToStringSame.equals("")) {
+        if (convertedToStringSame.length() > 0) {
             output += String.format(MESSAGE_DELIVERY_STATUS_ORDER_SUCCESS_SAME, convertedToStringSame);
         }
 
@@ -87,41 +108,43 @@ public class DeliveryStatusCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Order> lastShownList = model.getFilteredOrderList();
-        List<Order> copy = new ArrayList<>(lastShownList);
+        List<Order> targetOrders = targetOrderIds != null
+                ? getOrders(model, targetOrderIds)
+                : getDisplayedOrders(model, targetIndexList);
 
         List<Order> updatedOrders = new ArrayList<>();
         List<Order> sameOrders = new ArrayList<>();
-
-        for (Index targetIndex : this.targetIndexList.getIndexList()) {
-            if (targetIndex.getZeroBased() >= copy.size()) {
-                throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
-            }
-
-            Order orderToUpdate = copy.get(targetIndex.getZeroBased());
-
+        Set<Order> stagedOrders = Collections.newSetFromMap(new IdentityHashMap<>());
+        OrderBatch batch = model.beginOrderBatch();
+        for (Order orderToUpdate : targetOrders) {
             if (orderToUpdate.getDeliveryStatus().equals(status)) {
                 sameOrders.add(orderToUpdate);
-            } else {
+            } else if (stagedOrders.add(orderToUpdate)) {
                 Order editedOrder = updateOrder(orderToUpdate, status);
-                model.setOrder(orderToUpdate, editedOrder);
-                model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+                batch.setOrder(orderToUpdate, editedOrder);
                 updatedOrders.add(editedOrder);
             }
         }
+
+        if (!batch.isEmpty()) {
+            batch.commit();
+            model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        }
         return new CommandResult(getResultString(updatedOrders, sameOrders));
     }
 
     private static Order updateOrder(Order order, DeliveryStatus status) {
         return new Order(order.getName(), order.getPhone(), order.getEmail(), order.getAddress(),
-                order.getOrderDescriptions(), order.getTags(), order.getDeliveryDate(), status, order.getRequest());
+                order.getOrderDescriptions(), order.getTags(), order.getDeliveryDate(), status, order.getRequest(),
+                order.getId().orElse(null));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeliveryStatusCommand // instanceof handles nulls
-                && targetIndexList.equals(((DeliveryStatusCommand) other).targetIndexList)
+                && Objects.equals(targetIndexList, ((DeliveryStatusCommand) other).targetIndexList)
+                && Objects.equals(targetOrderIds, ((DeliveryStatusCommand) other).targetOrderIds)
                 && status.equals(((DeliveryStatusCommand) other).status)); // state check
     }
 }
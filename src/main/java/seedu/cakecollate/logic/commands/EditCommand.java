@@ -15,6 +15,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -30,10 +31,10 @@ import seedu.cakecollate.model.order.Email;
 import seedu.cakecollate.model.order.Name;
 import seedu.cakecollate.model.order.Order;
 import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Phone;
 import seedu.cakecollate.model.order.Request;
 import seedu.cakecollate.model.orderitem.OrderItem;
-import seedu.cakecollate.model.orderitem.Type;
 import seedu.cakecollate.model.tag.Tag;
 
 /**
@@ -44,9 +45,9 @@ public class EditCommand extends Command {
     public static final String COMMAND_WORD = "edit";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the details of the order identified "
-            + "by the index number used in the displayed order list. "
+            + "by the index number used in the displayed order list, or by its order ID. "
             + "Existing values will be overwritten by the input values.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or ORDER_ID (e.g. #12) "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE_NUMBER] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -66,6 +67,7 @@ public class EditCommand extends Command {
     public static final String MESSAGE_NO_CHANGE = "No changes were made. Edit will not change the specified order.";
 
     private final Index index;
+    private final OrderId orderId;
     private final EditOrderDescriptor editOrderDescriptor;
 
     /**
@@ -76,19 +78,26 @@ public class EditCommand extends Command {
         requireNonNull(index);
         requireNonNull(editOrderDescriptor);
         this.index = index;
+        this.orderId = null;
+        this.editOrderDescriptor = new EditOrderDescriptor(editOrderDescriptor);
+    }
+
+    /**
+     * @param orderId of the order to edit, which need not be in the filtered order list
+     * @param editOrderDescriptor details to edit the order with
+     */
+    public EditCommand(OrderId orderId, EditOrderDescriptor editOrderDescriptor) {
+        requireNonNull(orderId);
+        requireNonNull(editOrderDescriptor);
+        this.index = null;
+        this.orderId = orderId;
         this.editOrderDescriptor = new EditOrderDescriptor(editOrderDescriptor);
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Order> lastShownList = model.getFilteredOrderList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
-        }
-
-        Order orderToEdit = lastShownList.get(index.getZeroBased());
+        Order orderToEdit = getOrderToEdit(model);
         Order editedOrder = createEditedOrder(orderToEdit, editOrderDescriptor);
 
         if (!orderToEdit.isSameOrder(editedOrder) && model.hasOrder(editedOrder)) {
@@ -106,6 +115,18 @@ public class EditCommand extends Command {
         return new CommandResult(String.format(MESSAGE_EDIT_ORDER_SUCCESS, editedOrder));
     }
 
+    private Order getOrderToEdit(Model model) throws CommandException {
+        if (orderId != null) {
+            return getOrder(model, orderId);
+        }
+
+        List<Order> lastShownList = model.getFilteredOrderList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
     /**
      * Creates and returns a {@code Order} with the details of {@code orderToEdit}
      * edited with {@code editOrderDescriptor}.
@@ -127,7 +148,7 @@ public class EditCommand extends Command {
         Request updatedRequest = editOrderDescriptor.getRequest().orElse(orderToEdit.getRequest());
 
         return new Order(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedOrderDescriptions,
-                updatedTags, updatedDeliveryDate, deliveryStatus, updatedRequest);
+                updatedTags, updatedDeliveryDate, deliveryStatus, updatedRequest, orderToEdit.getId().orElse(null));
     }
 
     private void addToOrderItemsModel(Model model) {
@@ -137,7 +158,7 @@ public class EditCommand extends Command {
 
         this.editOrderDescriptor.getOrderDescriptions().get().keySet().stream()
                 .map(OrderDescription::getValue) // because a string is needed for creating a new Type for new OrderItem
-                .map(o -> new OrderItem(new Type(o))) // map to order item so can check if already in model
+                .map(OrderItem::of) // map to order item so can check if already in model
                 .filter(o -> !model.hasOrderItem(o)) // filters out items that already exist in model
                 .forEach(model::addOrderItem);
     }
@@ -156,7 +177,8 @@ public class EditCommand extends Command {
 
         // state check
         EditCommand e = (EditCommand) other;
-        return index.equals(e.index)
+        return Objects.equals(index, e.index)
+                && Objects.equals(orderId, e.orderId)
                 && editOrderDescriptor.equals(e.editOrderDescriptor);
     }
 
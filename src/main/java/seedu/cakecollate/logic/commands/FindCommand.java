@@ -48,6 +48,13 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Returns the predicate that the orders found match.
+     */
+    public ContainsKeywordsPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
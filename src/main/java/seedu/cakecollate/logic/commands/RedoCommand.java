@@ -0,0 +1,32 @@
+package seedu.cakecollate.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import seedu.cakecollate.logic.commands.exceptions.CommandException;
+import seedu.cakecollate.model.Model;
+
+/**
+ * Restores the changes of the last command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Restores the changes of the last command that was undone.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoCakeCollate()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoCakeCollate();
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -32,6 +32,13 @@ public class RemindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Returns the predicate that the orders found match.
+     */
+    public ReminderDatePredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
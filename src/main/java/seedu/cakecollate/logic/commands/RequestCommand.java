@@ -5,12 +5,14 @@ import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_REQUEST;
 import static seedu.cakecollate.model.Model.PREDICATE_SHOW_ALL_ORDERS;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.cakecollate.commons.core.Messages;
 import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Request;
 
 /**
@@ -22,9 +24,9 @@ public class RequestCommand extends Command {
     public static final String COMMAND_WORD = "request";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Edits the request of the order identified "
-            + "by the index number used in the last order listing. "
+            + "by the index number used in the last order listing, or by its order ID. "
             + "Existing request will be overwritten by the input.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + "Parameters: INDEX (must be a positive integer) or ORDER_ID (e.g. #12) "
             + PREFIX_REQUEST + "[REQUEST]\n"
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_REQUEST + "No vanilla in the Vanilla Cake.\n"
@@ -36,6 +38,7 @@ public class RequestCommand extends Command {
             "Special request is already empty! Try adding a request instead.";
 
     private final Index index;
+    private final OrderId orderId;
     private final Request request;
 
     /**
@@ -46,21 +49,29 @@ public class RequestCommand extends Command {
         requireAllNonNull(index, request);
 
         this.index = index;
+        this.orderId = null;
         this.request = request;
     }
 
-    @Override
-    public CommandResult execute(Model model) throws CommandException {
-        List<Order> lastShownList = model.getFilteredOrderList();
+    /**
+     * @param orderId of the order to edit, which need not be in the filtered order list
+     * @param request of the order to be updated to
+     */
+    public RequestCommand(OrderId orderId, Request request) {
+        requireAllNonNull(orderId, request);
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
-        }
+        this.index = null;
+        this.orderId = orderId;
+        this.request = request;
+    }
 
-        Order orderToEdit = lastShownList.get(index.getZeroBased());
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Order orderToEdit = getOrderToEdit(model);
         Order editedOrder = new Order(orderToEdit.getName(), orderToEdit.getPhone(), orderToEdit.getEmail(),
                 orderToEdit.getAddress(), orderToEdit.getOrderDescriptions(),
-                orderToEdit.getTags(), orderToEdit.getDeliveryDate(), orderToEdit.getDeliveryStatus(), request);
+                orderToEdit.getTags(), orderToEdit.getDeliveryDate(), orderToEdit.getDeliveryStatus(), request,
+                orderToEdit.getId().orElse(null));
 
         model.setOrder(orderToEdit, editedOrder);
         model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
@@ -68,6 +79,18 @@ public class RequestCommand extends Command {
         return new CommandResult(generateSuccessMessage(editedOrder, orderToEdit));
     }
 
+    private Order getOrderToEdit(Model model) throws CommandException {
+        if (orderId != null) {
+            return getOrder(model, orderId);
+        }
+
+        List<Order> lastShownList = model.getFilteredOrderList();
+        if (index.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
+        }
+        return lastShownList.get(index.getZeroBased());
+    }
+
     /**
      * Generates a command execution success message based on whether the request is added to or removed from
      * {@code orderToEdit}.
@@ -99,7 +122,8 @@ public class RequestCommand extends Command {
 
         // state check
         RequestCommand e = (RequestCommand) other;
-        return index.equals(e.index)
+        return Objects.equals(index, e.index)
+                && Objects.equals(orderId, e.orderId)
                 && request.equals(e.request);
     }
 }
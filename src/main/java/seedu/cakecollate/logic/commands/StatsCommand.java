@@ -0,0 +1,22 @@
+package seedu.cakecollate.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
+import seedu.cakecollate.model.Model;
+
+/**
+ * Shows how long the commands run since the app started took, and how much data was written.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long the commands run since CakeCollate started took to parse, execute, save and show.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(MetricsCenter.getReport());
+    }
+}
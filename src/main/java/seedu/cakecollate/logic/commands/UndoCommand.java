@@ -0,0 +1,32 @@
+package seedu.cakecollate.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.model.Model.PREDICATE_SHOW_ALL_ORDERS;
+
+import seedu.cakecollate.logic.commands.exceptions.CommandException;
+import seedu.cakecollate.model.Model;
+
+/**
+ * Reverts the cakecollate to its state before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Reverts the last command that changed the orders or order items.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoCakeCollate()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoCakeCollate();
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
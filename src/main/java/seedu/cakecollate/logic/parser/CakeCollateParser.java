@@ -3,6 +3,10 @@ package seedu.cakecollate.logic.parser;
 import static seedu.cakecollate.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.cakecollate.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -18,8 +22,11 @@ import seedu.cakecollate.logic.commands.ExitCommand;
 import seedu.cakecollate.logic.commands.FindCommand;
 import seedu.cakecollate.logic.commands.HelpCommand;
 import seedu.cakecollate.logic.commands.ListCommand;
+import seedu.cakecollate.logic.commands.RedoCommand;
 import seedu.cakecollate.logic.commands.RemindCommand;
 import seedu.cakecollate.logic.commands.RequestCommand;
+import seedu.cakecollate.logic.commands.StatsCommand;
+import seedu.cakecollate.logic.commands.UndoCommand;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
 import seedu.cakecollate.model.order.DeliveryStatus;
 import seedu.cakecollate.model.order.Status;
@@ -34,6 +41,21 @@ public class CakeCollateParser {
      */
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
 
+    /** The parser of each command, under its command word. */
+    private static final Map<String, Parser<?>> PARSERS = createParsers();
+
+    /**
+     * Returns the command word that {@code userInput} starts with, or an empty Optional if it does not start with
+     * the command word of a command.
+     */
+    public static Optional<String> getCommandWord(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches() || !PARSERS.containsKey(matcher.group("commandWord"))) {
+            return Optional.empty();
+        }
+        return Optional.of(matcher.group("commandWord"));
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -49,56 +71,37 @@ public class CakeCollateParser {
 
         final String commandWord = matcher.group("commandWord");
         final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case RemindCommand.COMMAND_WORD:
-            return new RemindCommandParser().parse(arguments);
-
-        case DeliveryStatusCommand.UNDELIVERED_COMMAND_WORD:
-            return new DeliveryStatusCommandParser(new DeliveryStatus(Status.UNDELIVERED)).parse(arguments);
-
-        case DeliveryStatusCommand.DELIVERED_COMMAND_WORD:
-            return new DeliveryStatusCommandParser(new DeliveryStatus(Status.DELIVERED)).parse(arguments);
-
-        case DeliveryStatusCommand.CANCELLED_COMMAND_WORD:
-            return new DeliveryStatusCommandParser(new DeliveryStatus(Status.CANCELLED)).parse(arguments);
-
-        case RequestCommand.COMMAND_WORD:
-            return new RequestCommandParser().parse(arguments);
-
-        case AddOrderItemCommand.COMMAND_WORD:
-            return new AddOrderItemCommandParser().parse(arguments);
-
-        case DeleteOrderItemCommand.COMMAND_WORD:
-            return new DeleteOrderItemCommandParser().parse(arguments);
-
-        default:
+        Parser<?> parser = PARSERS.get(commandWord);
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    private static Map<String, Parser<?>> createParsers() {
+        Map<String, Parser<?>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        parsers.put(RemindCommand.COMMAND_WORD, new RemindCommandParser());
+        parsers.put(DeliveryStatusCommand.UNDELIVERED_COMMAND_WORD,
+                new DeliveryStatusCommandParser(new DeliveryStatus(Status.UNDELIVERED)));
+        parsers.put(DeliveryStatusCommand.DELIVERED_COMMAND_WORD,
+                new DeliveryStatusCommandParser(new DeliveryStatus(Status.DELIVERED)));
+        parsers.put(DeliveryStatusCommand.CANCELLED_COMMAND_WORD,
+                new DeliveryStatusCommandParser(new DeliveryStatus(Status.CANCELLED)));
+        parsers.put(RequestCommand.COMMAND_WORD, new RequestCommandParser());
+        parsers.put(AddOrderItemCommand.COMMAND_WORD, new AddOrderItemCommandParser());
+        parsers.put(DeleteOrderItemCommand.COMMAND_WORD, new DeleteOrderItemCommandParser());
+        parsers.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        parsers.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        parsers.put(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand());
+        return Collections.unmodifiableMap(parsers);
     }
 
 }
@@ -20,6 +20,9 @@ public class DeleteCommandParser implements Parser<DeleteCommand> {
      */
     public DeleteCommand parse(String args) throws ParseException {
         try {
+            if (ParserUtil.isOrderIdArgs(args)) {
+                return new DeleteCommand(ParserUtil.parseOrderIds(args));
+            }
             IndexList indexList = ParserUtil.parseIndexList(args);
             return new DeleteCommand(indexList);
         } catch (IndexOutOfBoundsException pe) {
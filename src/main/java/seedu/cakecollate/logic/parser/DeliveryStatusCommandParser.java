@@ -25,6 +25,9 @@ public class DeliveryStatusCommandParser implements Parser<DeliveryStatusCommand
     public DeliveryStatusCommand parse(String args) throws ParseException {
         try {
             assert status != null;
+            if (ParserUtil.isOrderIdArgs(args)) {
+                return new DeliveryStatusCommand(ParserUtil.parseOrderIds(args), status);
+            }
             IndexList indexList = ParserUtil.parseIndexList(args);
             return new DeliveryStatusCommand(indexList, status);
         } catch (IndexOutOfBoundsException pe) {
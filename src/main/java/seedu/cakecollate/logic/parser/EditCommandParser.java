@@ -23,6 +23,7 @@ import seedu.cakecollate.logic.parser.exceptions.IndexOutOfBoundsException;
 import seedu.cakecollate.logic.parser.exceptions.NegativeIndexException;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
 import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.tag.Tag;
 
 /**
@@ -41,10 +42,15 @@ public class EditCommandParser implements Parser<EditCommand> {
                 ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
                         PREFIX_ORDER_DESCRIPTION, PREFIX_TAG, PREFIX_DATE);
 
-        Index index;
+        Index index = null;
+        OrderId orderId = null;
 
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            if (ParserUtil.isOrderIdArgs(argMultimap.getPreamble())) {
+                orderId = ParserUtil.parseOrderId(argMultimap.getPreamble());
+            } else {
+                index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            }
         } catch (IndexOutOfBoundsException pe) {
             throw new IndexOutOfBoundsException(pe.getMessage());
         } catch (NegativeIndexException pe) {
@@ -83,7 +89,9 @@ public class EditCommandParser implements Parser<EditCommand> {
             throw new ParseException(EditCommand.MESSAGE_NOT_EDITED);
         }
 
-        return new EditCommand(index, editOrderDescriptor);
+        return orderId != null
+                ? new EditCommand(orderId, editOrderDescriptor)
+                : new EditCommand(index, editOrderDescriptor);
     }
 
     /**
@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -24,6 +25,7 @@ import seedu.cakecollate.model.order.DeliveryDate;
 import seedu.cakecollate.model.order.Email;
 import seedu.cakecollate.model.order.Name;
 import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Phone;
 import seedu.cakecollate.model.orderitem.OrderItem;
 import seedu.cakecollate.model.orderitem.Type;
@@ -36,6 +38,9 @@ public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is invalid.";
     public static final String MESSAGE_NO_INDEX_PROVIDED = "No index provided";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "The first index of a range should not be larger than "
+            + "the last.";
+    public static final String INDEX_LIST_ALL = "all";
     public static final int PHONE_LENGTH = 20;
     public static final int TAG_LENGTH = 30;
     public static final int INTEGER_LENGTH = 10;
@@ -68,26 +73,96 @@ public class ParserUtil {
 
     /**
      * Parses {@code oneBasedIndexList} from String into an {@code IndexList} and returns it.
+     * The indexes are separated by whitespace or commas, and each of them is either a single index or a range of
+     * indexes like {@code 9-12}. {@code all} stands for all the indexes of the displayed list.
      * @param oneBasedIndexList one based indices input by the user.
-     * @return list of indices sorted in descending order.
-     * @throws ParseException if one of the specified indices is invalid.
+     * @return an {@code IndexList} of the parsed indices.
+     * @throws ParseException if any of the indexes or ranges is invalid, or if no index is provided.
      */
     public static IndexList parseIndexList(String oneBasedIndexList) throws ParseException {
-        String[] indexListSplit = oneBasedIndexList.trim().split("\\s+");
+        String trimmedIndexList = oneBasedIndexList.trim();
+        if (trimmedIndexList.equalsIgnoreCase(INDEX_LIST_ALL)) {
+            IndexList indexList = IndexList.all();
+            indexList.sortList();
+            return indexList;
+        }
+
         IndexList indexList = new IndexList(new ArrayList<>());
-        for (String index: indexListSplit) {
-            if ((!index.equals(" ")) && (!index.equals(""))) {
-                Index parsedIndex = parseIndex(index.trim());
-                indexList.add(parsedIndex);
+        for (String token : trimmedIndexList.split("\\s+")) {
+            if (token.isEmpty()) {
+                continue;
+            }
+            // a comma has to be followed by another index, so "1, 2" is not accepted
+            for (String index : token.split(",", -1)) {
+                addIndexOrRange(indexList, index);
             }
         }
-        if (indexList.getIndexList().size() == 0) {
+        if (indexList.isEmpty()) {
             throw new ParseException(MESSAGE_NO_INDEX_PROVIDED);
         }
         indexList.sortList();
         return indexList;
     }
 
+    /**
+     * Parses {@code oneBasedIndex}, a single index or a range of indexes like {@code 9-12}, into {@code indexList}.
+     */
+    private static void addIndexOrRange(IndexList indexList, String oneBasedIndex) throws ParseException {
+        // a leading '-' is the sign of a negative index, which is rejected by parseIndex
+        int rangeSeparator = oneBasedIndex.indexOf('-', 1);
+        if (rangeSeparator == -1) {
+            indexList.add(parseIndex(oneBasedIndex));
+            return;
+        }
+
+        Index first = parseIndex(oneBasedIndex.substring(0, rangeSeparator));
+        Index last = parseIndex(oneBasedIndex.substring(rangeSeparator + 1));
+        if (first.compareTo(last) > 0) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        indexList.addRange(first, last);
+    }
+
+    /**
+     * Returns true if {@code args} identifies orders by their IDs, such as {@code #12 #15}, rather than by their
+     * indexes in the displayed list.
+     */
+    public static boolean isOrderIdArgs(String args) {
+        requireNonNull(args);
+        return args.trim().startsWith(OrderId.PREFIX);
+    }
+
+    /**
+     * Parses {@code orderId} into an {@code OrderId} and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the given {@code orderId} is invalid.
+     */
+    public static OrderId parseOrderId(String orderId) throws ParseException {
+        requireNonNull(orderId);
+        String trimmedOrderId = orderId.trim();
+        if (!OrderId.isValidOrderId(trimmedOrderId)) {
+            throw new ParseException(OrderId.MESSAGE_CONSTRAINTS);
+        }
+        return new OrderId(trimmedOrderId);
+    }
+
+    /**
+     * Parses whitespace separated order IDs, such as {@code #12 #15}, into a list of {@code OrderId}s.
+     * @throws ParseException if any of the order IDs is invalid, or if no order ID is provided.
+     */
+    public static List<OrderId> parseOrderIds(String orderIds) throws ParseException {
+        requireNonNull(orderIds);
+        String trimmedOrderIds = orderIds.trim();
+        if (trimmedOrderIds.isEmpty()) {
+            throw new ParseException(MESSAGE_NO_INDEX_PROVIDED);
+        }
+
+        List<OrderId> orderIdList = new ArrayList<>();
+        for (String orderId : trimmedOrderIds.split("\\s+")) {
+            orderIdList.add(parseOrderId(orderId));
+        }
+        return orderIdList;
+    }
+
 
     /**
      * Parses a {@code String name} into a {@code Name}.
@@ -107,7 +182,7 @@ public class ParserUtil {
         if (!Name.isValidName(trimmedName)) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
@@ -128,7 +203,7 @@ public class ParserUtil {
         if (!Phone.isValidPhone(trimmedPhone)) {
             throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
         }
-        return new Phone(trimmedPhone);
+        return Phone.of(trimmedPhone);
     }
 
     /**
@@ -146,7 +221,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -164,7 +239,7 @@ public class ParserUtil {
         if (!Email.isValidEmail(trimmedEmail)) {
             throw new ParseException(Email.MESSAGE_CONSTRAINTS);
         }
-        return new Email(trimmedEmail);
+        return Email.of(trimmedEmail);
     }
 
     /**
@@ -186,7 +261,7 @@ public class ParserUtil {
             throw new ParseException(OrderDescription.MESSAGE_CONSTRAINTS);
         }
 
-        return new OrderDescription(formattedOrderDescription);
+        return OrderDescription.of(formattedOrderDescription);
     }
 
     /**
@@ -219,7 +294,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -273,7 +348,7 @@ public class ParserUtil {
         if (!Type.isValidType(formattedOrderItemDescription)) {
             throw new ParseException(String.format(Type.SHARED_CONSTRAINTS_MESSAGE, "Order description"));
         }
-        return new OrderItem(new Type(formattedOrderItemDescription));
+        return OrderItem.of(formattedOrderItemDescription);
     }
 
     /**
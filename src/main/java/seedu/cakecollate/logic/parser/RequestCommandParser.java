@@ -9,6 +9,7 @@ import seedu.cakecollate.commons.exceptions.IllegalValueException;
 import seedu.cakecollate.logic.commands.RequestCommand;
 import seedu.cakecollate.logic.parser.exceptions.IndexOutOfBoundsException;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Request;
 
 public class RequestCommandParser implements Parser<RequestCommand> {
@@ -23,9 +24,14 @@ public class RequestCommandParser implements Parser<RequestCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_REQUEST);
 
-        Index index;
+        Index index = null;
+        OrderId orderId = null;
         try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            if (ParserUtil.isOrderIdArgs(argMultimap.getPreamble())) {
+                orderId = ParserUtil.parseOrderId(argMultimap.getPreamble());
+            } else {
+                index = ParserUtil.parseIndex(argMultimap.getPreamble());
+            }
         } catch (IndexOutOfBoundsException pe) {
             throw new IndexOutOfBoundsException(pe.getMessage());
         } catch (IllegalValueException ive) {
@@ -35,6 +41,8 @@ public class RequestCommandParser implements Parser<RequestCommand> {
 
         String request = argMultimap.getValue(PREFIX_REQUEST).orElse("");
 
-        return new RequestCommand(index, new Request(request));
+        return orderId != null
+                ? new RequestCommand(orderId, new Request(request))
+                : new RequestCommand(index, new Request(request));
     }
 }
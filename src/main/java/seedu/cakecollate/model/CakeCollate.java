@@ -2,15 +2,20 @@ package seedu.cakecollate.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.UniqueOrderList;
 
 /**
  * Wraps all data at the cakecollate-book level
  * Duplicates are not allowed (by .isSameOrder comparison)
+ * Orders are kept sorted by delivery status and delivery date.
  */
 public class CakeCollate implements ReadOnlyCakeCollate {
 
@@ -54,6 +59,15 @@ public class CakeCollate implements ReadOnlyCakeCollate {
         requireNonNull(newData);
 
         setOrders(newData.getOrderList());
+        setNextOrderId(newData.getNextOrderId());
+    }
+
+    /**
+     * Makes the next order added get the ID {@code nextOrderId}, unless an order in the cakecollate, or an order
+     * deleted from it, has that ID or a larger one.
+     */
+    public void setNextOrderId(long nextOrderId) {
+        orders.setNextId(nextOrderId);
     }
 
     //// order-level operations
@@ -66,6 +80,14 @@ public class CakeCollate implements ReadOnlyCakeCollate {
         return orders.contains(order);
     }
 
+    /**
+     * Returns the order with the given {@code id} in the cakecollate, if any.
+     */
+    public Optional<Order> getOrder(OrderId id) {
+        requireNonNull(id);
+        return orders.get(id);
+    }
+
     /**
      * Adds a order to the cakecollate.
      * The order must not already exist in the cakecollate.
@@ -85,6 +107,18 @@ public class CakeCollate implements ReadOnlyCakeCollate {
         orders.setOrder(target, editedOrder);
     }
 
+    /**
+     * Removes the orders in {@code toRemove}, replaces each order that is a key of {@code editedOrders} with the
+     * order it maps to, and adds the orders in {@code toAdd}, all at once.
+     * The orders to remove and replace must be in the cakecollate.
+     * The order identities of the edited and added orders must not be the same as each other, or another order
+     * remaining in the cakecollate.
+     */
+    public void applyOrderChanges(Collection<Order> toRemove, Map<Order, Order> editedOrders,
+            Collection<Order> toAdd) {
+        orders.applyChanges(toRemove, editedOrders, toAdd);
+    }
+
     /**
      * Removes {@code key} from this {@code CakeCollate}.
      * {@code key} must exist in the cakecollate.
@@ -106,8 +140,9 @@ public class CakeCollate implements ReadOnlyCakeCollate {
         return orders.asUnmodifiableObservableList();
     }
 
-    public void sortOrderList() {
-        orders.sortOrdersByDateAndStatus();
+    @Override
+    public long getNextOrderId() {
+        return orders.getNextId();
     }
 
     @Override
@@ -0,0 +1,202 @@
+package seedu.cakecollate.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.orderitem.OrderItem;
+
+/**
+ * The history of the changes made to a {@code CakeCollate} and its {@code OrderItems}, which can be undone and
+ * redone one commit at a time.
+ *
+ * Instead of a copy of the data, each commit keeps only the orders it removed and added. As orders are immutable,
+ * these are the same objects as those in the order list, so a commit costs memory in proportion to the orders it
+ * changed rather than to the number of orders, and undoing or redoing it only removes and adds those orders.
+ * The order items table, which is small, is kept as a copy in the commits that change it.
+ *
+ * Commits are held through soft references, so the garbage collector drops them, least recently used first, when
+ * memory runs low. The history is therefore bounded by the memory available rather than by a number of commits.
+ * Undoing stops at the first commit that was dropped, as the commits before it can no longer be reached.
+ */
+class CakeCollateHistory {
+
+    private final CakeCollate cakeCollate;
+    private final OrderItems orderItems;
+
+    private final Deque<SoftReference<Commit>> undoCommits = new ArrayDeque<>();
+    private final Deque<SoftReference<Commit>> redoCommits = new ArrayDeque<>();
+
+    // the changes made since the last commit
+    private OrderChanges orderChanges = new OrderChanges();
+    private List<OrderItem> committedOrderItems;
+    private boolean isOrderItemsChanged;
+
+    private boolean isRecording = true;
+
+    /**
+     * Creates an empty history of {@code cakeCollate} and {@code orderItems}, which records the changes made to
+     * them from now on.
+     */
+    CakeCollateHistory(CakeCollate cakeCollate, OrderItems orderItems) {
+        requireNonNull(cakeCollate);
+        requireNonNull(orderItems);
+        this.cakeCollate = cakeCollate;
+        this.orderItems = orderItems;
+        committedOrderItems = new ArrayList<>(orderItems.getOrderItemList());
+
+        cakeCollate.getOrderList().addListener((ListChangeListener<Order>) change -> {
+            if (isRecording) {
+                orderChanges.record(change);
+            }
+        });
+        orderItems.getOrderItemList().addListener((ListChangeListener<OrderItem>) change -> {
+            if (isRecording) {
+                isOrderItemsChanged = true;
+            }
+        });
+    }
+
+    /**
+     * Saves the changes made since the last commit as a commit that can be undone, and clears the commits that
+     * were undone. Does nothing if there are no such changes.
+     */
+    void commit() {
+        if (orderChanges.isEmpty() && !isOrderItemsChanged) {
+            return;
+        }
+
+        List<OrderItem> orderItemsBefore = null;
+        List<OrderItem> orderItemsAfter = null;
+        if (isOrderItemsChanged) {
+            orderItemsBefore = committedOrderItems;
+            orderItemsAfter = new ArrayList<>(orderItems.getOrderItemList());
+            committedOrderItems = orderItemsAfter;
+        }
+        Commit commit = new Commit(new ArrayList<>(orderChanges.getRemovedOrders()),
+                new ArrayList<>(orderChanges.getAddedOrders()), orderItemsBefore, orderItemsAfter);
+        orderChanges = new OrderChanges();
+        isOrderItemsChanged = false;
+
+        undoCommits.push(new SoftReference<>(commit));
+        redoCommits.clear();
+    }
+
+    /**
+     * Keeps the changes made since the last commit without a commit that can undo them, for changes that the
+     * user did not make. The commits before them are cleared, as undoing or redoing those over these changes
+     * could put back orders that are no longer in the list.
+     */
+    void commitWithoutUndo() {
+        orderChanges = new OrderChanges();
+        if (isOrderItemsChanged) {
+            committedOrderItems = new ArrayList<>(orderItems.getOrderItemList());
+            isOrderItemsChanged = false;
+        }
+        undoCommits.clear();
+        redoCommits.clear();
+    }
+
+    /**
+     * Reverts the changes made since the last commit, which are then no longer changes to commit.
+     */
+    void rollBack() {
+        OrderChanges uncommittedChanges = orderChanges;
+        orderChanges = new OrderChanges();
+        apply(new ArrayList<>(uncommittedChanges.getAddedOrders()),
+                new ArrayList<>(uncommittedChanges.getRemovedOrders()),
+                isOrderItemsChanged ? committedOrderItems : null);
+        isOrderItemsChanged = false;
+    }
+
+    boolean canUndo() {
+        return peek(undoCommits) != null;
+    }
+
+    boolean canRedo() {
+        return peek(redoCommits) != null;
+    }
+
+    /**
+     * Reverts the last commit that was not undone.
+     * Changes made since the last commit are committed first.
+     */
+    void undo() {
+        commit();
+        Commit commit = peek(undoCommits);
+        assert commit != null : "there is no commit to undo";
+        undoCommits.pop();
+
+        apply(commit.addedOrders, commit.removedOrders, commit.orderItemsBefore);
+        redoCommits.push(new SoftReference<>(commit));
+    }
+
+    /**
+     * Restores the last commit that was undone.
+     */
+    void redo() {
+        Commit commit = peek(redoCommits);
+        assert commit != null : "there is no commit to redo";
+        redoCommits.pop();
+
+        apply(commit.removedOrders, commit.addedOrders, commit.orderItemsAfter);
+        undoCommits.push(new SoftReference<>(commit));
+    }
+
+    /**
+     * Returns the commit at the top of {@code commits}, or null if there is none.
+     * Drops all the commits if the top one was cleared by the garbage collector, as they were made before it.
+     */
+    private static Commit peek(Deque<SoftReference<Commit>> commits) {
+        SoftReference<Commit> top = commits.peek();
+        Commit commit = top == null ? null : top.get();
+        if (commit == null) {
+            commits.clear();
+        }
+        return commit;
+    }
+
+    /**
+     * Removes {@code toRemove} and adds {@code toAdd} to the orders, and replaces the order items with
+     * {@code orderItemList} if it is not null, without recording these as changes.
+     */
+    private void apply(List<Order> toRemove, List<Order> toAdd, List<OrderItem> orderItemList) {
+        isRecording = false;
+        try {
+            // only the orders of the commit are removed and added, as a single change to the list
+            cakeCollate.applyOrderChanges(toRemove, Map.of(), toAdd);
+            if (orderItemList != null) {
+                orderItems.setOrderItems(orderItemList);
+                committedOrderItems = orderItemList;
+            }
+        } finally {
+            isRecording = true;
+        }
+    }
+
+    /**
+     * The changes made between two commits.
+     */
+    private static class Commit {
+        private final List<Order> removedOrders;
+        private final List<Order> addedOrders;
+        // null if the order items were not changed
+        private final List<OrderItem> orderItemsBefore;
+        private final List<OrderItem> orderItemsAfter;
+
+        Commit(List<Order> removedOrders, List<Order> addedOrders, List<OrderItem> orderItemsBefore,
+                List<OrderItem> orderItemsAfter) {
+            this.removedOrders = removedOrders;
+            this.addedOrders = addedOrders;
+            this.orderItemsBefore = orderItemsBefore;
+            this.orderItemsAfter = orderItemsAfter;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package seedu.cakecollate.model;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.cakecollate.commons.core.GuiSettings;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.orderitem.OrderItem;
 
 /**
@@ -53,11 +57,22 @@ public interface Model {
     /** Returns the CakeCollate */
     ReadOnlyCakeCollate getCakeCollate();
 
+    /**
+     * Returns a number that changes whenever the cakecollate data changes.
+     * Callers can compare it with an earlier value to tell if the cakecollate data needs to be saved.
+     */
+    long getCakeCollateVersion();
+
     /**
      * Returns true if a order with the same identity as {@code order} exists in the cakecollate.
      */
     boolean hasOrder(Order order);
 
+    /**
+     * Returns the order in the cakecollate with the given {@code id}, if any.
+     */
+    Optional<Order> getOrder(OrderId id);
+
     /**
      * Deletes the given order.
      * The order must exist in the cakecollate.
@@ -77,14 +92,81 @@ public interface Model {
      */
     void setOrder(Order target, Order editedOrder);
 
-    /** Returns an unmodifiable view of the filtered order list */
-    ObservableList<Order> getFilteredOrderList();
+    /**
+     * Updates the delivery status of the undelivered orders to be delivered before {@code date} to delivered,
+     * as a single change to the order list. The change cannot be undone, as it was not made by the user, and
+     * clears the commits that could be undone or redone before it.
+     * @return the updated orders.
+     */
+    List<Order> deliverOrdersBefore(LocalDate date);
+
+    /**
+     * Returns a new batch of changes to the orders, which are made together when the batch is committed.
+     * Committing the batch does not change the filter of the filtered order list.
+     */
+    OrderBatch beginOrderBatch();
+
+    /**
+     * Saves the changes made to the orders and order items since the last commit, so that they can be undone
+     * together. Does nothing if nothing was changed.
+     */
+    void commitCakeCollate();
 
-    /** Updates the order list to sort by delivery date. */
-    void sortFilteredOrderList();
+    /**
+     * Reverts the orders and order items to their state at the last commit, discarding the changes made since.
+     */
+    void rollBackCakeCollate();
+
+    /**
+     * Returns true if there is a commit that can be undone.
+     */
+    boolean canUndoCakeCollate();
+
+    /**
+     * Returns true if there is an undone commit that can be redone.
+     */
+    boolean canRedoCakeCollate();
+
+    /**
+     * Reverts the orders and order items to their state before the last commit that was not undone.
+     * There must be such a commit.
+     */
+    void undoCakeCollate();
+
+    /**
+     * Restores the changes of the last commit that was undone.
+     * There must be such a commit.
+     */
+    void redoCakeCollate();
+
+    /**
+     * Starts keeping a snapshot of the orders and order items after each commit, for {@link #getSnapshot()}.
+     * Snapshots are only kept while at least one reader is added, as each one copies the lists that changed.
+     * Must be called between commands, when there are no uncommitted changes.
+     */
+    void addSnapshotReader();
+
+    /**
+     * Removes a reader added by {@link #addSnapshotReader()}. Snapshots are no longer kept once all are removed.
+     */
+    void removeSnapshotReader();
+
+    /**
+     * Returns the snapshot of the orders and order items as they were after the last commit, or as they were
+     * when the first snapshot reader was added if nothing was committed since. Unlike the rest of the model, this
+     * can be called from any thread, and the snapshot returned can be read from any thread.
+     *
+     * @throws IllegalStateException if no snapshot reader is added.
+     */
+    ModelSnapshot getSnapshot();
+
+    /** Returns an unmodifiable view of the filtered order list, sorted by delivery status and delivery date. */
+    ObservableList<Order> getFilteredOrderList();
 
     /**
      * Updates the filter of the filtered order list to filter by the given {@code predicate}.
+     * The orders matching a {@code ContainsKeywordsPredicate} or a {@code ReminderDatePredicate} may be looked up in
+     * an index instead of testing the predicate on every order.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredOrderList(Predicate<Order> predicate);
@@ -92,6 +174,12 @@ public interface Model {
     /** Returns the OrderItems */
     ReadOnlyOrderItems getOrderItems();
 
+    /**
+     * Returns a number that changes whenever the order items data changes.
+     * Callers can compare it with an earlier value to tell if the order items data needs to be saved.
+     */
+    long getOrderItemsVersion();
+
     /**
      * Adds the given orderItem.
      * {@code orderItem} must not already exist in the orderItems.
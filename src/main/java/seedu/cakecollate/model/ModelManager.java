@@ -4,14 +4,29 @@ import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.cakecollate.commons.core.GuiSettings;
 import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.model.order.ContainsKeywordsPredicate;
+import seedu.cakecollate.model.order.DeliveryStatus;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderDateIndex;
+import seedu.cakecollate.model.order.OrderId;
+import seedu.cakecollate.model.order.OrderKeywordIndex;
+import seedu.cakecollate.model.order.ReminderDatePredicate;
+import seedu.cakecollate.model.order.Status;
 import seedu.cakecollate.model.orderitem.OrderItem;
 
 /**
@@ -23,10 +38,28 @@ public class ModelManager implements Model {
     private final CakeCollate cakeCollate;
     private final UserPrefs userPrefs;
     private final FilteredList<Order> filteredOrders;
+    private final OrderKeywordIndex orderKeywordIndex = new OrderKeywordIndex();
+    // only undelivered orders are indexed by date, as only they are reminded of and swept when overdue
+    private final OrderDateIndex undeliveredOrderDateIndex = new OrderDateIndex();
+    // the filter looked up in an index, and the orders matching it, while such a filter is in use
+    private Predicate<Order> indexedPredicate;
+    private Set<Order> indexedMatches;
 
     private final OrderItems orderItems;
     private final FilteredList<OrderItem> filteredOrderItems;
 
+    private final CakeCollateHistory history;
+
+    private long cakeCollateVersion;
+    private long orderItemsVersion;
+
+    // the snapshot of the last commit, or null while there are no snapshot readers, with the versions of the data
+    // it was copied at
+    private int snapshotReaderCount;
+    private volatile ModelSnapshot snapshot;
+    private long snapshotCakeCollateVersion;
+    private long snapshotOrderItemsVersion;
+
     /**
      * Initializes a ModelManager with the given cakeCollate and userPrefs.
      */
@@ -34,15 +67,22 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(cakeCollate, userPrefs);
 
-        logger.fine("Initializing with cakecollate: " + cakeCollate + " and user prefs "
+        logger.fine(() -> "Initializing with cakecollate: " + cakeCollate + " and user prefs "
                 + userPrefs + "and orderitems " + orderItems);
 
         this.cakeCollate = new CakeCollate(cakeCollate);
         this.userPrefs = new UserPrefs(userPrefs);
+        // registered before the filtered list is created, so that the indexed matches are up to date by the time
+        // the filtered list is notified of a change
+        this.cakeCollate.getOrderList().forEach(this::addToIndices);
+        this.cakeCollate.getOrderList().addListener(this::updateIndices);
         filteredOrders = new FilteredList<>(this.cakeCollate.getOrderList());
         this.orderItems = new OrderItems(orderItems);
         filteredOrderItems = new FilteredList<>(this.orderItems.getOrderItemList());
-        sortFilteredOrderList();
+        history = new CakeCollateHistory(this.cakeCollate, this.orderItems);
+
+        this.cakeCollate.getOrderList().addListener((ListChangeListener<Order>) change -> cakeCollateVersion++);
+        this.orderItems.getOrderItemList().addListener((ListChangeListener<OrderItem>) change -> orderItemsVersion++);
     }
 
     public ModelManager() {
@@ -96,12 +136,23 @@ public class ModelManager implements Model {
         return cakeCollate;
     }
 
+    @Override
+    public long getCakeCollateVersion() {
+        return cakeCollateVersion;
+    }
+
     @Override
     public boolean hasOrder(Order order) {
         requireNonNull(order);
         return cakeCollate.hasOrder(order);
     }
 
+    @Override
+    public Optional<Order> getOrder(OrderId id) {
+        requireNonNull(id);
+        return cakeCollate.getOrder(id);
+    }
+
     @Override
     public void deleteOrder(Order target) {
         cakeCollate.removeOrder(target);
@@ -111,7 +162,6 @@ public class ModelManager implements Model {
     public void addOrder(Order order) {
         cakeCollate.addOrder(order);
         updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDERS);
-        sortFilteredOrderList();
     }
 
     @Override
@@ -119,31 +169,202 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedOrder);
 
         cakeCollate.setOrder(target, editedOrder);
-        sortFilteredOrderList();
+    }
+
+    @Override
+    public List<Order> deliverOrdersBefore(LocalDate date) {
+        requireNonNull(date);
+        DeliveryStatus delivered = new DeliveryStatus(Status.DELIVERED);
+        OrderBatch batch = beginOrderBatch();
+        List<Order> deliveredOrders = new ArrayList<>();
+        for (Order order : undeliveredOrderDateIndex.findBefore(date)) {
+            Order deliveredOrder = new Order(order.getName(), order.getPhone(), order.getEmail(),
+                    order.getAddress(), order.getOrderDescriptions(), order.getTags(), order.getDeliveryDate(),
+                    delivered, order.getRequest(), order.getId().orElse(null));
+            batch.setOrder(order, deliveredOrder);
+            deliveredOrders.add(deliveredOrder);
+        }
+        batch.commit();
+        if (!deliveredOrders.isEmpty()) {
+            history.commitWithoutUndo();
+            publishSnapshot();
+        }
+        return deliveredOrders;
+    }
+
+    @Override
+    public OrderBatch beginOrderBatch() {
+        return new OrderBatch(cakeCollate);
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public void commitCakeCollate() {
+        history.commit();
+        publishSnapshot();
+    }
+
+    @Override
+    public void rollBackCakeCollate() {
+        history.rollBack();
+    }
+
+    @Override
+    public boolean canUndoCakeCollate() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoCakeCollate() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoCakeCollate() {
+        history.undo();
+        publishSnapshot();
+    }
+
+    @Override
+    public void redoCakeCollate() {
+        history.redo();
+        publishSnapshot();
+    }
+
+    //=========== Snapshots =================================================================================
+
+    @Override
+    public void addSnapshotReader() {
+        if (snapshotReaderCount++ > 0) {
+            return;
+        }
+        snapshot = ModelSnapshot.of(cakeCollate.getOrderList(), orderItems.getOrderItemList());
+        snapshotCakeCollateVersion = cakeCollateVersion;
+        snapshotOrderItemsVersion = orderItemsVersion;
+    }
+
+    @Override
+    public void removeSnapshotReader() {
+        assert snapshotReaderCount > 0 : "there is no snapshot reader to remove";
+        if (--snapshotReaderCount == 0) {
+            snapshot = null;
+        }
+    }
+
+    @Override
+    public ModelSnapshot getSnapshot() {
+        ModelSnapshot current = snapshot;
+        if (current == null) {
+            throw new IllegalStateException("Snapshots are only kept while a snapshot reader is added");
+        }
+        return current;
+    }
+
+    /**
+     * Replaces the snapshot with a copy of the data if it changed since the snapshot was taken, and there are
+     * snapshot readers. Only the lists that changed are copied.
+     */
+    private void publishSnapshot() {
+        if (snapshot == null) {
+            return;
+        }
+        boolean isCakeCollateChanged = cakeCollateVersion != snapshotCakeCollateVersion;
+        boolean isOrderItemsChanged = orderItemsVersion != snapshotOrderItemsVersion;
+        if (!isCakeCollateChanged && !isOrderItemsChanged) {
+            return;
+        }
+        snapshot = snapshot.next(isCakeCollateChanged ? cakeCollate.getOrderList() : null,
+                isOrderItemsChanged ? orderItems.getOrderItemList() : null);
+        snapshotCakeCollateVersion = cakeCollateVersion;
+        snapshotOrderItemsVersion = orderItemsVersion;
     }
 
     //=========== Filtered Order List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Orders} backed by the internal list of
-     * {@code versionedCakeCollate}
+     * {@code cakeCollate}
      */
     @Override
     public ObservableList<Order> getFilteredOrderList() {
         return filteredOrders;
     }
 
-    @Override
-    public void sortFilteredOrderList() {
-        // calls the cakeCollate model to sort the list because only
-        // the cakeCollate model class has access to the modifiable list
-        cakeCollate.sortOrderList();
-    }
-
+    /**
+     * {@inheritDoc}
+     * The orders matching a {@code ContainsKeywordsPredicate} are looked up in a keyword index, and those matching a
+     * {@code ReminderDatePredicate} in an index of the delivery dates of undelivered orders, instead of testing the
+     * predicate on every order. The index is chosen from the class of {@code predicate}, so that it is used
+     * whatever type the caller holds the predicate as.
+     */
     @Override
     public void updateFilteredOrderList(Predicate<Order> predicate) {
         requireNonNull(predicate);
-        filteredOrders.setPredicate(predicate);
+        if (predicate instanceof ContainsKeywordsPredicate) {
+            ContainsKeywordsPredicate keywordsPredicate = (ContainsKeywordsPredicate) predicate;
+            setIndexedFilter(predicate, orderKeywordIndex.find(keywordsPredicate));
+        } else if (predicate instanceof ReminderDatePredicate) {
+            LocalDate today = LocalDate.now();
+            long days = ((ReminderDatePredicate) predicate).getDays();
+            setIndexedFilter(predicate, undeliveredOrderDateIndex.find(today, today.plusDays(days)));
+        } else {
+            indexedPredicate = null;
+            indexedMatches = null;
+            filteredOrders.setPredicate(predicate);
+        }
+    }
+
+    /**
+     * Filters the order list to {@code matches}, the orders satisfying {@code predicate} found in an index.
+     * Orders added to the list while the filter is in use are tested against {@code predicate} instead.
+     */
+    private void setIndexedFilter(Predicate<Order> predicate, Set<Order> matches) {
+        indexedPredicate = predicate;
+        indexedMatches = matches;
+        filteredOrders.setPredicate(matches::contains);
+    }
+
+    private void addToIndices(Order order) {
+        orderKeywordIndex.add(order);
+        if (isUndelivered(order)) {
+            undeliveredOrderDateIndex.add(order);
+        }
+    }
+
+    private static boolean isUndelivered(Order order) {
+        return order.getDeliveryStatus().getDeliveryStatus() == Status.UNDELIVERED;
+    }
+
+    /**
+     * Keeps the indices, and the matches of the indexed filter in use, in step with the order list.
+     */
+    private void updateIndices(ListChangeListener.Change<? extends Order> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            // an order both removed and added, e.g. when a batch of changes replaces the whole list, is unchanged
+            Set<Order> removedOrders = Collections.newSetFromMap(new IdentityHashMap<>());
+            removedOrders.addAll(change.getRemoved());
+            List<? extends Order> addedOrders = change.wasAdded() ? change.getAddedSubList() : List.of();
+            for (Order added : addedOrders) {
+                if (removedOrders.remove(added)) {
+                    continue;
+                }
+                addToIndices(added);
+                if (indexedMatches != null && indexedPredicate.test(added)) {
+                    indexedMatches.add(added);
+                }
+            }
+            for (Order removed : removedOrders) {
+                orderKeywordIndex.remove(removed);
+                undeliveredOrderDateIndex.remove(removed);
+                if (indexedMatches != null) {
+                    indexedMatches.remove(removed);
+                }
+            }
+        }
     }
 
     @Override
@@ -172,6 +393,11 @@ public class ModelManager implements Model {
         return orderItems;
     }
 
+    @Override
+    public long getOrderItemsVersion() {
+        return orderItemsVersion;
+    }
+
     @Override
     public boolean hasOrderItem(OrderItem orderItem) {
         requireNonNull(orderItem);
@@ -185,7 +411,7 @@ public class ModelManager implements Model {
 
     @Override
     public void addOrderItem(OrderItem orderItem) {
-        logger.info(String.format("adding order item %s to orderitems %s", orderItem, orderItems));
+        logger.info(() -> String.format("adding order item %s to orderitems %s", orderItem, orderItems));
         orderItems.addOrderItem(orderItem);
     }
 
@@ -0,0 +1,81 @@
+package seedu.cakecollate.model;
+
+import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.orderitem.OrderItem;
+
+/**
+ * An unchangeable copy of the orders and order items as they were after a commit.
+ *
+ * As neither the lists nor the orders and order items in them ever change, a snapshot can be read by any thread
+ * without locking, for as long as it is needed, while the model goes on changing. Snapshots of later commits have
+ * larger versions.
+ */
+public class ModelSnapshot implements ReadOnlyCakeCollate, ReadOnlyOrderItems {
+
+    private final long version;
+    private final ObservableList<Order> orders;
+    private final ObservableList<OrderItem> orderItems;
+
+    private ModelSnapshot(long version, ObservableList<Order> orders, ObservableList<OrderItem> orderItems) {
+        this.version = version;
+        this.orders = orders;
+        this.orderItems = orderItems;
+    }
+
+    /**
+     * Returns the first snapshot, of {@code orders} and {@code orderItems}.
+     */
+    static ModelSnapshot of(List<Order> orders, List<OrderItem> orderItems) {
+        requireAllNonNull(orders, orderItems);
+        return new ModelSnapshot(0, copyOf(orders), copyOf(orderItems));
+    }
+
+    /**
+     * Returns the next snapshot, which copies only the lists that changed since this snapshot.
+     *
+     * @param orders The orders, or null if they did not change.
+     * @param orderItems The order items, or null if they did not change.
+     */
+    ModelSnapshot next(List<Order> orders, List<OrderItem> orderItems) {
+        return new ModelSnapshot(version + 1, orders == null ? this.orders : copyOf(orders),
+                orderItems == null ? this.orderItems : copyOf(orderItems));
+    }
+
+    private static <T> ObservableList<T> copyOf(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(list)));
+    }
+
+    /**
+     * Returns the number of commits made between the first snapshot and this one that changed the data.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the orders, sorted as in the order list. The list never changes.
+     */
+    @Override
+    public ObservableList<Order> getOrderList() {
+        return orders;
+    }
+
+    /**
+     * Returns the order items. The list never changes.
+     */
+    @Override
+    public ObservableList<OrderItem> getOrderItemList() {
+        return orderItems;
+    }
+
+    @Override
+    public String toString() {
+        return "Snapshot " + version + ": " + orders.size() + " orders, " + orderItems.size() + " order items";
+    }
+}
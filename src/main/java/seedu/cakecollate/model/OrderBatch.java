@@ -0,0 +1,112 @@
+package seedu.cakecollate.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.exceptions.OrderNotFoundException;
+
+/**
+ * A batch of changes to the orders of a {@code CakeCollate}, staged one at a time and applied together by
+ * {@link #commit()}.
+ *
+ * Committing checks all the staged changes first, and then makes them as a single change to the order list, which
+ * is sorted once. Either all the changes are made, or none of them.
+ *
+ * Orders to edit or delete are the orders in the list, or orders staged earlier in the same batch, compared by
+ * identity. Editing or deleting a staged order updates the staged change instead.
+ */
+public class OrderBatch {
+
+    private final CakeCollate cakeCollate;
+
+    private final Set<Order> toRemove = newIdentitySet();
+    private final Map<Order, Order> editedOrders = new IdentityHashMap<>();
+    private final Map<Order, Order> targetsByEditedOrder = new IdentityHashMap<>();
+    private final Set<Order> toAdd = newIdentitySet();
+
+    OrderBatch(CakeCollate cakeCollate) {
+        requireNonNull(cakeCollate);
+        this.cakeCollate = cakeCollate;
+    }
+
+    /**
+     * Stages {@code order} to be added.
+     */
+    public void addOrder(Order order) {
+        requireNonNull(order);
+        toAdd.add(order);
+    }
+
+    /**
+     * Stages {@code target} to be replaced with {@code editedOrder}.
+     */
+    public void setOrder(Order target, Order editedOrder) {
+        requireAllNonNull(target, editedOrder);
+        if (toAdd.remove(target)) {
+            toAdd.add(editedOrder);
+            return;
+        }
+
+        // an order edited earlier in the batch is replaced in the list by the edited order it is now edited to
+        Order originalTarget = targetsByEditedOrder.remove(target);
+        if (originalTarget == null) {
+            originalTarget = target;
+        }
+        Order replacedEditedOrder = editedOrders.put(originalTarget, editedOrder);
+        if (replacedEditedOrder != null) {
+            targetsByEditedOrder.remove(replacedEditedOrder);
+        }
+        targetsByEditedOrder.put(editedOrder, originalTarget);
+    }
+
+    /**
+     * Stages {@code target} to be deleted.
+     */
+    public void deleteOrder(Order target) {
+        requireNonNull(target);
+        if (toAdd.remove(target)) {
+            return;
+        }
+
+        Order originalTarget = targetsByEditedOrder.remove(target);
+        if (originalTarget == null) {
+            originalTarget = target;
+        }
+        editedOrders.remove(originalTarget);
+        toRemove.add(originalTarget);
+    }
+
+    /**
+     * Returns true if no changes are staged.
+     */
+    public boolean isEmpty() {
+        return toRemove.isEmpty() && editedOrders.isEmpty() && toAdd.isEmpty();
+    }
+
+    /**
+     * Makes all the staged changes to the cakecollate at once, and clears them from this batch.
+     *
+     * @throws OrderNotFoundException if an order to edit or delete is not in the cakecollate.
+     * @throws seedu.cakecollate.model.order.exceptions.DuplicateOrderException if an edited or added order would
+     *     be the same as another order.
+     */
+    public void commit() {
+        cakeCollate.applyOrderChanges(new ArrayList<>(toRemove), editedOrders, new ArrayList<>(toAdd));
+        toRemove.clear();
+        editedOrders.clear();
+        targetsByEditedOrder.clear();
+        toAdd.clear();
+    }
+
+    private static Set<Order> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
@@ -0,0 +1,112 @@
+package seedu.cakecollate.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import seedu.cakecollate.model.order.Order;
+
+/**
+ * The orders removed from and added to an order list over a period of time.
+ *
+ * As orders are immutable, an edited order is a removed order plus an added one, and orders are told apart by
+ * identity. An order added and then removed again within the period is in neither set, and vice versa, so the
+ * changes are in proportion to the orders that differ between the start and the end of the period.
+ */
+public class OrderChanges {
+
+    private final Set<Order> removedOrders = newIdentitySet();
+    private final Set<Order> addedOrders = newIdentitySet();
+
+    /**
+     * Records the orders removed from and added to an order list by {@code change}.
+     */
+    public void record(ListChangeListener.Change<? extends Order> change) {
+        requireNonNull(change);
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            recordRemoved(change.getRemoved());
+            if (change.wasAdded()) {
+                recordAdded(change.getAddedSubList());
+            }
+        }
+    }
+
+    /**
+     * Records the changes in {@code later}, which were made after the changes already recorded.
+     */
+    public void addAll(OrderChanges later) {
+        requireNonNull(later);
+        recordRemoved(later.removedOrders);
+        recordAdded(later.addedOrders);
+    }
+
+    /**
+     * Removes the removed orders from {@code orders} and adds the added orders to it.
+     */
+    public void applyTo(Set<Order> orders) {
+        requireNonNull(orders);
+        orders.removeAll(removedOrders);
+        orders.addAll(addedOrders);
+    }
+
+    /**
+     * Returns an unmodifiable view of the orders removed.
+     */
+    public Set<Order> getRemovedOrders() {
+        return Collections.unmodifiableSet(removedOrders);
+    }
+
+    /**
+     * Returns an unmodifiable view of the orders added.
+     */
+    public Set<Order> getAddedOrders() {
+        return Collections.unmodifiableSet(addedOrders);
+    }
+
+    /**
+     * Returns the number of orders removed and added.
+     */
+    public int size() {
+        return removedOrders.size() + addedOrders.size();
+    }
+
+    public boolean isEmpty() {
+        return removedOrders.isEmpty() && addedOrders.isEmpty();
+    }
+
+    private void recordRemoved(Collection<? extends Order> removed) {
+        for (Order order : removed) {
+            if (!addedOrders.remove(order)) {
+                removedOrders.add(order);
+            }
+        }
+    }
+
+    private void recordAdded(Collection<? extends Order> added) {
+        for (Order order : added) {
+            if (!removedOrders.remove(order)) {
+                addedOrders.add(order);
+            }
+        }
+    }
+
+    /**
+     * Returns an empty set that tells orders apart by identity.
+     */
+    public static Set<Order> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    public String toString() {
+        return removedOrders.size() + " order(s) removed, " + addedOrders.size() + " order(s) added";
+    }
+
+}
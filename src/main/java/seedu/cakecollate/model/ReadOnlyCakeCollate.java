@@ -14,4 +14,14 @@ public interface ReadOnlyCakeCollate {
      */
     ObservableList<Order> getOrderList();
 
+    /**
+     * Returns the ID that the next order added is given, which is larger than the IDs of all the orders ever added,
+     * including those deleted since. By default, the ID after the largest ID in the order list.
+     */
+    default long getNextOrderId() {
+        return getOrderList().stream()
+                .mapToLong(order -> order.getId().map(id -> id.value).orElse(0L))
+                .max().orElse(0L) + 1;
+    }
+
 }
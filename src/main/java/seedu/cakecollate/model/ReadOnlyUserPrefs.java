@@ -2,6 +2,7 @@ package seedu.cakecollate.model;
 
 import java.nio.file.Path;
 
+import seedu.cakecollate.commons.core.DataFormat;
 import seedu.cakecollate.commons.core.GuiSettings;
 
 /**
@@ -13,5 +14,7 @@ public interface ReadOnlyUserPrefs {
 
     Path getCakeCollateFilePath();
 
+    DataFormat getCakeCollateFileFormat();
+
     Path getOrderItemsFilePath();
 }
@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.cakecollate.commons.core.DataFormat;
 import seedu.cakecollate.commons.core.GuiSettings;
 
 /**
@@ -15,6 +16,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path cakeCollateFilePath = Paths.get("data" , "cakecollate.json");
+    private DataFormat cakeCollateFileFormat = DataFormat.JSON;
     private Path orderItemsFilePath = Paths.get("data", "OrderItems.json");
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +38,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setCakeCollateFilePath(newUserPrefs.getCakeCollateFilePath());
+        setCakeCollateFileFormat(newUserPrefs.getCakeCollateFileFormat());
         setOrderItemsFilePath(newUserPrefs.getOrderItemsFilePath());
     }
 
@@ -57,6 +60,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.cakeCollateFilePath = cakeCollateFilePath;
     }
 
+    public DataFormat getCakeCollateFileFormat() {
+        return cakeCollateFileFormat;
+    }
+
+    public void setCakeCollateFileFormat(DataFormat cakeCollateFileFormat) {
+        requireNonNull(cakeCollateFileFormat);
+        this.cakeCollateFileFormat = cakeCollateFileFormat;
+    }
+
     public Path getOrderItemsFilePath() {
         return orderItemsFilePath;
     }
@@ -79,12 +91,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && cakeCollateFilePath.equals(o.cakeCollateFilePath)
+                && cakeCollateFileFormat.equals(o.cakeCollateFileFormat)
                 && orderItemsFilePath.equals(o.orderItemsFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, cakeCollateFilePath, orderItemsFilePath);
+        return Objects.hash(guiSettings, cakeCollateFilePath, cakeCollateFileFormat, orderItemsFilePath);
     }
 
     @Override
@@ -92,6 +105,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + cakeCollateFilePath);
+        sb.append("\nLocal data file format : " + cakeCollateFileFormat);
         return sb.toString();
     }
 
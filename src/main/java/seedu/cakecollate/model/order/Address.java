@@ -3,6 +3,8 @@ package seedu.cakecollate.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents an Order's address in the CakeCollate.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +19,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Interner<Address> INTERNER = new Interner<>(Address::new, address -> address.value);
+
     public final String value;
 
     /**
@@ -30,11 +34,20 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} of the given value, which is the same object for the same value.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(address);
+    }
+
     /**
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
     @Override
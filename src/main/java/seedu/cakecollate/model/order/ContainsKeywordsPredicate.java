@@ -12,6 +12,7 @@ import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_REQUEST;
 import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,13 @@ public class ContainsKeywordsPredicate implements Predicate<Order> {
         this.keywords = keywords;
     }
 
+    /**
+     * Returns the keywords to find, by the prefix of the field they are to be found in.
+     */
+    public Map<Prefix, List<String>> getKeywords() {
+        return Collections.unmodifiableMap(keywords);
+    }
+
     @Override
     public boolean test(Order order) {
         boolean result = true;
@@ -58,7 +66,7 @@ public class ContainsKeywordsPredicate implements Predicate<Order> {
      * For the specified {@code Order}, retrieve, process and return the {@code String} to test keywords against
      * based on the provided {@code Prefix}.
      */
-    public String getTestString(Prefix prefix, Order order) {
+    public static String getTestString(Prefix prefix, Order order) {
         // Cannot use switch-case unless I edit the Prefix class...
         if (prefix.equals(PREFIX_NAME)) {
             return order.getName().fullName;
@@ -28,6 +28,10 @@ public class DeliveryDate implements Comparable<DeliveryDate> {
             + "You have entered: %1$s";
     private static final DateTimeFormatter ACCEPTABLE_FORMATS =
             DateTimeFormatter.ofPattern("[dd/MM/uuuu][dd-MM-uuuu][dd.MM.uuuu][dd MMM uuuu]");
+    private static final DateTimeFormatter SLASH_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter DASH_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+    private static final DateTimeFormatter DOT_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter DISPLAY_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
 
     public final LocalDate value;
 
@@ -42,6 +46,18 @@ public class DeliveryDate implements Comparable<DeliveryDate> {
         value = LocalDate.parse(deliveryDate, ACCEPTABLE_FORMATS);
     }
 
+    private DeliveryDate(LocalDate deliveryDate) {
+        requireNonNull(deliveryDate);
+        value = deliveryDate;
+    }
+
+    /**
+     * Returns a {@code DeliveryDate} on the given date.
+     */
+    public static DeliveryDate of(LocalDate deliveryDate) {
+        return new DeliveryDate(deliveryDate);
+    }
+
     /**
      * Returns true if a given {@code String} is a valid date X working days after current date.
      * X should be positive.
@@ -77,21 +93,16 @@ public class DeliveryDate implements Comparable<DeliveryDate> {
      * used to test against keywords from the {@code FindCommand}.
      */
     public String getTestString() {
-        DateTimeFormatter format1 = DateTimeFormatter.ofPattern("dd/MM/yyyy");
-        DateTimeFormatter format2 = DateTimeFormatter.ofPattern("dd-MM-yyyy");
-        DateTimeFormatter format3 = DateTimeFormatter.ofPattern("dd.MM.yyyy");
-        DateTimeFormatter format4 = DateTimeFormatter.ofPattern("dd MMM yyyy");
         return value.getMonth().toString() + " "
-                + format1.format(value) + " "
-                + format2.format(value) + " "
-                + format3.format(value) + " "
-                + format4.format(value) + " ";
+                + SLASH_FORMAT.format(value) + " "
+                + DASH_FORMAT.format(value) + " "
+                + DOT_FORMAT.format(value) + " "
+                + DISPLAY_FORMAT.format(value) + " ";
     }
 
     @Override
     public String toString() {
-        DateTimeFormatter toDisplay = DateTimeFormatter.ofPattern("dd MMM yyyy");
-        return toDisplay.format(value);
+        return DISPLAY_FORMAT.format(value);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.cakecollate.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents an Order's email in CakeCollate.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -28,6 +30,8 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
 
+    private static final Interner<Email> INTERNER = new Interner<>(Email::new, email -> email.value);
+
     public final String value;
 
     /**
@@ -41,11 +45,20 @@ public class Email {
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} of the given value, which is the same object for the same value.
+     *
+     * @param email A valid email.
+     */
+    public static Email of(String email) {
+        return INTERNER.intern(email);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
     @Override
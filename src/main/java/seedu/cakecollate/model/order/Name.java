@@ -3,6 +3,8 @@ package seedu.cakecollate.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents an Order's name in CakeCollate.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -18,6 +20,8 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    private static final Interner<Name> INTERNER = new Interner<>(Name::new, name -> name.fullName);
+
     public final String fullName;
 
     /**
@@ -31,11 +35,20 @@ public class Name {
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} of the given value, which is the same object for the same value.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        return INTERNER.intern(name);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
 
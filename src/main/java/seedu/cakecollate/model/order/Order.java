@@ -7,6 +7,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.cakecollate.model.tag.Tag;
@@ -14,6 +15,9 @@ import seedu.cakecollate.model.tag.Tag;
 /**
  * Represents an Order in the cakecollate.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * An order is given an {@link OrderId} when it is added to CakeCollate, unless it already has one. The ID is not
+ * part of the details of the order, so it is ignored by {@link #equals(Object)} and {@link #isSameOrder(Order)}.
  */
 public class Order implements Comparable<Order> {
 
@@ -30,6 +34,9 @@ public class Order implements Comparable<Order> {
     private final DeliveryStatus deliveryStatus;
     private final Request request;
 
+    // Surrogate key, null until the order is added to CakeCollate
+    private final OrderId id;
+
     // with default status
     /**
      * Every field must be present and not null.
@@ -48,6 +55,7 @@ public class Order implements Comparable<Order> {
         this.deliveryDate = deliveryDate;
         this.deliveryStatus = new DeliveryStatus();
         this.request = request;
+        this.id = null;
     }
 
     // with status
@@ -65,6 +73,16 @@ public class Order implements Comparable<Order> {
      */
     public Order(Name name, Phone phone, Email email, Address address, Map<OrderDescription, Integer> orderDescriptions,
                  Set<Tag> tags, DeliveryDate deliveryDate, DeliveryStatus deliveryStatus, Request request) {
+        this(name, phone, email, address, orderDescriptions, tags, deliveryDate, deliveryStatus, request, null);
+    }
+
+    /**
+     * Initialises an order with the given ID, such as an edited order that has to keep the ID of the original.
+     * @param id ID of the order, or null if it is to be given one when it is added to CakeCollate.
+     */
+    public Order(Name name, Phone phone, Email email, Address address, Map<OrderDescription, Integer> orderDescriptions,
+                 Set<Tag> tags, DeliveryDate deliveryDate, DeliveryStatus deliveryStatus, Request request,
+                 OrderId id) {
         requireAllNonNull(name, phone, email, address, orderDescriptions, tags, deliveryDate, request);
         this.name = name;
         this.phone = phone;
@@ -75,6 +93,7 @@ public class Order implements Comparable<Order> {
         this.deliveryDate = deliveryDate;
         this.deliveryStatus = deliveryStatus;
         this.request = request;
+        this.id = id;
     }
 
     public Name getName() {
@@ -121,6 +140,25 @@ public class Order implements Comparable<Order> {
         return request;
     }
 
+    /**
+     * Returns the ID of this order, which is empty if it has not been added to CakeCollate.
+     */
+    public Optional<OrderId> getId() {
+        return Optional.ofNullable(id);
+    }
+
+    /**
+     * Returns this order with the given ID.
+     */
+    Order withId(OrderId id) {
+        requireAllNonNull(id);
+        if (id.equals(this.id)) {
+            return this;
+        }
+        return new Order(name, phone, email, address, orderDescriptions, tags, deliveryDate, deliveryStatus, request,
+                id);
+    }
+
     /**
      * Returns true if both orders have the same name, address, order description and delivery date.
      * This defines a weaker notion of equality between two orders.
@@ -137,6 +175,14 @@ public class Order implements Comparable<Order> {
                 && otherOrder.getDeliveryDate().equals(getDeliveryDate());
     }
 
+    /**
+     * Returns a hash code over the fields compared by {@link #isSameOrder(Order)}.
+     * Orders that are the same order by that weaker notion of equality always have the same identity hash code.
+     */
+    public int identityHashCode() {
+        return Objects.hash(name, address, orderDescriptions, deliveryDate);
+    }
+
     /**
      * Returns true if both orders have the same identity and data fields.
      * This defines a stronger notion of equality between two orders.
@@ -0,0 +1,76 @@
+package seedu.cakecollate.model.order;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of orders by their delivery date, to find the orders delivered within a range of dates without
+ * checking every order.
+ *
+ * Orders are held by identity, as the index is kept in step with an order list holding each order instance once.
+ */
+public class OrderDateIndex {
+
+    private final NavigableMap<Long, Set<Order>> ordersByEpochDay = new TreeMap<>();
+
+    /**
+     * Adds {@code order} to the index.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        ordersByEpochDay.computeIfAbsent(getEpochDay(order), unused -> newIdentitySet()).add(order);
+    }
+
+    /**
+     * Removes {@code order} from the index.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        long epochDay = getEpochDay(order);
+        Set<Order> orders = ordersByEpochDay.get(epochDay);
+        if (orders != null && orders.remove(order) && orders.isEmpty()) {
+            ordersByEpochDay.remove(epochDay);
+        }
+    }
+
+    /**
+     * Returns the indexed orders to be delivered from {@code startDate} to {@code endDate}, both inclusive,
+     * as a set compared by identity. There are none if {@code endDate} is before {@code startDate}.
+     */
+    public Set<Order> find(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        Set<Order> matches = newIdentitySet();
+        if (endDate.isBefore(startDate)) {
+            return matches;
+        }
+        ordersByEpochDay.subMap(startDate.toEpochDay(), true, endDate.toEpochDay(), true).values()
+                .forEach(matches::addAll);
+        return matches;
+    }
+
+    /**
+     * Returns the indexed orders to be delivered before {@code date}, as a set compared by identity.
+     */
+    public Set<Order> findBefore(LocalDate date) {
+        requireNonNull(date);
+        Set<Order> matches = newIdentitySet();
+        ordersByEpochDay.headMap(date.toEpochDay(), false).values().forEach(matches::addAll);
+        return matches;
+    }
+
+    private static long getEpochDay(Order order) {
+        return order.getDeliveryDate().getValue().toEpochDay();
+    }
+
+    private static Set<Order> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
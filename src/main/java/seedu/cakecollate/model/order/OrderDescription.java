@@ -3,6 +3,7 @@ package seedu.cakecollate.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
 import seedu.cakecollate.model.orderitem.Type;
 
 public class OrderDescription {
@@ -14,6 +15,9 @@ public class OrderDescription {
 
     public static final String VALIDATION_REGEX = Type.VALIDATION_REGEX;
 
+    private static final Interner<OrderDescription> INTERNER =
+            new Interner<>(OrderDescription::new, description -> description.value);
+
     public final String value;
 
     /**
@@ -27,11 +31,20 @@ public class OrderDescription {
         this.value = orderDescription;
     }
 
+    /**
+     * Returns an {@code OrderDescription} of the given value, which is the same object for the same value.
+     *
+     * @param orderDescription A valid order description.
+     */
+    public static OrderDescription of(String orderDescription) {
+        return INTERNER.intern(orderDescription);
+    }
+
     /**
      * Returns true if a given string is a order desecription.
      */
     public static boolean isValidOrderDescription(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
     @Override
@@ -0,0 +1,67 @@
+package seedu.cakecollate.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
+
+/**
+ * Represents the ID of an Order in CakeCollate.
+ * An order keeps its ID when it is edited, and no two orders in CakeCollate have the same ID.
+ * Guarantees: immutable; is valid as declared in {@link #isValidOrderId(String)}
+ */
+public class OrderId {
+
+    public static final String PREFIX = "#";
+    public static final String MESSAGE_CONSTRAINTS = "Order IDs should be " + PREFIX + " followed by a positive "
+            + "integer, e.g. " + PREFIX + "12";
+
+    /** At most 18 digits, so that every valid ID fits in a {@code long}. */
+    private static final String VALIDATION_REGEX = PREFIX + "0*[1-9][0-9]{0,17}";
+
+    public final long value;
+
+    /**
+     * Constructs an {@code OrderId}.
+     *
+     * @param value A positive number.
+     */
+    public OrderId(long value) {
+        checkArgument(value > 0, MESSAGE_CONSTRAINTS);
+        this.value = value;
+    }
+
+    /**
+     * Constructs an {@code OrderId} from its text, such as {@code #12}.
+     *
+     * @param orderId A valid order ID.
+     */
+    public OrderId(String orderId) {
+        requireNonNull(orderId);
+        checkArgument(isValidOrderId(orderId), MESSAGE_CONSTRAINTS);
+        value = Long.parseLong(orderId.substring(PREFIX.length()));
+    }
+
+    /**
+     * Returns true if a given string is a valid order ID.
+     */
+    public static boolean isValidOrderId(String test) {
+        return test.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public String toString() {
+        return PREFIX + value;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrderId // instanceof handles nulls
+                && value == ((OrderId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+}
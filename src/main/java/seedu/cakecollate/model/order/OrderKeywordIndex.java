@@ -0,0 +1,212 @@
+package seedu.cakecollate.model.order;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ALL;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_DELIVERY_STATUS;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ORDER_DESCRIPTION;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_REQUEST;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.cakecollate.logic.parser.Prefix;
+
+/**
+ * An inverted index from the keywords searched by {@link ContainsKeywordsPredicate} to the orders they match.
+ *
+ * For each field, the index maps each distinct lower-cased field value to the orders having it, and each trigram
+ * to the distinct values containing it. A keyword of three or more characters only has to be checked against the
+ * values containing all of its trigrams, and a shorter keyword against the distinct values of the field, instead of
+ * against every order. Keywords are matched by the same case-insensitive substring test as
+ * {@link ContainsKeywordsPredicate}. Orders are held by identity, as the index is kept in step with an order list
+ * holding each order instance once.
+ */
+public class OrderKeywordIndex {
+
+    /** The fields searched by {@link ContainsKeywordsPredicate} when no prefix is given. */
+    public static final List<Prefix> INDEXED_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_ORDER_DESCRIPTION, PREFIX_TAG, PREFIX_DATE, PREFIX_REQUEST, PREFIX_DELIVERY_STATUS);
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<Prefix, FieldIndex> fieldIndices = new LinkedHashMap<>();
+
+    /**
+     * Creates an empty {@code OrderKeywordIndex}.
+     */
+    public OrderKeywordIndex() {
+        INDEXED_PREFIXES.forEach(prefix -> fieldIndices.put(prefix, new FieldIndex()));
+    }
+
+    /**
+     * Adds {@code order} to the index.
+     */
+    public void add(Order order) {
+        requireNonNull(order);
+        fieldIndices.forEach((prefix, fieldIndex) -> getFieldValues(prefix, order)
+                .forEach(value -> fieldIndex.add(value, order)));
+    }
+
+    /**
+     * Removes {@code order} from the index.
+     */
+    public void remove(Order order) {
+        requireNonNull(order);
+        fieldIndices.forEach((prefix, fieldIndex) -> getFieldValues(prefix, order)
+                .forEach(value -> fieldIndex.remove(value, order)));
+    }
+
+    /**
+     * Returns the indexed orders that satisfy {@code predicate}, as a set compared by identity.
+     */
+    public Set<Order> find(ContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Order> matches = null;
+        for (Map.Entry<Prefix, List<String>> entry : predicate.getKeywords().entrySet()) {
+            Collection<FieldIndex> searchedFields = getSearchedFields(entry.getKey());
+
+            // an order matches a prefix if any of its keywords is in any of the searched fields
+            Set<Order> prefixMatches = newIdentitySet();
+            for (String keyword : entry.getValue()) {
+                String preppedKeyword = keyword.trim().toLowerCase();
+                searchedFields.forEach(fieldIndex -> fieldIndex.find(preppedKeyword, prefixMatches));
+            }
+
+            // and it has to match every prefix
+            if (matches == null) {
+                matches = prefixMatches;
+            } else {
+                matches.retainAll(prefixMatches);
+            }
+        }
+        return matches == null ? newIdentitySet() : matches;
+    }
+
+    private Collection<FieldIndex> getSearchedFields(Prefix prefix) {
+        if (prefix.equals(PREFIX_ALL)) {
+            return fieldIndices.values();
+        }
+        FieldIndex fieldIndex = fieldIndices.get(prefix);
+        return fieldIndex == null ? List.of() : List.of(fieldIndex);
+    }
+
+    /**
+     * Returns the lower-cased values of the field of {@code order} given by {@code prefix}.
+     * A keyword without whitespace is in the test string of the field if and only if it is in one of these values.
+     */
+    private static List<String> getFieldValues(Prefix prefix, Order order) {
+        if (prefix.equals(PREFIX_ORDER_DESCRIPTION)) {
+            return order.getOrderDescriptions().keySet().stream()
+                    .map(orderDescription -> orderDescription.toString().toLowerCase())
+                    .collect(Collectors.toList());
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return order.getTags().stream()
+                    .map(tag -> tag.tagName.toLowerCase())
+                    .collect(Collectors.toList());
+        } else {
+            return List.of(ContainsKeywordsPredicate.getTestString(prefix, order).toLowerCase());
+        }
+    }
+
+    private static Set<Order> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * The index of a single field.
+     */
+    private static class FieldIndex {
+        private final Map<String, Set<Order>> ordersByValue = new HashMap<>();
+        private final Map<String, Set<String>> valuesByGram = new HashMap<>();
+
+        void add(String value, Order order) {
+            Set<Order> orders = ordersByValue.get(value);
+            if (orders == null) {
+                orders = newIdentitySet();
+                ordersByValue.put(value, orders);
+                for (String gram : getGrams(value)) {
+                    valuesByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(value);
+                }
+            }
+            orders.add(order);
+        }
+
+        void remove(String value, Order order) {
+            Set<Order> orders = ordersByValue.get(value);
+            if (orders == null || !orders.remove(order) || !orders.isEmpty()) {
+                return;
+            }
+            ordersByValue.remove(value);
+            for (String gram : getGrams(value)) {
+                Set<String> values = valuesByGram.get(gram);
+                values.remove(value);
+                if (values.isEmpty()) {
+                    valuesByGram.remove(gram);
+                }
+            }
+        }
+
+        /**
+         * Adds the orders with a value containing {@code keyword} to {@code matches}.
+         *
+         * @param keyword lower-cased, and without surrounding whitespace.
+         */
+        void find(String keyword, Set<Order> matches) {
+            for (String value : getCandidateValues(keyword)) {
+                if (value.contains(keyword)) {
+                    matches.addAll(ordersByValue.get(value));
+                }
+            }
+        }
+
+        /**
+         * Returns the values that may contain {@code keyword}, by intersecting the values of all its trigrams.
+         */
+        private Collection<String> getCandidateValues(String keyword) {
+            if (keyword.length() < GRAM_LENGTH) {
+                return ordersByValue.keySet();
+            }
+
+            List<Set<String>> postings = new ArrayList<>();
+            for (String gram : getGrams(keyword)) {
+                Set<String> values = valuesByGram.get(gram);
+                if (values == null) {
+                    return List.of();
+                }
+                postings.add(values);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+
+            Set<String> candidates = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+                candidates.retainAll(postings.get(i));
+            }
+            return candidates;
+        }
+
+        private static Set<String> getGrams(String value) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + GRAM_LENGTH <= value.length(); i++) {
+                grams.add(value.substring(i, i + GRAM_LENGTH));
+            }
+            return grams;
+        }
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.cakecollate.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents an Order's phone number in the cakecollate.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -16,6 +18,8 @@ public class Phone {
     public static final String MESSAGE_EMPTY = "Phone number cannot be blank.";
     public static final String MESSAGE_OVERFLOW = "Phone has a size limit of 20 digits.";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final Interner<Phone> INTERNER = new Interner<>(Phone::new, phone -> phone.value);
+
     public final String value;
 
     /**
@@ -29,11 +33,20 @@ public class Phone {
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} of the given value, which is the same object for the same value.
+     *
+     * @param phone A valid phone number.
+     */
+    public static Phone of(String phone) {
+        return INTERNER.intern(phone);
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
     @Override
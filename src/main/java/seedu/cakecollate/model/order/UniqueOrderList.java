@@ -1,12 +1,24 @@
 package seedu.cakecollate.model.order;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.cakecollate.model.order.exceptions.DuplicateOrderException;
 import seedu.cakecollate.model.order.exceptions.OrderNotFoundException;
@@ -18,22 +30,74 @@ import seedu.cakecollate.model.order.exceptions.OrderNotFoundException;
  * unique in terms of identity in the UniqueOrderList. However, the removal of an order uses Order#equals(Object) so
  * as to ensure that the order with exactly the same fields will be removed.
  *
+ * The identities of the orders in the list are also kept in a hash set, so that duplicate checks do not need to
+ * scan the whole list.
+ *
+ * The list is always kept sorted as defined by {@code Order#compareTo(Order)}, with orders that compare equal
+ * sorted by their IDs, so that an order removed and added back, e.g. by an undo, returns to the same position.
+ * Adding or updating an order inserts it at its sorted position instead of re-sorting the whole list, and an order
+ * to update or remove is found by a binary search over the orders with the same delivery status and date instead
+ * of a scan of the list.
+ *
+ * Every order in the list has a unique {@link OrderId}. An added order keeps its ID if it has one that is not in
+ * use, and is otherwise given the next ID, which is after the IDs of all the orders ever in the list, so that the
+ * ID of a deleted order is never reused. An edited order takes the ID of the order it replaces. Orders are also
+ * kept in a map by their ID, so that they can be looked up in constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Order#isSameOrder(Order)
  */
 public class UniqueOrderList implements Iterable<Order> {
 
-    private final ObservableList<Order> internalList = FXCollections.observableArrayList();
+    /**
+     * Largest number of orders changed by {@link #applyChanges} that are removed, replaced and inserted in place.
+     * Larger changes rebuild and re-sort the list, which takes time in proportion to its length once, rather than
+     * for each order.
+     */
+    public static final int MAX_ORDERS_CHANGED_IN_PLACE = 64;
+
+    /** The order of the orders in the list, in which every order has an ID. */
+    private static final Comparator<Order> LIST_ORDER =
+            Comparator.<Order>naturalOrder().thenComparingLong(order -> getId(order).value);
+
+    private final OrderArrayList internalList = new OrderArrayList();
     private final ObservableList<Order> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<OrderIdentity> identities = new HashSet<>();
+    private final Map<OrderId, Order> ordersById = new HashMap<>();
+    private long nextId = 1;
 
     /**
      * Returns true if the list contains an equivalent order as the given argument.
      */
     public boolean contains(Order toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameOrder);
+        return identities.contains(new OrderIdentity(toCheck));
+    }
+
+    /**
+     * Returns the order in the list with the given {@code id}, if any.
+     */
+    public Optional<Order> get(OrderId id) {
+        requireNonNull(id);
+        return Optional.ofNullable(ordersById.get(id));
+    }
+
+    /**
+     * Returns the ID that the next order added without an ID of its own is given.
+     */
+    public long getNextId() {
+        return nextId;
+    }
+
+    /**
+     * Makes the next order added without an ID of its own get {@code nextId}, unless an order in the list, or an
+     * order that was in the list, has that ID or a larger one.
+     */
+    public void setNextId(long nextId) {
+        checkArgument(nextId > 0, OrderId.MESSAGE_CONSTRAINTS);
+        this.nextId = Math.max(this.nextId, nextId);
     }
 
     /**
@@ -45,7 +109,9 @@ public class UniqueOrderList implements Iterable<Order> {
         if (contains(toAdd)) {
             throw new DuplicateOrderException();
         }
-        internalList.add(toAdd);
+        identities.add(new OrderIdentity(toAdd));
+        Order order = assignId(toAdd);
+        internalList.add(insertionIndexOf(order), order);
     }
 
     /**
@@ -56,7 +122,7 @@ public class UniqueOrderList implements Iterable<Order> {
     public void setOrder(Order target, Order editedOrder) {
         requireAllNonNull(target, editedOrder);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new OrderNotFoundException();
         }
@@ -65,7 +131,108 @@ public class UniqueOrderList implements Iterable<Order> {
             throw new DuplicateOrderException();
         }
 
-        internalList.set(index, editedOrder);
+        Order order = editedOrder.withId(getId(internalList.get(index)));
+        identities.remove(new OrderIdentity(target));
+        identities.add(new OrderIdentity(order));
+        ordersById.put(getId(order), order);
+        replaceAt(index, order);
+    }
+
+    /**
+     * Removes the orders in {@code toRemove}, replaces each order that is a key of {@code editedOrders} with the
+     * order it maps to, and adds the orders in {@code toAdd}, as a single change to the list.
+     * The orders to remove and the keys must be orders in the list, or equal to them, and no order may be both
+     * removed and replaced.
+     * The order identities of the edited and added orders must not be the same as each other, or another order
+     * remaining in the list.
+     * All the changes are checked before any is made, so the list is left unchanged if any of them is invalid.
+     * Up to {@link #MAX_ORDERS_CHANGED_IN_PLACE} orders are changed in place, so that listeners are told of only
+     * the orders changed, and larger changes replace the contents of the list.
+     */
+    public void applyChanges(Collection<Order> toRemove, Map<Order, Order> editedOrders, Collection<Order> toAdd) {
+        requireAllNonNull(toRemove, editedOrders, toAdd);
+        requireAllNonNull(toRemove);
+        requireAllNonNull(editedOrders.keySet());
+        requireAllNonNull(editedOrders.values());
+        requireAllNonNull(toAdd);
+        if (toRemove.isEmpty() && editedOrders.isEmpty() && toAdd.isEmpty()) {
+            return;
+        }
+
+        // the orders given may be copies of the stored orders, which carry the order IDs
+        Set<Order> ordersToRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Order order : toRemove) {
+            ordersToRemove.add(getStoredOrder(order));
+        }
+        // the edited orders take the IDs of the orders they replace
+        Map<Order, Order> editedOrdersByTarget = new IdentityHashMap<>();
+        for (Map.Entry<Order, Order> entry : editedOrders.entrySet()) {
+            Order target = getStoredOrder(entry.getKey());
+            if (ordersToRemove.contains(target)) {
+                throw new OrderNotFoundException();
+            }
+            editedOrdersByTarget.put(target, entry.getValue().withId(getId(target)));
+        }
+
+        List<Order> replacedOrders = new ArrayList<>(ordersToRemove);
+        replacedOrders.addAll(editedOrdersByTarget.keySet());
+        List<Order> newOrders = new ArrayList<>(editedOrdersByTarget.values());
+        newOrders.addAll(toAdd);
+        replaceIdentities(replacedOrders, newOrders);
+
+        ordersToRemove.forEach(order -> ordersById.remove(getId(order)));
+        editedOrdersByTarget.values().forEach(order -> ordersById.put(getId(order), order));
+        if (ordersToRemove.size() + editedOrdersByTarget.size() + toAdd.size() <= MAX_ORDERS_CHANGED_IN_PLACE) {
+            internalList.changeAtOnce(() -> changeInPlace(ordersToRemove, editedOrdersByTarget, toAdd));
+            return;
+        }
+
+        List<Order> updatedOrders = new ArrayList<>(internalList.size() + toAdd.size());
+        for (Order order : internalList) {
+            Order editedOrder = editedOrdersByTarget.get(order);
+            if (editedOrder != null) {
+                updatedOrders.add(editedOrder);
+            } else if (!ordersToRemove.contains(order)) {
+                updatedOrders.add(order);
+            }
+        }
+        toAdd.forEach(order -> updatedOrders.add(assignId(order)));
+        // the list is mostly sorted already, so sorting it again takes close to linear time
+        updatedOrders.sort(LIST_ORDER);
+        internalList.setAll(updatedOrders);
+    }
+
+    /**
+     * Removes the stored orders {@code toRemove}, replaces each stored order that is a key of
+     * {@code editedOrdersByTarget} with the order it maps to, and adds the orders {@code toAdd}, each at its sorted
+     * position. The identities and IDs of the removed and edited orders must have been updated already.
+     */
+    private void changeInPlace(Set<Order> toRemove, Map<Order, Order> editedOrdersByTarget,
+            Collection<Order> toAdd) {
+        for (Order order : toRemove) {
+            internalList.remove(indexOf(order));
+        }
+        for (Map.Entry<Order, Order> entry : editedOrdersByTarget.entrySet()) {
+            replaceAt(indexOf(entry.getKey()), entry.getValue());
+        }
+        for (Order order : toAdd) {
+            Order orderWithId = assignId(order);
+            internalList.add(insertionIndexOf(orderWithId), orderWithId);
+        }
+    }
+
+    /**
+     * Replaces the order at {@code index} with {@code order}, which has an ID, moving it to keep the list sorted.
+     * A move is a single change, so that the order stays selected in views of the list.
+     */
+    private void replaceAt(int index, Order order) {
+        if (isSortedAt(index, order)) {
+            internalList.set(index, order);
+            return;
+        }
+        int insertionIndex = insertionIndexOf(order);
+        // the order at index is moved out of the way, so the orders up to the insertion index move up by one
+        internalList.moveAndSet(index, insertionIndex > index ? insertionIndex - 1 : insertionIndex, order);
     }
 
     /**
@@ -74,27 +241,63 @@ public class UniqueOrderList implements Iterable<Order> {
      */
     public void remove(Order toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new OrderNotFoundException();
         }
+        Order removedOrder = internalList.remove(index);
+        identities.remove(new OrderIdentity(removedOrder));
+        ordersById.remove(getId(removedOrder));
     }
 
     public void setOrders(UniqueOrderList replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
+        ordersById.clear();
+        ordersById.putAll(replacement.ordersById);
+        nextId = replacement.nextId;
         internalList.setAll(replacement.internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code orders}.
      * {@code orders} must not contain duplicate orders.
+     * The orders keep their IDs, other than those without one or with the ID of an earlier order in {@code orders},
+     * which are given new ones. IDs of orders replaced are not given out again.
      */
     public void setOrders(List<Order> orders) {
         requireAllNonNull(orders);
-        if (!ordersAreUnique(orders)) {
+        Set<OrderIdentity> replacementIdentities = toIdentities(orders);
+        if (replacementIdentities == null) {
             throw new DuplicateOrderException();
         }
 
-        internalList.setAll(orders);
+        // the new IDs have to come after all the kept ones
+        long largestKeptId = 0;
+        for (Order order : orders) {
+            largestKeptId = Math.max(largestKeptId, order.getId().map(id -> id.value).orElse(0L));
+        }
+
+        ordersById.clear();
+        nextId = Math.max(nextId, largestKeptId + 1);
+        List<Order> sortedOrders = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            Optional<OrderId> id = order.getId();
+            if (id.isPresent() && !ordersById.containsKey(id.get())) {
+                ordersById.put(id.get(), order);
+                sortedOrders.add(order);
+            } else {
+                Order orderWithId = order.withId(new OrderId(nextId++));
+                ordersById.put(getId(orderWithId), orderWithId);
+                sortedOrders.add(orderWithId);
+            }
+        }
+        sortedOrders.sort(LIST_ORDER);
+
+        identities.clear();
+        identities.addAll(replacementIdentities);
+        internalList.setAll(sortedOrders);
     }
 
     /**
@@ -122,24 +325,243 @@ public class UniqueOrderList implements Iterable<Order> {
     }
 
     /**
-     * Returns true if {@code orders} contains only unique orders.
+     * Returns the identities of {@code orders}, or null if {@code orders} contains duplicate orders.
      */
-    private boolean ordersAreUnique(List<Order> orders) {
-        for (int i = 0; i < orders.size() - 1; i++) {
-            for (int j = i + 1; j < orders.size(); j++) {
-                if (orders.get(i).isSameOrder(orders.get(j))) {
-                    return false;
-                }
+    private static Set<OrderIdentity> toIdentities(List<Order> orders) {
+        Set<OrderIdentity> orderIdentities = new HashSet<>();
+        for (Order order : orders) {
+            if (!orderIdentities.add(new OrderIdentity(order))) {
+                return null;
+            }
+        }
+        return orderIdentities;
+    }
+
+    /**
+     * Replaces the identities of {@code oldOrders} with those of {@code newOrders}.
+     * Leaves the identities unchanged if that would make two orders in the list the same.
+     */
+    private void replaceIdentities(List<Order> oldOrders, List<Order> newOrders) {
+        oldOrders.forEach(order -> identities.remove(new OrderIdentity(order)));
+        List<OrderIdentity> addedIdentities = new ArrayList<>();
+        for (Order order : newOrders) {
+            OrderIdentity identity = new OrderIdentity(order);
+            if (!identities.add(identity)) {
+                identities.removeAll(addedIdentities);
+                oldOrders.forEach(oldOrder -> identities.add(new OrderIdentity(oldOrder)));
+                throw new DuplicateOrderException();
+            }
+            addedIdentities.add(identity);
+        }
+    }
+
+    /**
+     * Returns {@code order}, with the next unused ID unless it has an ID not used by another order in the list,
+     * and records it under its ID.
+     */
+    private Order assignId(Order order) {
+        Optional<OrderId> id = order.getId();
+        Order orderWithId = id.isPresent() && !ordersById.containsKey(id.get())
+                ? order
+                : order.withId(new OrderId(nextId));
+        long idValue = getId(orderWithId).value;
+        nextId = Math.max(nextId, idValue + 1);
+        ordersById.put(getId(orderWithId), orderWithId);
+        return orderWithId;
+    }
+
+    /**
+     * Returns the ID of {@code order}, which must be an order in the list.
+     */
+    private static OrderId getId(Order order) {
+        return order.getId().orElseThrow(() -> new AssertionError("orders in the list always have an ID"));
+    }
+
+    /**
+     * Returns the index of {@code order} in the list, or -1 if it is not in the list.
+     * The order itself is looked for among the orders that compare equal to it, and an equal order otherwise.
+     */
+    private int indexOf(Order order) {
+        int equalIndex = -1;
+        for (int i = lowerBoundOf(order); i < internalList.size() && internalList.get(i).compareTo(order) == 0; i++) {
+            Order candidate = internalList.get(i);
+            if (candidate == order) {
+                return i;
+            }
+            if (equalIndex == -1 && candidate.equals(order)) {
+                equalIndex = i;
+            }
+        }
+        return equalIndex;
+    }
+
+    /**
+     * Returns the order in the list that is {@code order} itself, or else equal to it.
+     *
+     * @throws OrderNotFoundException if there is no such order in the list.
+     */
+    private Order getStoredOrder(Order order) {
+        Optional<OrderId> id = order.getId();
+        if (id.isPresent() && ordersById.get(id.get()) == order) {
+            return order;
+        }
+        int index = indexOf(order);
+        if (index == -1) {
+            throw new OrderNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the index of the first order in the list that does not compare less than {@code order}.
+     */
+    private int lowerBoundOf(Order order) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(order) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
         }
-        return true;
+        return low;
+    }
+
+    /**
+     * Returns the index at which {@code order}, which has an ID, should be inserted to keep the list sorted.
+     */
+    private int insertionIndexOf(Order order) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (LIST_ORDER.compare(internalList.get(mid), order) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns true if {@code order} can replace the order at {@code index} without breaking the sorted order.
+     */
+    private boolean isSortedAt(int index, Order order) {
+        return (index == 0 || LIST_ORDER.compare(internalList.get(index - 1), order) <= 0)
+                && (index == internalList.size() - 1 || LIST_ORDER.compare(order, internalList.get(index + 1)) <= 0);
     }
 
     /**
-     * Sorts date from earliest to latest, as defined by the compareTo in the delivery date class
+     * An observable array list of orders that can make several changes as a single change to its listeners.
      */
-    public void sortOrdersByDateAndStatus() {
-        internalList.sort(Order::compareTo);
+    private static class OrderArrayList extends ModifiableObservableListBase<Order> {
+        private final List<Order> orders = new ArrayList<>();
+
+        /**
+         * Runs {@code changes}, which change this list, and tells the listeners of all of them as a single change.
+         */
+        void changeAtOnce(Runnable changes) {
+            beginChange();
+            try {
+                changes.run();
+            } finally {
+                endChange();
+            }
+        }
+
+        /**
+         * Replaces the contents of the list with {@code replacement} in one go, instead of one order at a time.
+         */
+        @Override
+        public boolean setAll(Collection<? extends Order> replacement) {
+            beginChange();
+            try {
+                List<Order> removed = new ArrayList<>(orders);
+                orders.clear();
+                orders.addAll(replacement);
+                modCount++;
+                nextReplace(0, orders.size(), removed);
+            } finally {
+                endChange();
+            }
+            return true;
+        }
+
+        /**
+         * Moves the order at {@code from} to {@code to} and replaces it with {@code order}, as a permutation of the
+         * orders in between followed by a replacement of the order moved, in a single change. Listeners see the
+         * order replaced at its new position, and views of the list keep it selected.
+         */
+        void moveAndSet(int from, int to, Order order) {
+            beginChange();
+            try {
+                int low = Math.min(from, to);
+                int high = Math.max(from, to);
+                int[] permutation = new int[high - low + 1];
+                for (int i = low; i <= high; i++) {
+                    permutation[i - low] = i == from ? to : from < to ? i - 1 : i + 1;
+                }
+                orders.add(to, orders.remove(from));
+                nextPermutation(low, high + 1, permutation);
+
+                Order replaced = orders.set(to, order);
+                nextSet(to, replaced);
+            } finally {
+                endChange();
+            }
+        }
+
+        @Override
+        public Order get(int index) {
+            return orders.get(index);
+        }
+
+        @Override
+        public int size() {
+            return orders.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Order order) {
+            orders.add(index, order);
+        }
+
+        @Override
+        protected Order doSet(int index, Order order) {
+            return orders.set(index, order);
+        }
+
+        @Override
+        protected Order doRemove(int index) {
+            return orders.remove(index);
+        }
     }
 
+    /**
+     * Wraps an {@code Order} so that it is hashed and compared by {@link Order#isSameOrder(Order)}.
+     */
+    private static class OrderIdentity {
+        private final Order order;
+        private final int hash;
+
+        OrderIdentity(Order order) {
+            this.order = order;
+            this.hash = order.identityHashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof OrderIdentity
+                    && order.isSameOrder(((OrderIdentity) other).order));
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -4,12 +4,17 @@ import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents an OrderItem.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class OrderItem {
 
+    private static final Interner<OrderItem> INTERNER =
+            new Interner<>(type -> new OrderItem(Type.of(type)), orderItem -> orderItem.type.value);
+
     private final Type type;
 
     /**
@@ -22,6 +27,15 @@ public class OrderItem {
         this.type = type;
     }
 
+    /**
+     * Returns an {@code OrderItem} of the given type, which is the same object for the same type.
+     *
+     * @param type A valid type.
+     */
+    public static OrderItem of(String type) {
+        return INTERNER.intern(type);
+    }
+
     public Type getType() {
         return type;
     }
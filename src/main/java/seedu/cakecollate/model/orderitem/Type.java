@@ -3,6 +3,8 @@ package seedu.cakecollate.model.orderitem;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents the type of cake of an order item. Type refers to the description of the order item.
  * Guarantees: immutable; is valid as declared in {@link #isValidType(String)}
@@ -22,6 +24,8 @@ public class Type {
      */
     public static final String VALIDATION_REGEX = "^([\\p{Alpha}]|([\\p{Alpha}][\\p{Alpha} ]*))$";
 
+    private static final Interner<Type> INTERNER = new Interner<>(Type::new, type -> type.value);
+
     /**
      * Holds the value of the {@code Type} as specified by the user.
      */
@@ -38,6 +42,15 @@ public class Type {
         value = type;
     }
 
+    /**
+     * Returns a {@code Type} of the given value, which is the same object for the same value.
+     *
+     * @param type A valid type.
+     */
+    public static Type of(String type) {
+        return INTERNER.intern(type);
+    }
+
 
     /**
      * Checks whether the string input by the user is a valid {@code Type} or not. For the string to be valid it must
@@ -50,7 +63,7 @@ public class Type {
         if (test.length() > 0) {
             assert (test.charAt(test.length() - 1) != ' ');
         }
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.cakecollate.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
 
+import seedu.cakecollate.commons.util.Interner;
+
 /**
  * Represents a Tag in the cakecollate.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -13,6 +15,8 @@ public class Tag {
     public static final String MESSAGE_OVERFLOW = "Tags have a size limit of 30 characters.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Interner<Tag> INTERNER = new Interner<>(Tag::new, tag -> tag.tagName);
+
     public final String tagName;
 
     /**
@@ -26,11 +30,20 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a {@code Tag} of the given value, which is the same object for the same value.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return INTERNER.contains(test) || test.matches(VALIDATION_REGEX);
     }
 
     @Override
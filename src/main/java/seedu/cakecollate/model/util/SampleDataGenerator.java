@@ -0,0 +1,247 @@
+package seedu.cakecollate.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.cakecollate.model.OrderItems;
+import seedu.cakecollate.model.ReadOnlyOrderItems;
+import seedu.cakecollate.model.order.Address;
+import seedu.cakecollate.model.order.DeliveryDate;
+import seedu.cakecollate.model.order.DeliveryStatus;
+import seedu.cakecollate.model.order.Email;
+import seedu.cakecollate.model.order.Name;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
+import seedu.cakecollate.model.order.Phone;
+import seedu.cakecollate.model.order.Request;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.model.orderitem.OrderItem;
+import seedu.cakecollate.model.tag.Tag;
+
+/**
+ * Generates any number of realistic orders for load testing, such as a book of a million orders.
+ *
+ * The orders only depend on the number of orders, the seed and the date taken as today, so the same arguments
+ * always give the same orders. They are generated one at a time as they are iterated, so a book of any size can be
+ * written out without holding its orders in memory. The orders are spread evenly over the days from
+ * {@link #YEARS_OF_HISTORY} years before today to {@link #DAYS_AHEAD} days after it, and are all different orders:
+ * <ul>
+ *     <li>Customers order again and again, the most regular ones far more often than the others.</li>
+ *     <li>Cakes are taken from a menu of {@link #CAKES_ON_MENU} cakes, the most popular ones far more often.</li>
+ *     <li>Orders have up to three cakes and two tags, and one in five has a request.</li>
+ *     <li>One in twenty orders is cancelled. The others are delivered if their delivery date is before today, and
+ *     undelivered otherwise.</li>
+ * </ul>
+ * The order IDs are numbered from 1 in the order in which the orders are generated.
+ */
+public class SampleDataGenerator implements Iterable<Order> {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final int YEARS_OF_HISTORY = 3;
+    public static final int DAYS_AHEAD = 90;
+    public static final int CAKES_ON_MENU = 20;
+
+    /** Average number of orders of a customer. */
+    private static final int ORDERS_PER_CUSTOMER = 5;
+    /** Number of times a customer is drawn before one who has no order on that day yet is looked up instead. */
+    private static final int MAX_CUSTOMER_DRAWS = 8;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Hui Min",
+        "Kumar", "Siti", "Wei Jie", "Priya", "Jun Hao", "Nurul", "Marcus", "Mei Ling", "Ahmad", "Grace", "Ravi",
+        "Xin Yi", "Daniel"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh", "Teo",
+        "Yeoh", "Balakrishnan", "Ibrahim", "Rahman", "Kumar", "Pillai", "Oliveiro", "Li", "Chen", "Yu"};
+    private static final String[] STREETS = {"Geylang Street", "Serangoon Gardens Street", "Ang Mo Kio Avenue",
+        "Tampines Street", "Aljunied Street", "Bedok North Street", "Jurong West Avenue", "Woodlands Drive",
+        "Clementi Avenue", "Toa Payoh Lorong"};
+    /** The menu, from the most popular cake to the least popular one. */
+    private static final String[] CAKES = {"Chocolate Cake", "Black Forest Cake", "Strawberry Cake",
+        "Red Velvet Cake", "Cheese Cake", "Vanilla Cake", "Mango Cake", "Durian Cake", "Oreo Cheese Cake",
+        "Chocolate Vanilla Cake", "Berries Cake", "Butterscotch Cake", "Pandan Cake", "Tiramisu Cake",
+        "Banana Cake", "Lemon Cake", "Carrot Cake", "Coffee Cake", "Matcha Cake", "Kiwi Cake"};
+    /** The tags, from the most used tag to the least used one. */
+    private static final String[] TAGS = {"birthday", "friends", "family", "corporate", "anniversary", "wedding",
+        "urgent", "colleagues"};
+    private static final String[] REQUESTS = {"Less sugar", "No nuts, customer is allergic.",
+        "Write Happy Birthday on the cake.", "Add candles.", "Deliver before noon.", "Eggless please."};
+
+    private final int orderCount;
+    private final long seed;
+    private final LocalDate today;
+    private final LocalDate firstDeliveryDate;
+    private final int deliveryDayCount;
+    private final int customerCount;
+    private final Zipf customerRanks;
+
+    /**
+     * Creates a generator of {@code orderCount} orders.
+     *
+     * @param seed Seed of the pseudorandom numbers that make up the orders.
+     * @param today The date taken as today, which decides the delivery dates and statuses of the orders.
+     */
+    public SampleDataGenerator(int orderCount, long seed, LocalDate today) {
+        requireNonNull(today);
+        checkArgument(orderCount >= 0, "The number of orders cannot be negative.");
+        this.orderCount = orderCount;
+        this.seed = seed;
+        this.today = today;
+        firstDeliveryDate = today.minusYears(YEARS_OF_HISTORY);
+        deliveryDayCount = (int) (today.plusDays(DAYS_AHEAD).toEpochDay() - firstDeliveryDate.toEpochDay()) + 1;
+
+        // at least twice as many customers as orders on a day, so that no customer orders twice on the same day
+        int maxOrdersOnADay = (orderCount + deliveryDayCount - 1) / deliveryDayCount;
+        customerCount = Math.max(orderCount / ORDERS_PER_CUSTOMER, 2 * maxOrdersOnADay);
+        customerRanks = new Zipf(customerCount, 0.6);
+    }
+
+    public int getOrderCount() {
+        return orderCount;
+    }
+
+    /**
+     * Returns an iterator that generates the orders one at a time, in the same sequence every time.
+     */
+    @Override
+    public Iterator<Order> iterator() {
+        return new OrderIterator();
+    }
+
+    /**
+     * Returns all the orders in a list.
+     */
+    public List<Order> generateOrders() {
+        List<Order> orders = new ArrayList<>(orderCount);
+        forEach(orders::add);
+        return orders;
+    }
+
+    /**
+     * Returns the order items of the cakes on the menu, which include the order descriptions of all the orders.
+     */
+    public static ReadOnlyOrderItems getOrderItems() {
+        OrderItems orderItems = new OrderItems();
+        for (String cake : CAKES) {
+            orderItems.addOrderItem(OrderItem.of(cake));
+        }
+        return orderItems;
+    }
+
+    /**
+     * Generates the orders in sequence, keeping track of the customers who already have an order on the current
+     * delivery date.
+     */
+    private class OrderIterator implements Iterator<Order> {
+        private final Random random = new Random(seed);
+        private final Zipf cakeRanks = new Zipf(CAKES_ON_MENU, 1.1);
+        private final Set<Integer> customersOfTheDay = new HashSet<>();
+        private long day = -1;
+        private int next;
+
+        @Override
+        public boolean hasNext() {
+            return next < orderCount;
+        }
+
+        @Override
+        public Order next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            long orderDay = (long) next * deliveryDayCount / orderCount;
+            if (orderDay != day) {
+                day = orderDay;
+                customersOfTheDay.clear();
+            }
+            next++;
+            return generateOrder(LocalDate.ofEpochDay(firstDeliveryDate.toEpochDay() + day), drawCustomer());
+        }
+
+        private int drawCustomer() {
+            int customer = customerRanks.sample(random);
+            for (int i = 1; i < MAX_CUSTOMER_DRAWS && customersOfTheDay.contains(customer); i++) {
+                customer = customerRanks.sample(random);
+            }
+            while (!customersOfTheDay.add(customer)) {
+                customer = (customer + 1) % customerCount;
+            }
+            return customer;
+        }
+
+        private Order generateOrder(LocalDate deliveryDate, int customer) {
+            // the details of a customer are the same in all their orders
+            Random customerRandom = new Random(seed ^ (customer * 0x9E3779B97F4A7C15L));
+            String firstName = pick(customerRandom, FIRST_NAMES);
+            String lastName = pick(customerRandom, LAST_NAMES);
+            Name name = Name.of(firstName + " " + lastName);
+            Phone phone = Phone.of(Integer.toString((customerRandom.nextBoolean() ? 80000000 : 90000000)
+                    + customerRandom.nextInt(10000000)));
+            Email email = Email.of((firstName + "." + lastName).replace(" ", "").toLowerCase() + customer
+                    + "@example.com");
+            Address address = Address.of("Blk " + (1 + customerRandom.nextInt(999)) + " "
+                    + pick(customerRandom, STREETS) + " " + (1 + customerRandom.nextInt(99)) + ", #"
+                    + String.format("%02d-%02d", 1 + customerRandom.nextInt(25), 1 + customerRandom.nextInt(99)));
+
+            Map<OrderDescription, Integer> orderDescriptions = new HashMap<>();
+            int cakeCount = 1 + (random.nextInt(10) < 7 ? 0 : random.nextInt(3));
+            for (int i = 0; i < cakeCount; i++) {
+                int quantity = random.nextInt(10) < 8 ? 1 : 2 + random.nextInt(2);
+                orderDescriptions.merge(OrderDescription.of(CAKES[cakeRanks.sample(random)]), quantity,
+                        Integer::sum);
+            }
+
+            Set<Tag> tags = new HashSet<>();
+            int tagCount = random.nextInt(10) < 5 ? 0 : 1 + random.nextInt(2);
+            for (int i = 0; i < tagCount; i++) {
+                tags.add(Tag.of(TAGS[Math.min(random.nextInt(TAGS.length), random.nextInt(TAGS.length))]));
+            }
+
+            Status status = random.nextInt(100) < 5 ? Status.CANCELLED
+                    : deliveryDate.isBefore(today) ? Status.DELIVERED
+                    : Status.UNDELIVERED;
+            Request request = new Request(random.nextInt(5) == 0 ? pick(random, REQUESTS) : "");
+
+            return new Order(name, phone, email, address, orderDescriptions, tags, DeliveryDate.of(deliveryDate),
+                    new DeliveryStatus(status), request, new OrderId(next));
+        }
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Draws ranks from 0 to {@code n - 1}, with rank {@code k} drawn in proportion to {@code 1 / (k + 1)^exponent}.
+     */
+    private static class Zipf {
+        private final double[] cumulativeWeights;
+
+        Zipf(int n, double exponent) {
+            cumulativeWeights = new double[n];
+            double total = 0;
+            for (int k = 0; k < n; k++) {
+                total += 1 / Math.pow(k + 1, exponent);
+                cumulativeWeights[k] = total;
+            }
+        }
+
+        int sample(Random random) {
+            double weight = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+            int rank = Arrays.binarySearch(cumulativeWeights, weight);
+            rank = rank >= 0 ? rank : -rank - 1;
+            return Math.min(rank, cumulativeWeights.length - 1);
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package seedu.cakecollate.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.cakecollate.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.ReadOnlyOrderItems;
+import seedu.cakecollate.model.ReadOnlyUserPrefs;
+import seedu.cakecollate.model.UserPrefs;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.orderitem.OrderItem;
+
+/**
+ * Saves CakeCollate and OrderItems data to a {@code Storage} on a single background thread.
+ *
+ * The save methods return without waiting for the disk. Only the first cakecollate save copies the (immutable)
+ * orders; later saves pass just the orders changed, which the writer applies to its own copy, so a save takes time
+ * in proportion to the changes rather than to the number of orders. The order items, which are few, are copied on
+ * each save. Saves that arrive while a write is running are coalesced, so only the latest data is written.
+ * If a background write fails, the failed data is kept for a retry and the error is thrown from the next call to
+ * {@link #checkForSaveErrors()}, {@link #flush()} or a save method.
+ * Reads and user prefs saves go to the wrapped {@code Storage} directly.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cakecollate-storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    // the orders queued to be saved in full, and the changes queued to be saved after them
+    private List<Order> pendingOrders;
+    private OrderChanges pendingOrderChanges;
+    private boolean isOrderListQueued;
+    private long pendingNextOrderId;
+    private ReadOnlyOrderItems pendingOrderItems;
+    private boolean isWriting;
+    private IOException saveError;
+
+    // the orders after the queued saves taken so far, which are only used on the writer thread
+    private Set<Order> writtenOrders;
+    private long writtenNextOrderId;
+    private boolean isSaveInFullNeeded;
+
+    /**
+     * Creates an {@code AsyncStorageManager} that writes to {@code storage} in the background.
+     */
+    public AsyncStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ CakeCollate methods ==============================
+
+    @Override
+    public Path getCakeCollateFilePath() {
+        return storage.getCakeCollateFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCakeCollate> readCakeCollate() throws DataConversionException, IOException {
+        return storage.readCakeCollate();
+    }
+
+    @Override
+    public Optional<ReadOnlyCakeCollate> readCakeCollate(Path filePath) throws DataConversionException, IOException {
+        return storage.readCakeCollate(filePath);
+    }
+
+    /**
+     * Queues a copy of the orders in {@code cakeCollate} to be saved in full in the background.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate) throws IOException {
+        requireNonNull(cakeCollate);
+        List<Order> orders = new ArrayList<>(cakeCollate.getOrderList());
+        long nextOrderId = cakeCollate.getNextOrderId();
+        synchronized (lock) {
+            pendingOrders = orders;
+            pendingOrderChanges = null;
+            pendingNextOrderId = nextOrderId;
+            isOrderListQueued = true;
+            startWriting();
+        }
+        checkForSaveErrors();
+    }
+
+    /**
+     * Queues {@code changes} to be saved in the background, without copying the orders in {@code cakeCollate}.
+     * The first cakecollate save copies them all, as the writer has no orders to apply the changes to yet.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException {
+        requireAllNonNull(cakeCollate, changes);
+        long nextOrderId = cakeCollate.getNextOrderId();
+        boolean isQueued;
+        synchronized (lock) {
+            isQueued = isOrderListQueued;
+            if (isQueued) {
+                if (pendingOrderChanges == null) {
+                    pendingOrderChanges = new OrderChanges();
+                }
+                pendingOrderChanges.addAll(changes);
+                pendingNextOrderId = nextOrderId;
+                startWriting();
+            }
+        }
+        if (!isQueued) {
+            saveCakeCollate(cakeCollate);
+            return;
+        }
+        checkForSaveErrors();
+    }
+
+    /**
+     * Saves {@code cakeCollate} to {@code filePath} right away, after the queued saves have been written.
+     */
+    @Override
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate, Path filePath) throws IOException {
+        flush();
+        storage.saveCakeCollate(cakeCollate, filePath);
+    }
+
+    // ================ OrderItems methods ==============================
+
+    @Override
+    public Path getOrderItemsFilePath() {
+        return storage.getOrderItemsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyOrderItems> readOrderItems() throws DataConversionException, IOException {
+        return storage.readOrderItems();
+    }
+
+    @Override
+    public Optional<ReadOnlyOrderItems> readOrderItems(Path filePath) throws DataConversionException, IOException {
+        return storage.readOrderItems(filePath);
+    }
+
+    /**
+     * Queues a snapshot of {@code orderItems} to be saved in the background.
+     *
+     * @throws IOException if an earlier background write failed.
+     */
+    @Override
+    public void saveOrderItems(ReadOnlyOrderItems orderItems) throws IOException {
+        requireNonNull(orderItems);
+        ObservableList<OrderItem> items = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(orderItems.getOrderItemList()));
+        synchronized (lock) {
+            pendingOrderItems = () -> items;
+            startWriting();
+        }
+        checkForSaveErrors();
+    }
+
+    /**
+     * Saves {@code orderItems} to {@code filePath} right away, after the queued saves have been written.
+     */
+    @Override
+    public void saveOrderItems(ReadOnlyOrderItems orderItems, Path filePath) throws IOException {
+        flush();
+        storage.saveOrderItems(orderItems, filePath);
+    }
+
+    // ================ Background writing ==============================
+
+    /**
+     * Throws the error of a background write that failed since the last call, and retries that write.
+     */
+    @Override
+    public void checkForSaveErrors() throws IOException {
+        synchronized (lock) {
+            if (saveError == null) {
+                return;
+            }
+            IOException error = saveError;
+            saveError = null;
+            startWriting();
+            throw error;
+        }
+    }
+
+    /**
+     * Blocks until all queued saves have been written.
+     *
+     * @throws IOException if a background write failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (lock) {
+            // the failed data is written again below, so an earlier error is superseded by the outcome of the retry
+            saveError = null;
+            startWriting();
+            while (isWriting && saveError == null) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for data to be saved", e);
+                }
+            }
+            if (saveError != null) {
+                IOException error = saveError;
+                saveError = null;
+                throw error;
+            }
+        }
+    }
+
+    /**
+     * Starts the background writer if there is data to write and it is not running yet.
+     * Must be called while holding {@code lock}.
+     */
+    private void startWriting() {
+        if (isWriting || (pendingOrders == null && pendingOrderChanges == null && pendingOrderItems == null)) {
+            return;
+        }
+        isWriting = true;
+        writer.execute(this::writePending);
+    }
+
+    /**
+     * Writes the pending data until there is none left, or a write fails.
+     */
+    private void writePending() {
+        boolean isCakeCollateWritten = true;
+        ReadOnlyOrderItems orderItems = null;
+        try {
+            while (true) {
+                List<Order> orders;
+                OrderChanges orderChanges;
+                synchronized (lock) {
+                    orders = pendingOrders;
+                    orderChanges = pendingOrderChanges;
+                    writtenNextOrderId = pendingNextOrderId;
+                    orderItems = pendingOrderItems;
+                    pendingOrders = null;
+                    pendingOrderChanges = null;
+                    pendingOrderItems = null;
+                    if (orders == null && orderChanges == null && orderItems == null) {
+                        isWriting = false;
+                        lock.notifyAll();
+                        return;
+                    }
+                }
+
+                if (orders != null) {
+                    writtenOrders = OrderChanges.newIdentitySet();
+                    writtenOrders.addAll(orders);
+                    isSaveInFullNeeded = true;
+                }
+                if (orderChanges != null) {
+                    orderChanges.applyTo(writtenOrders);
+                }
+                if (orders != null || orderChanges != null) {
+                    isCakeCollateWritten = false;
+                    writeCakeCollate(orderChanges);
+                    isCakeCollateWritten = true;
+                }
+                if (orderItems != null) {
+                    storage.saveOrderItems(orderItems);
+                    orderItems = null;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save data in the background: " + e);
+            synchronized (lock) {
+                // keep the failed data for a retry, unless newer data has been queued since
+                if (!isCakeCollateWritten) {
+                    // the failed changes are already in the written orders, so the retry saves those in full
+                    isSaveInFullNeeded = true;
+                    if (pendingOrders == null && pendingOrderChanges == null) {
+                        pendingOrderChanges = new OrderChanges();
+                    }
+                }
+                if (pendingOrderItems == null) {
+                    pendingOrderItems = orderItems;
+                }
+                saveError = e instanceof IOException ? (IOException) e : new IOException(e);
+                isWriting = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Saves the written orders to the wrapped storage, in full if needed, or else as {@code orderChanges}.
+     * The orders are only copied, in the order of the order list, if the wrapped storage asks for them.
+     */
+    private void writeCakeCollate(OrderChanges orderChanges) throws IOException {
+        ReadOnlyCakeCollate cakeCollate = new ReadOnlyCakeCollate() {
+            private CakeCollate copy;
+
+            @Override
+            public ObservableList<Order> getOrderList() {
+                if (copy == null) {
+                    copy = new CakeCollate();
+                    copy.setOrders(new ArrayList<>(writtenOrders));
+                    copy.setNextOrderId(writtenNextOrderId);
+                }
+                return copy.getOrderList();
+            }
+
+            @Override
+            public long getNextOrderId() {
+                return writtenNextOrderId;
+            }
+        };
+        if (isSaveInFullNeeded || orderChanges == null) {
+            storage.saveCakeCollate(cakeCollate);
+        } else {
+            storage.saveCakeCollateChanges(cakeCollate, orderChanges);
+        }
+        isSaveInFullNeeded = false;
+    }
+
+}
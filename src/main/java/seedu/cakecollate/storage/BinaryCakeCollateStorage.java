@@ -0,0 +1,473 @@
+package seedu.cakecollate.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.commons.exceptions.IllegalValueException;
+import seedu.cakecollate.commons.util.FileUtil;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.order.Address;
+import seedu.cakecollate.model.order.DeliveryDate;
+import seedu.cakecollate.model.order.DeliveryStatus;
+import seedu.cakecollate.model.order.Email;
+import seedu.cakecollate.model.order.Name;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
+import seedu.cakecollate.model.order.Phone;
+import seedu.cakecollate.model.order.Request;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.model.order.exceptions.DuplicateOrderException;
+import seedu.cakecollate.model.tag.Tag;
+
+/**
+ * A class to access CakeCollate data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with a magic number, the format version and the ID of the next order added, followed by a table
+ * of all distinct strings in the orders and then the orders themselves. Each string field of an order is an index
+ * into the table, the delivery date is an epoch day, the delivery status is a single byte and the order ID is a
+ * long, which is 0 for an order without one. As each distinct string is validated only once, and the model
+ * objects made from it are shared by all orders using it and by the rest of the app, loading is much faster than
+ * from json. Large snapshots are memory-mapped, and strings are only decoded from the file when an order first
+ * uses them, but all orders are still built when the snapshot is read.
+ *
+ * Reading a file that is not a binary snapshot imports it as json, so switching the format of an existing file
+ * only takes a read followed by a save.
+ */
+public class BinaryCakeCollateStorage implements CakeCollateStorage {
+
+    /** Version of the format written by this class. */
+    public static final int FORMAT_VERSION = 3;
+
+    /** Version of the format written before orders had IDs, which can still be read. */
+    private static final int FORMAT_VERSION_WITHOUT_IDS = 1;
+
+    /** Version of the format written before the ID of the next order was saved, which can still be read. */
+    private static final int FORMAT_VERSION_WITHOUT_NEXT_ID = 2;
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary snapshot version: %1$d";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCakeCollateStorage.class);
+
+    /**
+     * Size in bytes from which snapshots are memory-mapped instead of being read onto the heap. Small snapshots
+     * are read as a whole, as mapping them costs more than it saves and keeps the file mapped until the buffer is
+     * garbage collected, which prevents it from being replaced on some platforms.
+     */
+    public static final long MAPPING_THRESHOLD = 16 * 1024 * 1024;
+
+    /** The bytes "CCBS" at the start of every binary snapshot. */
+    private static final int MAGIC = 0x43434253;
+
+    private Path filePath;
+    private final long mappingThreshold;
+
+    public BinaryCakeCollateStorage(Path filePath) {
+        this(filePath, MAPPING_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code BinaryCakeCollateStorage} that memory-maps snapshots of at least {@code mappingThreshold}
+     * bytes.
+     */
+    BinaryCakeCollateStorage(Path filePath, long mappingThreshold) {
+        this.filePath = filePath;
+        this.mappingThreshold = mappingThreshold;
+    }
+
+    public Path getCakeCollateFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCakeCollate> readCakeCollate() throws DataConversionException {
+        return readCakeCollate(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCakeCollate()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyCakeCollate> readCakeCollate(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isBinarySnapshot(filePath)) {
+            logger.info("Importing json data from " + filePath);
+            return new JsonCakeCollateStorage(filePath).readCakeCollate(filePath);
+        }
+
+        try {
+            SnapshotReader reader = new SnapshotReader(readSnapshot(filePath));
+            List<Order> orders = new ArrayList<>(reader.getOrderCount());
+            while (reader.hasNextOrder()) {
+                orders.add(reader.nextOrder());
+            }
+
+            CakeCollate cakeCollate = new CakeCollate();
+            try {
+                cakeCollate.setOrders(orders);
+            } catch (DuplicateOrderException e) {
+                throw new IllegalValueException(JsonSerializableCakeCollate.MESSAGE_DUPLICATE_ORDER);
+            }
+            JsonSerializableCakeCollate.setNextOrderId(cakeCollate, reader.getNextOrderId());
+            return Optional.of(cakeCollate);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    @Override
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate) throws IOException {
+        saveCakeCollate(cakeCollate, filePath);
+    }
+
+    /**
+     * Saves {@code cakeCollate} in full, as a file in this format cannot be changed in place.
+     */
+    @Override
+    public void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException {
+        requireNonNull(changes);
+        saveCakeCollate(cakeCollate);
+    }
+
+    /**
+     * Similar to {@link #saveCakeCollate(ReadOnlyCakeCollate)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate, Path filePath) throws IOException {
+        requireNonNull(cakeCollate);
+        requireNonNull(filePath);
+
+        List<Order> orders = cakeCollate.getOrderList();
+        long nextOrderId = cakeCollate.getNextOrderId();
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, out ->
+                writeSnapshot(orders, nextOrderId, new DataOutputStream(new BufferedOutputStream(out))));
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary snapshot.
+     * Returns false if it does not, or cannot be read.
+     */
+    static boolean isBinarySnapshot(Path filePath) {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(filePath))) {
+            return in.readInt() == MAGIC;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns a buffer holding the content of the file at {@code filePath}.
+     * Files of at least {@code mappingThreshold} bytes are memory-mapped rather than copied onto the heap.
+     */
+    private ByteBuffer readSnapshot(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary snapshot too large: " + size + " bytes");
+            }
+            if (size >= mappingThreshold) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    private static void writeSnapshot(List<Order> orders, long nextOrderId, DataOutputStream out)
+            throws IOException {
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        Function<String, Integer> indexOf = string -> stringIndices.computeIfAbsent(string, unused -> {
+            strings.add(string);
+            return strings.size() - 1;
+        });
+        for (Order order : orders) {
+            indexOf.apply(order.getName().fullName);
+            indexOf.apply(order.getPhone().value);
+            indexOf.apply(order.getEmail().value);
+            indexOf.apply(order.getAddress().value);
+            order.getOrderDescriptions().keySet().forEach(orderDescription -> indexOf.apply(orderDescription.value));
+            order.getTags().forEach(tag -> indexOf.apply(tag.tagName));
+            indexOf.apply(toStoredRequest(order.getRequest()));
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(nextOrderId);
+        out.writeInt(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        out.writeInt(orders.size());
+        for (Order order : orders) {
+            out.writeInt(indexOf.apply(order.getName().fullName));
+            out.writeInt(indexOf.apply(order.getPhone().value));
+            out.writeInt(indexOf.apply(order.getEmail().value));
+            out.writeInt(indexOf.apply(order.getAddress().value));
+            out.writeInt(order.getOrderDescriptions().size());
+            for (Map.Entry<OrderDescription, Integer> entry : order.getOrderDescriptions().entrySet()) {
+                out.writeInt(indexOf.apply(entry.getKey().value));
+                out.writeInt(entry.getValue());
+            }
+            out.writeInt(order.getTags().size());
+            for (Tag tag : order.getTags()) {
+                out.writeInt(indexOf.apply(tag.tagName));
+            }
+            out.writeInt(Math.toIntExact(order.getDeliveryDate().value.toEpochDay()));
+            out.writeByte(order.getDeliveryStatus().getDeliveryStatus().ordinal());
+            out.writeInt(indexOf.apply(toStoredRequest(order.getRequest())));
+            out.writeLong(order.getId().map(id -> id.value).orElse(0L));
+        }
+        out.flush();
+    }
+
+    /**
+     * Returns the text the user entered for {@code request}, which is empty if there is no request.
+     */
+    private static String toStoredRequest(Request request) {
+        return request.isRequestEmpty() ? "" : request.value;
+    }
+
+    /**
+     * Decodes a binary snapshot held in a buffer, one order at a time.
+     * Strings are only decoded from the buffer when an order first refers to them, and each distinct string is
+     * turned into a model object only once per field.
+     */
+    private static class SnapshotReader {
+
+        private final ByteBuffer buffer;
+
+        private int[] stringOffsets;
+        private int[] stringLengths;
+        private String[] strings;
+        private Name[] names;
+        private Phone[] phones;
+        private Email[] emails;
+        private Address[] addresses;
+        private OrderDescription[] orderDescriptions;
+        private Tag[] tags;
+        private Request[] requests;
+        private int orderCount;
+        private int ordersRead;
+        private int version;
+        private Long nextOrderId;
+
+        /**
+         * Creates a {@code SnapshotReader} for the snapshot in {@code buffer}, and reads its header.
+         */
+        SnapshotReader(ByteBuffer buffer) throws IOException, IllegalValueException {
+            this.buffer = buffer;
+            readHeader();
+        }
+
+        int getOrderCount() {
+            return orderCount;
+        }
+
+        /**
+         * Returns the ID of the next order added, or null if the snapshot is of a version that does not have it.
+         */
+        Long getNextOrderId() {
+            return nextOrderId;
+        }
+
+        boolean hasNextOrder() {
+            return ordersRead < orderCount;
+        }
+
+        /**
+         * Decodes the next order of the snapshot.
+         */
+        Order nextOrder() throws IOException, IllegalValueException {
+            assert hasNextOrder();
+            try {
+                Order order = readOrder();
+                ordersRead++;
+                return order;
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Unexpected end of binary snapshot", e);
+            }
+        }
+
+        private void readHeader() throws IOException, IllegalValueException {
+            try {
+                if (buffer.getInt() != MAGIC) {
+                    throw new IOException("Not a binary snapshot");
+                }
+                version = buffer.getInt();
+                if (version != FORMAT_VERSION && version != FORMAT_VERSION_WITHOUT_NEXT_ID
+                        && version != FORMAT_VERSION_WITHOUT_IDS) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+                }
+                if (version == FORMAT_VERSION) {
+                    nextOrderId = buffer.getLong();
+                }
+
+                // only the positions of the strings are read here, they are decoded on first use
+                int stringCount = readCount();
+                stringOffsets = new int[stringCount];
+                stringLengths = new int[stringCount];
+                for (int i = 0; i < stringCount; i++) {
+                    stringLengths[i] = readCount();
+                    stringOffsets[i] = buffer.position();
+                    if (stringLengths[i] > buffer.remaining()) {
+                        throw new BufferUnderflowException();
+                    }
+                    buffer.position(buffer.position() + stringLengths[i]);
+                }
+                strings = new String[stringCount];
+                names = new Name[stringCount];
+                phones = new Phone[stringCount];
+                emails = new Email[stringCount];
+                addresses = new Address[stringCount];
+                orderDescriptions = new OrderDescription[stringCount];
+                tags = new Tag[stringCount];
+                requests = new Request[stringCount];
+
+                orderCount = readCount();
+            } catch (BufferUnderflowException e) {
+                throw new IOException("Unexpected end of binary snapshot", e);
+            }
+        }
+
+        private Order readOrder() throws IOException, IllegalValueException {
+            Name name = readField(names, Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::of);
+            Phone phone = readField(phones, Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, Phone::of);
+            Email email = readField(emails, Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::of);
+            Address address = readField(addresses, Address::isValidAddress, Address.MESSAGE_CONSTRAINTS,
+                    Address::of);
+
+            int orderDescriptionCount = readCount();
+            if (orderDescriptionCount == 0) {
+                throw new IllegalValueException(String.format(JsonAdaptedOrder.MISSING_FIELD_MESSAGE_FORMAT,
+                        OrderDescription.class.getSimpleName()));
+            }
+            Map<OrderDescription, Integer> modelOrderDescriptions = new HashMap<>();
+            for (int i = 0; i < orderDescriptionCount; i++) {
+                OrderDescription orderDescription = readField(orderDescriptions,
+                        OrderDescription::isValidOrderDescription, OrderDescription.MESSAGE_CONSTRAINTS,
+                        OrderDescription::of);
+                int quantity = buffer.getInt();
+                if (quantity <= 0) {
+                    throw new IllegalValueException(OrderDescription.MESSAGE_CONSTRAINTS);
+                }
+                modelOrderDescriptions.merge(orderDescription, quantity, Integer::sum);
+            }
+
+            int tagCount = readCount();
+            Set<Tag> modelTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                modelTags.add(readField(tags, Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::of));
+            }
+
+            DeliveryDate deliveryDate = DeliveryDate.of(LocalDate.ofEpochDay(buffer.getInt()));
+            int statusOrdinal = buffer.get();
+            if (statusOrdinal < 0 || statusOrdinal >= Status.values().length) {
+                throw new IllegalValueException(DeliveryStatus.MESSAGE_CONSTRAINTS);
+            }
+            DeliveryStatus deliveryStatus = new DeliveryStatus(Status.values()[statusOrdinal]);
+            Request request = readField(requests, unused -> true, "", Request::new);
+
+            OrderId id = null;
+            if (version != FORMAT_VERSION_WITHOUT_IDS) {
+                long idValue = buffer.getLong();
+                if (idValue < 0) {
+                    throw new IllegalValueException(OrderId.MESSAGE_CONSTRAINTS);
+                }
+                id = idValue == 0 ? null : new OrderId(idValue);
+            }
+
+            return new Order(name, phone, email, address, modelOrderDescriptions, modelTags, deliveryDate,
+                    deliveryStatus, request, id);
+        }
+
+        /**
+         * Reads a string index, and returns the model object for that string from {@code cache}, validating and
+         * creating it on first use.
+         */
+        private <T> T readField(T[] cache, Predicate<String> isValid, String constraintsMessage,
+                Function<String, T> factory) throws IOException, IllegalValueException {
+            int index = buffer.getInt();
+            if (index < 0 || index >= strings.length) {
+                throw new IOException("String index out of bounds: " + index);
+            }
+            if (cache[index] == null) {
+                String string = getString(index);
+                if (!isValid.test(string)) {
+                    throw new IllegalValueException(constraintsMessage);
+                }
+                cache[index] = factory.apply(string);
+            }
+            return cache[index];
+        }
+
+        private String getString(int index) {
+            if (strings[index] == null) {
+                byte[] bytes = new byte[stringLengths[index]];
+                ByteBuffer stringBuffer = buffer.duplicate();
+                stringBuffer.position(stringOffsets[index]);
+                stringBuffer.get(bytes);
+                strings[index] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return strings[index];
+        }
+
+        /**
+         * Reads a count, which cannot exceed the size of the snapshot for a well-formed snapshot.
+         */
+        private int readCount() throws IOException {
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.limit()) {
+                throw new IOException("Invalid count: " + count);
+            }
+            return count;
+        }
+    }
+
+}
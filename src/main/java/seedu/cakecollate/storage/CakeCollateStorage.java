@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.cakecollate.commons.exceptions.DataConversionException;
 import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
 
 /**
@@ -43,4 +44,13 @@ public interface CakeCollateStorage {
      */
     void saveCakeCollate(ReadOnlyCakeCollate cakeCollate, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code cakeCollate}, which differs by {@code changes} from the data last saved to or read from the
+     * storage. A storage that can write only the changes does so, and others save {@code cakeCollate} in full.
+     * @param cakeCollate cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException;
+
 }
@@ -0,0 +1,162 @@
+package seedu.cakecollate.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.OrderChanges;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.ReadOnlyOrderItems;
+import seedu.cakecollate.model.ReadOnlyUserPrefs;
+import seedu.cakecollate.model.UserPrefs;
+
+/**
+ * Holds back CakeCollate and OrderItems saves until {@link #flush()}, which writes only the data given last to a
+ * {@code Storage}. Meant for running many commands in a row, where saving after each command would take longer
+ * than the commands themselves.
+ *
+ * The data is not copied when it is saved, so the data written is the data as it is when {@code flush} is called.
+ * Reads and user prefs saves go to the wrapped {@code Storage} directly.
+ */
+public class DeferredStorageManager implements Storage {
+
+    private final Storage storage;
+    private ReadOnlyCakeCollate pendingCakeCollate;
+    private ReadOnlyOrderItems pendingOrderItems;
+
+    /**
+     * Creates a {@code DeferredStorageManager} that writes to {@code storage} when flushed.
+     */
+    public DeferredStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ CakeCollate methods ==============================
+
+    @Override
+    public Path getCakeCollateFilePath() {
+        return storage.getCakeCollateFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyCakeCollate> readCakeCollate() throws DataConversionException, IOException {
+        return storage.readCakeCollate();
+    }
+
+    @Override
+    public Optional<ReadOnlyCakeCollate> readCakeCollate(Path filePath) throws DataConversionException, IOException {
+        return storage.readCakeCollate(filePath);
+    }
+
+    /**
+     * Keeps {@code cakeCollate} to be saved when flushed.
+     */
+    @Override
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate) {
+        requireNonNull(cakeCollate);
+        pendingCakeCollate = cakeCollate;
+    }
+
+    /**
+     * Keeps {@code cakeCollate} to be saved in full when flushed, as the changes of all the saves before the flush
+     * would add up to about as much.
+     */
+    @Override
+    public void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) {
+        requireNonNull(changes);
+        saveCakeCollate(cakeCollate);
+    }
+
+    /**
+     * Saves {@code cakeCollate} to {@code filePath} right away, after the kept data has been written.
+     */
+    @Override
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate, Path filePath) throws IOException {
+        flush();
+        storage.saveCakeCollate(cakeCollate, filePath);
+    }
+
+    // ================ OrderItems methods ==============================
+
+    @Override
+    public Path getOrderItemsFilePath() {
+        return storage.getOrderItemsFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyOrderItems> readOrderItems() throws DataConversionException, IOException {
+        return storage.readOrderItems();
+    }
+
+    @Override
+    public Optional<ReadOnlyOrderItems> readOrderItems(Path filePath) throws DataConversionException, IOException {
+        return storage.readOrderItems(filePath);
+    }
+
+    /**
+     * Keeps {@code orderItems} to be saved when flushed.
+     */
+    @Override
+    public void saveOrderItems(ReadOnlyOrderItems orderItems) {
+        requireNonNull(orderItems);
+        pendingOrderItems = orderItems;
+    }
+
+    /**
+     * Saves {@code orderItems} to {@code filePath} right away, after the kept data has been written.
+     */
+    @Override
+    public void saveOrderItems(ReadOnlyOrderItems orderItems, Path filePath) throws IOException {
+        flush();
+        storage.saveOrderItems(orderItems, filePath);
+    }
+
+    // ================ Deferred writing ==============================
+
+    /**
+     * Does nothing, as no data is written before {@link #flush()}.
+     */
+    @Override
+    public void checkForSaveErrors() {
+    }
+
+    /**
+     * Writes the data saved last, then waits for the wrapped {@code Storage} to finish writing.
+     * If a write fails, the data that was not written is kept for the next flush.
+     *
+     * @throws IOException if there was any problem writing the data.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (pendingCakeCollate != null) {
+            storage.saveCakeCollate(pendingCakeCollate);
+            pendingCakeCollate = null;
+        }
+        if (pendingOrderItems != null) {
+            storage.saveOrderItems(pendingOrderItems);
+            pendingOrderItems = null;
+        }
+        storage.flush();
+    }
+}
@@ -0,0 +1,482 @@
+package seedu.cakecollate.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.cakecollate.commons.core.DataFormat;
+import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.commons.exceptions.IllegalValueException;
+import seedu.cakecollate.commons.util.FileUtil;
+import seedu.cakecollate.commons.util.JsonUtil;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.order.Order;
+
+/**
+ * A class to access CakeCollate data stored as a json snapshot file plus a journal of changes on the hard disk.
+ *
+ * The snapshot is in json or in the binary format of {@link BinaryCakeCollateStorage}. The storage remembers
+ * the orders it last read or saved, and each save only appends one compact line holding the orders added and
+ * removed since then to the journal. As orders are immutable, unchanged orders are the same instances from one
+ * save to the next and are found by identity. A caller that knows the orders added and removed can pass them to
+ * {@link #saveCakeCollateChanges}, so that the save takes time in proportion to the changes rather than to the
+ * number of orders. The ID of the next order added is kept in the snapshot, and follows the IDs of the orders in
+ * the journal, so the ID of a deleted order is not given out again after a restart. When the journal grows past
+ * {@link #COMPACTION_THRESHOLD} entries, it is compacted into a new snapshot in the background. Reading replays
+ * the journal over the snapshot.
+ *
+ * A write to the journal that fails is undone, and an entry cut short by a crash is skipped when the journal is
+ * read. If the data cannot be read, the files are moved aside before the storage is saved to again, so that they
+ * are never overwritten.
+ *
+ * The order list given to a save must not be modified while the save runs.
+ */
+public class JournalCakeCollateStorage implements CakeCollateStorage {
+
+    /** Number of journal entries after which the journal is compacted into a new snapshot. */
+    public static final int COMPACTION_THRESHOLD = 1000;
+
+    /** Number of changed orders in a single save above which a snapshot is written instead of a journal entry. */
+    public static final int SNAPSHOT_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalCakeCollateStorage.class);
+
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting";
+    private static final String DAMAGED_SUFFIX = ".damaged-";
+    private static final DateTimeFormatter DAMAGED_TIME_FORMAT = DateTimeFormatter.ofPattern("uuuuMMdd-HHmmss");
+    private static final byte LINE_BREAK = '\n';
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String UNEXPECTED_END_OF_INPUT = "Unexpected end-of-input";
+
+    private final Path filePath;
+    private final DataFormat snapshotFormat;
+    private final CakeCollateStorage snapshotStorage;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "cakecollate-journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Orders as last read from or saved to {@code filePath}, or null if they are not known. */
+    private Set<Order> savedOrders;
+    private int journalEntryCount;
+    private Future<?> compaction;
+    /** True if data that could not be read could not be moved aside either, so it must not be saved over. */
+    private boolean isDamagedDataInPlace;
+
+    /**
+     * Creates a {@code JournalCakeCollateStorage} with a json snapshot at {@code filePath}.
+     */
+    public JournalCakeCollateStorage(Path filePath) {
+        this(filePath, DataFormat.JSON);
+    }
+
+    /**
+     * Creates a {@code JournalCakeCollateStorage} with its snapshot at {@code filePath}, written in
+     * {@code snapshotFormat}. A snapshot found in the other format is converted on the first save after reading it.
+     */
+    public JournalCakeCollateStorage(Path filePath, DataFormat snapshotFormat) {
+        requireNonNull(snapshotFormat);
+        this.filePath = filePath;
+        this.snapshotFormat = snapshotFormat;
+        this.snapshotStorage = snapshotFormat == DataFormat.BINARY
+                ? new BinaryCakeCollateStorage(filePath)
+                : new JsonCakeCollateStorage(filePath);
+    }
+
+    public Path getCakeCollateFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCakeCollate> readCakeCollate() throws DataConversionException {
+        return readCakeCollate(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCakeCollate()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public Optional<ReadOnlyCakeCollate> readCakeCollate(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Path journalPath = getJournalPath(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        Set<Order> orders = new LinkedHashSet<>();
+        long nextOrderId;
+        int entryCount;
+        try {
+            // the journal being compacted is read before the snapshot, as the compaction deletes it only after
+            // the new snapshot is in place
+            List<JsonAdaptedJournalEntry> compactingEntries = readJournal(compactingJournalPath);
+            Optional<ReadOnlyCakeCollate> snapshot = snapshotStorage.readCakeCollate(filePath);
+            List<JsonAdaptedJournalEntry> entries = readJournal(journalPath);
+            if (!snapshot.isPresent() && compactingEntries.isEmpty() && entries.isEmpty()) {
+                return Optional.empty();
+            }
+
+            snapshot.ifPresent(cakeCollate -> orders.addAll(cakeCollate.getOrderList()));
+            nextOrderId = snapshot.map(ReadOnlyCakeCollate::getNextOrderId).orElse(1L);
+            for (JsonAdaptedJournalEntry entry : compactingEntries) {
+                nextOrderId = Math.max(nextOrderId, entry.applyTo(orders) + 1);
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                nextOrderId = Math.max(nextOrderId, entry.applyTo(orders) + 1);
+            }
+            entryCount = compactingEntries.size() + entries.size();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Illegal values found in journal of " + filePath + ": " + e.getMessage());
+            moveAsideIfOwnData(filePath);
+            throw new DataConversionException(e);
+        } catch (DataConversionException e) {
+            moveAsideIfOwnData(filePath);
+            throw e;
+        }
+
+        CakeCollate cakeCollate = new CakeCollate();
+        cakeCollate.setOrders(new ArrayList<>(orders));
+        cakeCollate.setNextOrderId(nextOrderId);
+        if (filePath.equals(this.filePath)) {
+            // a snapshot in the other format is replaced on the next save, by having it write a full snapshot
+            savedOrders = isInSnapshotFormat(filePath) ? toIdentitySet(cakeCollate.getOrderList()) : null;
+            journalEntryCount = entryCount;
+        }
+        return Optional.of(cakeCollate);
+    }
+
+    @Override
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate) throws IOException {
+        requireNonNull(cakeCollate);
+
+        if (isDamagedDataInPlace) {
+            throw new IOException("Not saving over " + filePath + ", which could not be read or moved aside");
+        }
+
+        List<Order> orders = cakeCollate.getOrderList();
+        if (savedOrders == null) {
+            saveSnapshot(cakeCollate);
+            savedOrders = toIdentitySet(orders);
+            return;
+        }
+
+        Set<Order> currentOrders = toIdentitySet(orders);
+        List<Order> added = new ArrayList<>();
+        for (Order order : orders) {
+            if (!savedOrders.contains(order)) {
+                added.add(order);
+            }
+        }
+        List<Order> removed = new ArrayList<>();
+        for (Order order : savedOrders) {
+            if (!currentOrders.contains(order)) {
+                removed.add(order);
+            }
+        }
+
+        saveChanges(cakeCollate, added, removed);
+        savedOrders = currentOrders;
+    }
+
+    /**
+     * Saves {@code cakeCollate} by appending only {@code changes} to the journal, without going through all the
+     * orders. Saves it in full instead if the orders last saved are not known.
+     */
+    @Override
+    public void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException {
+        requireNonNull(cakeCollate);
+        requireNonNull(changes);
+
+        if (savedOrders == null || isDamagedDataInPlace) {
+            saveCakeCollate(cakeCollate);
+            return;
+        }
+        saveChanges(cakeCollate, new ArrayList<>(changes.getAddedOrders()),
+                new ArrayList<>(changes.getRemovedOrders()));
+        changes.applyTo(savedOrders);
+    }
+
+    /**
+     * Saves {@code cakeCollate}, which has the {@code added} orders and not the {@code removed} ones compared to
+     * the orders last saved, as a journal entry, or as a snapshot if there are too many changes.
+     */
+    private void saveChanges(ReadOnlyCakeCollate cakeCollate, List<Order> added, List<Order> removed)
+            throws IOException {
+        if (added.size() + removed.size() > SNAPSHOT_THRESHOLD) {
+            saveSnapshot(cakeCollate);
+        } else if (!added.isEmpty() || !removed.isEmpty()) {
+            appendJournalEntry(added, removed);
+            if (journalEntryCount >= COMPACTION_THRESHOLD && isCompactionDone()) {
+                startCompaction(new ArrayList<>(cakeCollate.getOrderList()), cakeCollate.getNextOrderId());
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link #saveCakeCollate(ReadOnlyCakeCollate)}.
+     * Saving to a location other than this storage's own writes a plain snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate, Path filePath) throws IOException {
+        requireNonNull(cakeCollate);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveCakeCollate(cakeCollate);
+        } else {
+            snapshotStorage.saveCakeCollate(cakeCollate, filePath);
+        }
+    }
+
+    /**
+     * Appends the {@code added} and {@code removed} orders to the journal as a single line, and forces it to disk.
+     */
+    private void appendJournalEntry(List<Order> added, List<Order> removed) throws IOException {
+        long start = System.nanoTime();
+        String line = JsonUtil.toCompactJsonString(new JsonAdaptedJournalEntry(added, removed)) + "\n";
+        int bytesWritten = appendLines(getJournalPath(filePath), line.getBytes(StandardCharsets.UTF_8));
+        MetricsCenter.recordStorageWrite(bytesWritten, System.nanoTime() - start);
+        journalEntryCount++;
+    }
+
+    /**
+     * Appends {@code lines} to the file at {@code path}, creating it if needed, and forces them to disk.
+     * If the file does not end with a line break, as after a write cut short by a crash, one is written first so
+     * that the incomplete line is kept apart. If the append fails, the file is truncated back to its former length.
+     *
+     * @return the number of bytes written.
+     */
+    private static int appendLines(Path path, byte[] lines) throws IOException {
+        FileUtil.createParentDirsOfFile(path);
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long length = channel.size();
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            boolean isLineOpen = length > 0 && channel.read(lastByte, length - 1) == 1 && lastByte.get(0) != LINE_BREAK;
+            ByteBuffer buffer = ByteBuffer.allocate(lines.length + (isLineOpen ? 1 : 0));
+            if (isLineOpen) {
+                buffer.put(LINE_BREAK);
+            }
+            buffer.put(lines).flip();
+
+            try {
+                channel.position(length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            } catch (IOException e) {
+                try {
+                    channel.truncate(length);
+                } catch (IOException truncateException) {
+                    e.addSuppressed(truncateException);
+                }
+                throw e;
+            }
+            return buffer.limit();
+        }
+    }
+
+    /**
+     * Writes {@code cakeCollate} as the new snapshot and discards the journal, which the snapshot supersedes.
+     */
+    private void saveSnapshot(ReadOnlyCakeCollate cakeCollate) throws IOException {
+        awaitCompaction();
+        snapshotStorage.saveCakeCollate(cakeCollate, filePath);
+        Files.deleteIfExists(getCompactingJournalPath(filePath));
+        Files.deleteIfExists(getJournalPath(filePath));
+        journalEntryCount = 0;
+    }
+
+    /**
+     * Moves the journal aside and writes {@code orders}, with the ID of the next order added, as the new snapshot
+     * in the background.
+     * Entries appended after this call go to a fresh journal, and the journal moved aside is deleted only once
+     * the new snapshot is in place, so a crash in between loses nothing.
+     */
+    private void startCompaction(List<Order> orders, long nextOrderId) throws IOException {
+        Path journalPath = getJournalPath(filePath);
+        Path compactingJournalPath = getCompactingJournalPath(filePath);
+        if (Files.exists(compactingJournalPath)) {
+            // a previous compaction failed, so its journal has to be kept as well
+            appendLines(compactingJournalPath, Files.readAllBytes(journalPath));
+            Files.delete(journalPath);
+        } else {
+            Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+        }
+        journalEntryCount = 0;
+
+        compaction = compactionExecutor.submit(() -> {
+            try {
+                CakeCollate snapshot = new CakeCollate();
+                snapshot.setOrders(orders);
+                snapshot.setNextOrderId(nextOrderId);
+                snapshotStorage.saveCakeCollate(snapshot, filePath);
+                Files.delete(compactingJournalPath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    private boolean isCompactionDone() {
+        return compaction == null || compaction.isDone();
+    }
+
+    /**
+     * Waits for a running compaction to finish, so that it cannot overwrite a newer snapshot.
+     */
+    private void awaitCompaction() throws IOException {
+        if (isCompactionDone()) {
+            return;
+        }
+        try {
+            compaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for journal compaction", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Journal compaction failed", e.getCause());
+        }
+    }
+
+    /**
+     * Returns the entries of the journal at {@code journalPath}, or an empty list if there is no such journal.
+     * Blank lines, and entries cut short by a write that did not finish, are skipped.
+     *
+     * @throws IOException if the journal cannot be read, or has a complete line that is not a valid entry, as
+     *     replaying the entries after it would not give the orders that were saved.
+     */
+    private static List<JsonAdaptedJournalEntry> readJournal(Path journalPath) throws IOException {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    entries.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class));
+                } catch (IOException e) {
+                    if (!isCutShort(line)) {
+                        throw new IOException("Invalid entry on line " + lineNumber + " of journal " + journalPath
+                                + ": " + e.getMessage(), e);
+                    }
+                    logger.warning("Skipping incomplete entry on line " + lineNumber + " of journal " + journalPath);
+                }
+            }
+        } catch (NoSuchFileException e) {
+            return entries;
+        }
+        return entries;
+    }
+
+    /**
+     * Returns true if {@code line} is the start of an entry cut short by a write that did not finish, which is
+     * valid json until the input ends inside it.
+     * A line that is not valid json before its end, or is complete json that is not an entry, is not cut short.
+     */
+    private static boolean isCutShort(String line) {
+        if (!line.startsWith("{")) {
+            return false;
+        }
+        try (JsonParser parser = JSON_FACTORY.createParser(line)) {
+            while (parser.nextToken() != null) {
+                // the tokens are read only to find where the json stops being valid
+            }
+            return false;
+        } catch (JsonProcessingException e) {
+            // the error that the parser reports when the input ends inside a value
+            return e.getOriginalMessage().contains(UNEXPECTED_END_OF_INPUT);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Moves the snapshot and journals at {@code filePath}, which could not be read, aside if they are the data of
+     * this storage, so that the next save does not overwrite them. Saving is refused if they cannot be moved.
+     */
+    private void moveAsideIfOwnData(Path filePath) {
+        if (!filePath.equals(this.filePath)) {
+            return;
+        }
+        savedOrders = null;
+        String suffix = DAMAGED_SUFFIX + DAMAGED_TIME_FORMAT.format(LocalDateTime.now());
+        try {
+            for (Path path : List.of(filePath, getJournalPath(filePath), getCompactingJournalPath(filePath))) {
+                if (Files.exists(path)) {
+                    Path damagedPath = path.resolveSibling(path.getFileName() + suffix);
+                    Files.move(path, damagedPath);
+                    logger.warning("Moved " + path + ", which could not be read, to " + damagedPath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to move aside " + filePath + ", which could not be read: " + e);
+            isDamagedDataInPlace = true;
+        }
+    }
+
+    private boolean isInSnapshotFormat(Path filePath) {
+        return !Files.exists(filePath)
+                || BinaryCakeCollateStorage.isBinarySnapshot(filePath) == (snapshotFormat == DataFormat.BINARY);
+    }
+
+    private static Set<Order> toIdentitySet(List<Order> orders) {
+        Set<Order> identitySet = OrderChanges.newIdentitySet();
+        identitySet.addAll(orders);
+        return identitySet;
+    }
+
+    /**
+     * Returns the locations of the journals of the snapshot at {@code filePath}, which have to be deleted when the
+     * snapshot is replaced by other means, as they would otherwise be replayed over the new snapshot.
+     */
+    public static List<Path> getJournalPaths(Path filePath) {
+        requireNonNull(filePath);
+        return List.of(getJournalPath(filePath), getCompactingJournalPath(filePath));
+    }
+
+    private static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    private static Path getCompactingJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + COMPACTING_JOURNAL_SUFFIX);
+    }
+
+}
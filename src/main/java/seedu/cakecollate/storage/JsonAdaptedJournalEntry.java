@@ -0,0 +1,73 @@
+package seedu.cakecollate.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.cakecollate.commons.exceptions.IllegalValueException;
+import seedu.cakecollate.model.order.Order;
+
+/**
+ * Jackson-friendly version of one entry of the CakeCollate journal.
+ * An entry holds the orders added to and removed from CakeCollate by one save, and is applied as a whole.
+ */
+class JsonAdaptedJournalEntry {
+
+    private final List<JsonAdaptedOrder> added = new ArrayList<>();
+    private final List<JsonAdaptedOrder> removed = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given added and removed orders.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("added") List<JsonAdaptedOrder> added,
+                                   @JsonProperty("removed") List<JsonAdaptedOrder> removed) {
+        if (added != null) {
+            this.added.addAll(added);
+        }
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+    }
+
+    /**
+     * Converts the given added and removed {@code Order}s into this class for Jackson use.
+     * No order should be both added and removed.
+     */
+    public JsonAdaptedJournalEntry(Collection<Order> addedOrders, Collection<Order> removedOrders) {
+        addedOrders.forEach(order -> added.add(new JsonAdaptedOrder(order)));
+        removedOrders.forEach(order -> removed.add(new JsonAdaptedOrder(order)));
+    }
+
+    /**
+     * Applies this entry to {@code orders}.
+     * Removing an order that is not in {@code orders} or adding one that already is has no effect, so applying
+     * the same entry more than once gives the same result.
+     *
+     * @return the largest ID of the orders added or removed, or 0 if none of them has an ID.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted orders.
+     */
+    public long applyTo(Set<Order> orders) throws IllegalValueException {
+        long largestId = 0;
+        for (JsonAdaptedOrder jsonAdaptedOrder : removed) {
+            Order order = jsonAdaptedOrder.toModelType();
+            orders.remove(order);
+            largestId = Math.max(largestId, getIdValue(order));
+        }
+        for (JsonAdaptedOrder jsonAdaptedOrder : added) {
+            Order order = jsonAdaptedOrder.toModelType();
+            orders.add(order);
+            largestId = Math.max(largestId, getIdValue(order));
+        }
+        return largestId;
+    }
+
+    private static long getIdValue(Order order) {
+        return order.getId().map(id -> id.value).orElse(0L);
+    }
+
+}
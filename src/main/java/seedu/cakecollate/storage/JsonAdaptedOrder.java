@@ -19,6 +19,7 @@ import seedu.cakecollate.model.order.Email;
 import seedu.cakecollate.model.order.Name;
 import seedu.cakecollate.model.order.Order;
 import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Phone;
 import seedu.cakecollate.model.order.Request;
 import seedu.cakecollate.model.order.Status;
@@ -40,9 +41,20 @@ class JsonAdaptedOrder {
     private final String deliveryDate;
     private final Status deliveryStatus;
     private final String request;
+    private final Long id;
+
+    /**
+     * Constructs a {@code JsonAdaptedOrder} with the given order details and no order ID.
+     */
+    public JsonAdaptedOrder(String name, String phone, String email, String address,
+                            List<JsonAdaptedOrderDescription> orderDescriptions, List<JsonAdaptedTag> tagged,
+                            String deliveryDate, Status status, String request) {
+        this(name, phone, email, address, orderDescriptions, tagged, deliveryDate, status, request, null);
+    }
 
     /**
      * Constructs a {@code JsonAdaptedOrder} with the given order details.
+     * Orders saved before order IDs were introduced have no {@code id}, and are given one when they are loaded.
      */
     @JsonCreator
     public JsonAdaptedOrder(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
@@ -51,7 +63,8 @@ class JsonAdaptedOrder {
                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                             @JsonProperty("deliveryDate") String deliveryDate,
                             @JsonProperty("deliveryStatus") Status status,
-                            @JsonProperty("request") String request) {
+                            @JsonProperty("request") String request,
+                            @JsonProperty("id") Long id) {
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -65,6 +78,7 @@ class JsonAdaptedOrder {
         this.deliveryDate = deliveryDate;
         this.deliveryStatus = status;
         this.request = request;
+        this.id = id;
     }
 
     /**
@@ -89,6 +103,7 @@ class JsonAdaptedOrder {
         deliveryDate = source.getDeliveryDate().toString();
         deliveryStatus = source.getDeliveryStatus().getDeliveryStatus();
         request = source.getRequest().toString();
+        id = source.getId().map(orderId -> orderId.value).orElse(null);
     }
 
     /**
@@ -108,7 +123,7 @@ class JsonAdaptedOrder {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.of(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -116,7 +131,7 @@ class JsonAdaptedOrder {
         if (!Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.of(phone);
 
         if (email == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName()));
@@ -124,7 +139,7 @@ class JsonAdaptedOrder {
         if (!Email.isValidEmail(email)) {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
-        final Email modelEmail = new Email(email);
+        final Email modelEmail = Email.of(email);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
@@ -132,7 +147,7 @@ class JsonAdaptedOrder {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.of(address);
 
         if (deliveryDate == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -173,8 +188,13 @@ class JsonAdaptedOrder {
 
         final Request modelRequest = new Request(request);
 
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(OrderId.MESSAGE_CONSTRAINTS);
+        }
+        final OrderId modelId = id == null ? null : new OrderId(id);
+
         return new Order(modelName, modelPhone, modelEmail, modelAddress, modelOrderDescriptions, modelTags,
-                modelDeliveryDate, modelDeliveryStatus, modelRequest);
+                modelDeliveryDate, modelDeliveryStatus, modelRequest, modelId);
     }
 
 }
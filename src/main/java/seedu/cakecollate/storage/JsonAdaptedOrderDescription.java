@@ -38,6 +38,6 @@ public class JsonAdaptedOrderDescription {
         if (!OrderDescription.isValidOrderDescription(orderDescription)) {
             throw new IllegalValueException(OrderDescription.MESSAGE_CONSTRAINTS);
         }
-        return new OrderDescription(orderDescription);
+        return OrderDescription.of(orderDescription);
     }
 }
@@ -43,8 +43,7 @@ public class JsonAdaptedOrderItems {
         if (!Type.isValidType(type)) {
             throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
         }
-        final Type typeName = new Type(type);
-        return new OrderItem(typeName);
+        return OrderItem.of(type);
     }
 }
 
@@ -3,19 +3,33 @@ package seedu.cakecollate.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
 
 import seedu.cakecollate.commons.core.LogsCenter;
 import seedu.cakecollate.commons.exceptions.DataConversionException;
 import seedu.cakecollate.commons.exceptions.IllegalValueException;
 import seedu.cakecollate.commons.util.FileUtil;
 import seedu.cakecollate.commons.util.JsonUtil;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 
 /**
  * A class to access CakeCollate data stored as a json file on the hard disk.
+ *
+ * The file is in the format of {@link JsonSerializableCakeCollate}, but is read and written one order at a time,
+ * so that memory use does not grow with the size of the file beyond the orders themselves. Orders read are
+ * converted in parallel by a {@link ParallelOrderConverter}. A binary snapshot found at the file location is
+ * imported, so switching the format of an existing file only takes a read followed by a save.
  */
 public class JsonCakeCollateStorage implements CakeCollateStorage {
 
@@ -45,14 +59,23 @@ public class JsonCakeCollateStorage implements CakeCollateStorage {
     public Optional<ReadOnlyCakeCollate> readCakeCollate(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCakeCollate> jsonCakeCollate = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCakeCollate.class);
-        if (!jsonCakeCollate.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
+        if (BinaryCakeCollateStorage.isBinarySnapshot(filePath)) {
+            logger.info("Importing binary data from " + filePath);
+            return new BinaryCakeCollateStorage(filePath).readCakeCollate(filePath);
+        }
 
+        ParallelOrderConverter converter = new ParallelOrderConverter();
         try {
-            return Optional.of(jsonCakeCollate.get().toModelType());
+            Map<String, JsonNode> otherFields = JsonUtil.readJsonArrayFile(filePath,
+                    JsonSerializableCakeCollate.ORDERS_FIELD, JsonAdaptedOrder.class, converter::add);
+            CakeCollate cakeCollate = converter.toModelType();
+            JsonSerializableCakeCollate.setNextOrderId(cakeCollate,
+                    readNextOrderId(otherFields.get(JsonSerializableCakeCollate.NEXT_ORDER_ID_FIELD)));
+            return Optional.of(cakeCollate);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -64,6 +87,15 @@ public class JsonCakeCollateStorage implements CakeCollateStorage {
         saveCakeCollate(cakeCollate, filePath);
     }
 
+    /**
+     * Saves {@code cakeCollate} in full, as a file in this format cannot be changed in place.
+     */
+    @Override
+    public void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException {
+        requireNonNull(changes);
+        saveCakeCollate(cakeCollate);
+    }
+
     /**
      * Similar to {@link #saveCakeCollate(ReadOnlyCakeCollate)}.
      *
@@ -74,7 +106,42 @@ public class JsonCakeCollateStorage implements CakeCollateStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCakeCollate(cakeCollate), filePath);
+        JsonUtil.saveJsonArrayFile(Map.of(JsonSerializableCakeCollate.NEXT_ORDER_ID_FIELD,
+                cakeCollate.getNextOrderId()), toJsonAdaptedOrders(cakeCollate.getOrderList()),
+                JsonSerializableCakeCollate.ORDERS_FIELD, filePath);
+    }
+
+    /**
+     * Saves {@code orders} to {@code filePath} in the same format as {@link #saveCakeCollate(ReadOnlyCakeCollate)}.
+     * Each order is converted and written as soon as it is taken from {@code orders}, so the orders can be
+     * generated as they are written. The next order added after the file is read gets the ID after the largest
+     * ID of the orders.
+     */
+    public void saveOrders(Iterable<Order> orders, Path filePath) throws IOException {
+        requireNonNull(orders);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonArrayFile(toJsonAdaptedOrders(orders), JsonSerializableCakeCollate.ORDERS_FIELD, filePath);
+    }
+
+    private static Iterable<JsonAdaptedOrder> toJsonAdaptedOrders(Iterable<Order> orders) {
+        return () -> StreamSupport.stream(orders.spliterator(), false).map(JsonAdaptedOrder::new).iterator();
+    }
+
+    /**
+     * Returns the ID of the next order in {@code value}, or null if there is none.
+     *
+     * @throws IllegalValueException if {@code value} is not a whole number.
+     */
+    private static Long readNextOrderId(JsonNode value) throws IllegalValueException {
+        if (value == null || value.isNull()) {
+            return null;
+        }
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            throw new IllegalValueException(OrderId.MESSAGE_CONSTRAINTS);
+        }
+        return value.asLong();
     }
 
 }
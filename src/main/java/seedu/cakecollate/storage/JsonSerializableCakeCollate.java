@@ -11,7 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.cakecollate.commons.exceptions.IllegalValueException;
 import seedu.cakecollate.model.CakeCollate;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
-import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 
 /**
  * An Immutable CakeCollate that is serializable to JSON format.
@@ -21,13 +21,23 @@ class JsonSerializableCakeCollate {
 
     public static final String MESSAGE_DUPLICATE_ORDER = "Orders list contains duplicate order(s).";
 
+    /** Name of the json field holding the ID of the next order added, which is missing from older files. */
+    static final String NEXT_ORDER_ID_FIELD = "nextOrderId";
+
+    /** Name of the json field holding the orders. */
+    static final String ORDERS_FIELD = "orders";
+
+    private final Long nextOrderId;
     private final List<JsonAdaptedOrder> orders = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableCakeCollate} with the given orders.
+     * Constructs a {@code JsonSerializableCakeCollate} with the given ID of the next order, which may be null, and
+     * orders.
      */
     @JsonCreator
-    public JsonSerializableCakeCollate(@JsonProperty("orders") List<JsonAdaptedOrder> orders) {
+    public JsonSerializableCakeCollate(@JsonProperty(NEXT_ORDER_ID_FIELD) Long nextOrderId,
+            @JsonProperty(ORDERS_FIELD) List<JsonAdaptedOrder> orders) {
+        this.nextOrderId = nextOrderId;
         this.orders.addAll(orders);
     }
 
@@ -37,6 +47,7 @@ class JsonSerializableCakeCollate {
      * @param source future changes to this will not affect the created {@code JsonSerializableCakeCollate}.
      */
     public JsonSerializableCakeCollate(ReadOnlyCakeCollate source) {
+        nextOrderId = source.getNextOrderId();
         orders.addAll(source.getOrderList().stream().map(JsonAdaptedOrder::new).collect(Collectors.toList()));
     }
 
@@ -46,15 +57,28 @@ class JsonSerializableCakeCollate {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public CakeCollate toModelType() throws IllegalValueException {
-        CakeCollate cakeCollate = new CakeCollate();
+        ParallelOrderConverter converter = new ParallelOrderConverter();
         for (JsonAdaptedOrder jsonAdaptedOrder : orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            if (cakeCollate.hasOrder(order)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
-            }
-            cakeCollate.addOrder(order);
+            converter.add(jsonAdaptedOrder);
         }
+        CakeCollate cakeCollate = converter.toModelType();
+        setNextOrderId(cakeCollate, nextOrderId);
         return cakeCollate;
     }
 
+    /**
+     * Makes {@code nextOrderId} the ID of the next order added to {@code cakeCollate}, unless it is null.
+     *
+     * @throws IllegalValueException if {@code nextOrderId} is not a valid ID.
+     */
+    static void setNextOrderId(CakeCollate cakeCollate, Long nextOrderId) throws IllegalValueException {
+        if (nextOrderId == null) {
+            return;
+        }
+        if (nextOrderId <= 0) {
+            throw new IllegalValueException(OrderId.MESSAGE_CONSTRAINTS);
+        }
+        cakeCollate.setNextOrderId(nextOrderId);
+    }
+
 }
@@ -0,0 +1,135 @@
+package seedu.cakecollate.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import seedu.cakecollate.commons.exceptions.IllegalValueException;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.exceptions.DuplicateOrderException;
+
+/**
+ * Converts {@code JsonAdaptedOrder}s into the model's {@code CakeCollate}, validating the orders on all cores.
+ *
+ * Adapted orders are collected into chunks of {@link #CHUNK_SIZE}, and each full chunk is converted on the common
+ * {@code ForkJoinPool} while the following ones are still being read. The converted chunks are collected in file
+ * order, and each chunk stops at its first illegal value, so the error reported is always the one of the first
+ * illegal order in the file. The uniqueness of the orders is checked once all of them have been converted.
+ */
+class ParallelOrderConverter {
+
+    /** Number of adapted orders converted by a single task. */
+    static final int CHUNK_SIZE = 2048;
+
+    /** Number of chunks that may be waiting for conversion at once, which bounds the adapted orders held. */
+    private static final int MAX_PENDING_CHUNKS = 2 * ForkJoinPool.getCommonPoolParallelism();
+
+    private final Deque<Future<List<Order>>> pendingChunks = new ArrayDeque<>();
+    private final List<Order> orders = new ArrayList<>();
+    private List<JsonAdaptedOrder> chunk = new ArrayList<>();
+
+    /**
+     * Queues {@code jsonAdaptedOrder} for conversion.
+     *
+     * @throws IllegalValueException if an order queued earlier violates any data constraints.
+     */
+    public void add(JsonAdaptedOrder jsonAdaptedOrder) throws IllegalValueException {
+        requireNonNull(jsonAdaptedOrder);
+        chunk.add(jsonAdaptedOrder);
+        if (chunk.size() == CHUNK_SIZE) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Waits for all queued orders to be converted, and returns them as a {@code CakeCollate}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated, or duplicate orders.
+     */
+    public CakeCollate toModelType() throws IllegalValueException {
+        try {
+            if (pendingChunks.isEmpty()) {
+                // too few orders to be worth handing over to other threads
+                orders.addAll(convert(chunk));
+            } else {
+                submitChunk();
+                while (!pendingChunks.isEmpty()) {
+                    collectOldestChunk();
+                }
+            }
+        } finally {
+            cancelPendingChunks();
+        }
+        chunk = new ArrayList<>();
+
+        CakeCollate cakeCollate = new CakeCollate();
+        try {
+            cakeCollate.setOrders(orders);
+        } catch (DuplicateOrderException e) {
+            throw new IllegalValueException(JsonSerializableCakeCollate.MESSAGE_DUPLICATE_ORDER);
+        }
+        return cakeCollate;
+    }
+
+    private void submitChunk() throws IllegalValueException {
+        try {
+            if (pendingChunks.size() == MAX_PENDING_CHUNKS) {
+                collectOldestChunk();
+            }
+        } catch (IllegalValueException e) {
+            cancelPendingChunks();
+            throw e;
+        }
+        List<JsonAdaptedOrder> chunkToConvert = chunk;
+        chunk = new ArrayList<>();
+        pendingChunks.add(ForkJoinPool.commonPool().submit(() -> convert(chunkToConvert)));
+    }
+
+    /**
+     * Waits for the oldest pending chunk to be converted, and appends its orders to {@code orders}.
+     */
+    private void collectOldestChunk() throws IllegalValueException {
+        Future<List<Order>> oldestChunk = pendingChunks.poll();
+        try {
+            orders.addAll(oldestChunk.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalValueException("Interrupted while converting orders", e);
+        } catch (ExecutionException e) {
+            // the pool wraps checked exceptions of a task in a RuntimeException
+            Throwable cause = e.getCause();
+            for (Throwable t = cause; t != null; t = t.getCause()) {
+                if (t instanceof IllegalValueException) {
+                    throw (IllegalValueException) t;
+                }
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void cancelPendingChunks() {
+        for (Future<List<Order>> pendingChunk : pendingChunks) {
+            pendingChunk.cancel(false);
+        }
+        pendingChunks.clear();
+    }
+
+    private static List<Order> convert(List<JsonAdaptedOrder> jsonAdaptedOrders) throws IllegalValueException {
+        List<Order> convertedOrders = new ArrayList<>(jsonAdaptedOrders.size());
+        for (JsonAdaptedOrder jsonAdaptedOrder : jsonAdaptedOrders) {
+            convertedOrders.add(jsonAdaptedOrder.toModelType());
+        }
+        return convertedOrders;
+    }
+
+}
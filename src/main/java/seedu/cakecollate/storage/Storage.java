@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.OrderChanges;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
 import seedu.cakecollate.model.ReadOnlyOrderItems;
 import seedu.cakecollate.model.ReadOnlyUserPrefs;
@@ -30,6 +31,9 @@ public interface Storage extends CakeCollateStorage, UserPrefsStorage, OrderItem
     @Override
     void saveCakeCollate(ReadOnlyCakeCollate cakeCollate) throws IOException;
 
+    @Override
+    void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException;
+
     @Override
     Path getOrderItemsFilePath();
 
@@ -39,5 +43,17 @@ public interface Storage extends CakeCollateStorage, UserPrefsStorage, OrderItem
     @Override
     void saveOrderItems(ReadOnlyOrderItems orderItems) throws IOException;
 
+    /**
+     * Throws the error of any save that failed after its save method had returned.
+     * @throws IOException if such a save failed.
+     */
+    void checkForSaveErrors() throws IOException;
+
+    /**
+     * Blocks until all data given to the save methods has been written.
+     * @throws IOException if there was any problem writing the data.
+     */
+    void flush() throws IOException;
+
 }
 
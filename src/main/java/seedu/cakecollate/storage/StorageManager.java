@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import seedu.cakecollate.commons.core.LogsCenter;
 import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.OrderChanges;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
 import seedu.cakecollate.model.ReadOnlyOrderItems;
 import seedu.cakecollate.model.ReadOnlyUserPrefs;
@@ -65,7 +66,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyCakeCollate> readCakeCollate(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return cakeCollateStorage.readCakeCollate(filePath);
     }
 
@@ -76,10 +77,17 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveCakeCollate(ReadOnlyCakeCollate cakeCollate, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         cakeCollateStorage.saveCakeCollate(cakeCollate, filePath);
     }
 
+    @Override
+    public void saveCakeCollateChanges(ReadOnlyCakeCollate cakeCollate, OrderChanges changes) throws IOException {
+        logger.fine(() -> "Attempting to write " + changes + " to data file: "
+                + cakeCollateStorage.getCakeCollateFilePath());
+        cakeCollateStorage.saveCakeCollateChanges(cakeCollate, changes);
+    }
+
     // ================ OrderItems methods ==============================
 
     @Override
@@ -94,7 +102,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyOrderItems> readOrderItems(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return orderItemsStorage.readOrderItems(filePath);
     }
 
@@ -105,8 +113,24 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveOrderItems(ReadOnlyOrderItems orderItems, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         orderItemsStorage.saveOrderItems(orderItems, filePath);
     }
 
+    // ================ Saving methods ==============================
+
+    /**
+     * Does nothing, as all saves are written before the save methods return.
+     */
+    @Override
+    public void checkForSaveErrors() {
+    }
+
+    /**
+     * Does nothing, as all saves are written before the save methods return.
+     */
+    @Override
+    public void flush() {
+    }
+
 }
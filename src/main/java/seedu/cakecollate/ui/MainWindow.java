@@ -2,12 +2,16 @@ package seedu.cakecollate.ui;
 
 import static seedu.cakecollate.logic.commands.HelpCommand.SHOWING_RETURN_MESSAGE;
 
+import java.util.List;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
+import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
@@ -19,11 +23,15 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.cakecollate.commons.core.GuiSettings;
 import seedu.cakecollate.commons.core.LogsCenter;
+import seedu.cakecollate.commons.core.Messages;
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
 import seedu.cakecollate.logic.Logic;
 import seedu.cakecollate.logic.commands.CommandResult;
 import seedu.cakecollate.logic.commands.HelpCommand;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -32,6 +40,8 @@ import seedu.cakecollate.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    /** Largest number of orders updated to delivered that are listed to the user by ID. */
+    private static final int MAX_DELIVERED_ORDERS_LISTED = 10;
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -147,11 +157,24 @@ public class MainWindow extends UiPart<Stage> {
         orderItemTablePlaceholder.getChildren().add(orderItemPanel.getRoot());
     }
 
-    void updateDeliveryStatuses() throws ParseException, CommandException {
-        String deliveryStatus = logic.updateDeliveryStatus();
-        if (!deliveryStatus.isEmpty()) {
-            executeCommand(logic.updateDeliveryStatus());
+    /**
+     * Updates the orders past their delivery date to delivered, and tells the user which they are if there are any.
+     */
+    void updateDeliveryStatuses() throws CommandException {
+        List<Order> deliveredOrders = logic.deliverOverdueOrders();
+        if (deliveredOrders.isEmpty()) {
+            return;
+        }
+        String orderIds = deliveredOrders.stream()
+                .limit(MAX_DELIVERED_ORDERS_LISTED)
+                .map(order -> order.getId().map(OrderId::toString).orElse(order.getName().fullName))
+                .collect(Collectors.joining(" "));
+        if (deliveredOrders.size() > MAX_DELIVERED_ORDERS_LISTED) {
+            orderIds += " and " + (deliveredOrders.size() - MAX_DELIVERED_ORDERS_LISTED) + " more";
         }
+        String result = String.format(Messages.MESSAGE_OVERDUE_ORDERS_DELIVERED, deliveredOrders.size(), orderIds);
+        resultDisplay.setFeedbackToUser(result);
+        logger.info(() -> "Result: " + result);
     }
 
     void initialiseHelpPanelAndButton() {
@@ -259,6 +282,32 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Records the time from {@code refreshStart} until the window has been laid out again, once the result of a
+     * command has been shown, as the time taken by the UI to refresh after the command.
+     */
+    private void recordUiRefresh(long refreshStart) {
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            return;
+        }
+        Runnable listener = new Runnable() {
+            private boolean isRecorded;
+
+            @Override
+            public void run() {
+                if (!isRecorded) {
+                    isRecorded = true;
+                    MetricsCenter.recordUiRefresh(System.nanoTime() - refreshStart);
+                    // listeners cannot be removed while the scene is running them
+                    Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+                }
+            }
+        };
+        scene.addPostLayoutPulseListener(listener);
+        Platform.requestNextPulse();
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -268,6 +317,7 @@ public class MainWindow extends UiPart<Stage> {
         try {
             commandBox.updateUserInputs(commandText);
             CommandResult commandResult = logic.execute(commandText);
+            long refreshStart = System.nanoTime();
             String result = commandResult.getFeedbackToUser();
 
             if (commandResult.isShowHelp()) {
@@ -283,11 +333,12 @@ public class MainWindow extends UiPart<Stage> {
             }
 
             resultDisplay.setFeedbackToUser(result);
-            logger.info("Result: " + result);
+            logger.info(() -> "Result: " + result);
+            recordUiRefresh(refreshStart);
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("Invalid command: " + commandText);
+            logger.info(() -> "Invalid command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
@@ -1,8 +1,14 @@
 package seedu.cakecollate.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
@@ -14,10 +20,14 @@ import seedu.cakecollate.model.order.OrderDescription;
 
 /**
  * An UI component that displays information of a {@code Order}.
+ *
+ * A card can be rebound to another order with {@link #setOrder(Order, int)}, so that a list cell can keep using
+ * the same card, and its labels, for whichever order it is showing.
  */
 public class OrderCard extends UiPart<Region> {
 
     private static final String FXML = "OrderCard.fxml";
+    private static final String DELIVERY_STATUS_STYLE_CLASS_PREFIX = "cell_deliveryStatus_label_";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -27,7 +37,11 @@ public class OrderCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on CakeCollate level 4</a>
      */
 
-    public final Order order;
+    private Order order;
+    private int displayedIndex;
+    private String deliveryStatusStyleClass;
+    private final List<Label> orderDescriptionLabels = new ArrayList<>();
+    private final List<Label> tagLabels = new ArrayList<>();
 
     @FXML
     private HBox cardPane;
@@ -52,40 +66,85 @@ public class OrderCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code OrderCard}, to be bound to an order with {@link #setOrder(Order, int)}.
+     */
+    public OrderCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code OrderCode} with the given {@code Order} and index to display.
      */
     public OrderCard(Order order, int displayedIndex) {
-        super(FXML);
+        this();
+        setOrder(order, displayedIndex);
+    }
+
+    /**
+     * Shows {@code order} with the given index on this card.
+     */
+    public void setOrder(Order order, int displayedIndex) {
+        setOrder(order, displayedIndex, new DisplayText(order));
+    }
+
+    /**
+     * Shows {@code order} with the given index on this card, using its precomputed {@code displayText}.
+     * Does nothing if the card is already showing them.
+     */
+    void setOrder(Order order, int displayedIndex, DisplayText displayText) {
+        requireNonNull(order);
+        requireNonNull(displayText);
+        if (order == this.order && displayedIndex == this.displayedIndex) {
+            return;
+        }
+
+        id.setText(displayText.getIdText(displayedIndex));
         this.order = order;
-        id.setText(displayedIndex + ". ");
-        name.setText(order.getName().fullName);
-        phone.setText(order.getPhone().value);
-        address.setText(order.getAddress().value);
-        email.setText(order.getEmail().value);
-
-        // this map maps order descriptions to quantities entered in order
-        Map<OrderDescription, Integer> orderDescriptionMap = order.getOrderDescriptions(); /*.stream()*/
-        orderDescriptionMap.keySet().stream()
-                .sorted(Comparator.comparing(orderDescription -> orderDescription.value))
-                .forEach(orderDescription -> orderDescriptions
-                        .getChildren()
-                        .add(createOrderDescLabel(orderDescription, orderDescriptionMap.get(orderDescription))));
-        order.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-        deliveryDate.setText(order.getDeliveryDate().toString());
-        deliveryStatus.setText(order.getDeliveryStatus().toString());
-        request.setText(order.getRequest().toString());
-        setDeliveryStatusStyle();
+        this.displayedIndex = displayedIndex;
+        name.setText(displayText.name);
+        phone.setText(displayText.phone);
+        address.setText(displayText.address);
+        email.setText(displayText.email);
+        setLabelTexts(orderDescriptions, orderDescriptionLabels, displayText.orderDescriptions);
+        setLabelTexts(tags, tagLabels, displayText.tags);
+        deliveryDate.setText(displayText.deliveryDate);
+        deliveryStatus.setText(displayText.deliveryStatus);
+        request.setText(displayText.request);
+        setDeliveryStatusStyle(displayText.deliveryStatusStyleClass);
     }
 
-    private Node createOrderDescLabel(OrderDescription orderDescription, int quantity) {
-        return new Label(String.format("%d x %s", quantity, orderDescription.value));
+    public Order getOrder() {
+        return order;
     }
 
-    public void setDeliveryStatusStyle() {
-        deliveryStatus.getStyleClass().add("cell_deliveryStatus_label_" + order.getDeliveryStatus().toString());
+    /**
+     * Shows each of {@code texts} in a label of {@code pane}, reusing the labels in {@code labels} and adding to
+     * them as needed.
+     */
+    private static void setLabelTexts(FlowPane pane, List<Label> labels, List<String> texts) {
+        while (labels.size() < texts.size()) {
+            labels.add(new Label());
+        }
+        for (int i = 0; i < texts.size(); i++) {
+            labels.get(i).setText(texts.get(i));
+        }
+
+        ObservableList<Node> children = pane.getChildren();
+        if (children.size() != texts.size()) {
+            children.setAll(labels.subList(0, texts.size()));
+        }
+    }
+
+    private void setDeliveryStatusStyle(String styleClass) {
+        if (styleClass.equals(deliveryStatusStyleClass)) {
+            return;
+        }
+        if (deliveryStatusStyleClass != null) {
+            deliveryStatus.getStyleClass().remove(deliveryStatusStyleClass);
+        }
+        deliveryStatus.getStyleClass().add(styleClass);
+        deliveryStatusStyleClass = styleClass;
     }
 
     @Override
@@ -106,5 +165,60 @@ public class OrderCard extends UiPart<Region> {
                 && order.equals(card.order);
     }
 
+    /**
+     * The text shown on a card for an {@code Order}, with the order descriptions and tags sorted.
+     */
+    static class DisplayText {
+        private final String orderId;
+        private final String name;
+        private final String phone;
+        private final String address;
+        private final String email;
+        private final List<String> orderDescriptions;
+        private final List<String> tags;
+        private final String deliveryDate;
+        private final String deliveryStatus;
+        private final String deliveryStatusStyleClass;
+        private final String request;
+        private int idTextIndex;
+        private String idText;
+
+        DisplayText(Order order) {
+            requireNonNull(order);
+            orderId = order.getId().map(id -> id + " ").orElse("");
+            name = order.getName().fullName;
+            phone = order.getPhone().value;
+            address = order.getAddress().value;
+            email = order.getEmail().value;
+
+            // this map maps order descriptions to quantities entered in order
+            Map<OrderDescription, Integer> orderDescriptionMap = order.getOrderDescriptions();
+            orderDescriptions = orderDescriptionMap.keySet().stream()
+                    .sorted(Comparator.comparing(orderDescription -> orderDescription.value))
+                    .map(orderDescription -> String.format("%d x %s",
+                            orderDescriptionMap.get(orderDescription), orderDescription.value))
+                    .collect(Collectors.toList());
+            tags = order.getTags().stream()
+                    .map(tag -> tag.tagName)
+                    .sorted()
+                    .collect(Collectors.toList());
+            deliveryDate = order.getDeliveryDate().toString();
+            deliveryStatus = order.getDeliveryStatus().toString();
+            deliveryStatusStyleClass = DELIVERY_STATUS_STYLE_CLASS_PREFIX + deliveryStatus;
+            request = order.getRequest().toString();
+        }
+
+        /**
+         * Returns the text of the ID label for the order shown with the given index. The text for the last index
+         * asked for is kept, as an order is usually shown with the same index each time its card is rebound.
+         */
+        String getIdText(int displayedIndex) {
+            if (idText == null || displayedIndex != idTextIndex) {
+                idText = displayedIndex + ". " + orderId;
+                idTextIndex = displayedIndex;
+            }
+            return idText;
+        }
+    }
 
 }
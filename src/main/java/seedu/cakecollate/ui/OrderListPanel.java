@@ -13,8 +13,15 @@ import seedu.cakecollate.model.order.Order;
  * Panel containing the list of orders.
  */
 public class OrderListPanel extends Panel {
+    /** Number of orders whose display text is kept, which should exceed the number of cells on screen. */
+    private static final int DISPLAY_TEXT_CACHE_SIZE = 256;
+
     private final Logger logger = LogsCenter.getLogger(OrderListPanel.class);
 
+    // the display text of recently shown orders, each in the slot given by the identity hash code of its order
+    private final Order[] cachedOrders = new Order[DISPLAY_TEXT_CACHE_SIZE];
+    private final OrderCard.DisplayText[] cachedDisplayTexts = new OrderCard.DisplayText[DISPLAY_TEXT_CACHE_SIZE];
+
     @FXML
     private ListView<Order> listView;
 
@@ -27,10 +34,26 @@ public class OrderListPanel extends Panel {
         listView.setCellFactory(listView -> new OrderListViewCell());
     }
 
+    /**
+     * Returns the display text of {@code order}, computing it only if it is not cached.
+     * Orders are immutable, so the cached text of an order instance never goes stale.
+     */
+    private OrderCard.DisplayText getDisplayText(Order order) {
+        int slot = System.identityHashCode(order) & (DISPLAY_TEXT_CACHE_SIZE - 1);
+        if (cachedOrders[slot] != order) {
+            cachedOrders[slot] = order;
+            cachedDisplayTexts[slot] = new OrderCard.DisplayText(order);
+        }
+        return cachedDisplayTexts[slot];
+    }
+
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Order} using a {@code OrderCard}.
+     * Each cell creates its card once, and rebinds it to the order it is showing.
      */
     class OrderListViewCell extends ListCell<Order> {
+        private OrderCard card;
+
         @Override
         protected void updateItem(Order order, boolean empty) {
             super.updateItem(order, empty);
@@ -39,7 +62,11 @@ public class OrderListPanel extends Panel {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new OrderCard(order, getIndex() + 1).getRoot());
+                if (card == null) {
+                    card = new OrderCard();
+                }
+                card.setOrder(order, getIndex() + 1, getDisplayText(order));
+                setGraphic(card.getRoot());
             }
         }
     }
@@ -1,5 +1,10 @@
 package seedu.cakecollate.ui;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -11,6 +16,7 @@ import seedu.cakecollate.MainApp;
 import seedu.cakecollate.commons.core.LogsCenter;
 import seedu.cakecollate.commons.util.StringUtil;
 import seedu.cakecollate.logic.Logic;
+import seedu.cakecollate.logic.commands.exceptions.CommandException;
 
 /**
  * The manager of the UI component.
@@ -24,6 +30,12 @@ public class UiManager implements Ui {
 
     private Logic logic;
     private MainWindow mainWindow;
+    private final ScheduledExecutorService deliveryStatusUpdater =
+            Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cakecollate-delivery-status-updater");
+                thread.setDaemon(true);
+                return thread;
+            });
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
@@ -45,6 +57,7 @@ public class UiManager implements Ui {
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
             mainWindow.updateDeliveryStatuses();
+            scheduleDeliveryStatusUpdate();
 
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
@@ -52,6 +65,25 @@ public class UiManager implements Ui {
         }
     }
 
+    /**
+     * Schedules the delivery statuses to be updated again at the start of the next day, on the JavaFX thread.
+     */
+    private void scheduleDeliveryStatusUpdate() {
+        ZonedDateTime now = ZonedDateTime.now();
+        ZonedDateTime nextMidnight = now.toLocalDate().plusDays(1).atStartOfDay(now.getZone());
+        deliveryStatusUpdater.schedule(() -> Platform.runLater(this::updateDeliveryStatusesAtMidnight),
+                Duration.between(now, nextMidnight).toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void updateDeliveryStatusesAtMidnight() {
+        try {
+            mainWindow.updateDeliveryStatuses();
+        } catch (CommandException e) {
+            logger.warning("Failed to update delivery statuses: " + e.getMessage());
+        }
+        scheduleDeliveryStatusUpdate();
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
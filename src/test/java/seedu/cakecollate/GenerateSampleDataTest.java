@@ -0,0 +1,103 @@
+package seedu.cakecollate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.commons.core.DataFormat;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.UserPrefs;
+import seedu.cakecollate.model.util.SampleDataGenerator;
+import seedu.cakecollate.storage.BinaryCakeCollateStorage;
+import seedu.cakecollate.storage.JournalCakeCollateStorage;
+import seedu.cakecollate.storage.JsonCakeCollateStorage;
+import seedu.cakecollate.storage.JsonOrderItemsStorage;
+
+public class GenerateSampleDataTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void parse_invalidParameters_throwsIllegalArgumentException() {
+        GenerateSampleData generateSampleData = new GenerateSampleData(new UserPrefs());
+        assertThrows(IllegalArgumentException.class, () -> generateSampleData.parse());
+        assertThrows(IllegalArgumentException.class, () -> generateSampleData.parse("--orders=-1"));
+        assertThrows(IllegalArgumentException.class, () -> generateSampleData.parse("--orders=many"));
+        assertThrows(IllegalArgumentException.class, () -> generateSampleData.parse("--orders=1", "--seed="));
+        assertThrows(IllegalArgumentException.class, () -> generateSampleData.parse("--orders=1", "--today=1/4/2021"));
+        assertThrows(IllegalArgumentException.class, () -> generateSampleData.parse("--orders=1", "--size=1"));
+    }
+
+    @Test
+    public void write_existingData_throwsIoExceptionAndDataKept() throws Exception {
+        Path folder = testFolder.resolve("existing");
+        Path cakeCollateFilePath = folder.resolve("cakecollate.json");
+        Files.createDirectories(folder);
+        Files.writeString(cakeCollateFilePath, "{}");
+
+        GenerateSampleData generateSampleData = new GenerateSampleData(new UserPrefs());
+        generateSampleData.parse("--orders=10", "--data=" + folder);
+        assertThrows(IOException.class, generateSampleData::write);
+        assertEquals("{}", Files.readString(cakeCollateFilePath));
+        assertFalse(Files.exists(folder.resolve("OrderItems.json")));
+    }
+
+    @Test
+    public void write_overwrite_journalDeleted() throws Exception {
+        Path folder = testFolder.resolve("overwritten");
+        GenerateSampleData generateSampleData = new GenerateSampleData(new UserPrefs());
+        generateSampleData.parse("--orders=10", "--data=" + folder, "--overwrite");
+        Path journalPath = JournalCakeCollateStorage.getJournalPaths(generateSampleData.getCakeCollateFilePath())
+                .get(0);
+        Files.createDirectories(folder);
+        Files.writeString(journalPath, "{\"added\": [], \"removed\": []}\n");
+        generateSampleData.write();
+
+        assertFalse(Files.exists(journalPath));
+        assertEquals(10, new JournalCakeCollateStorage(generateSampleData.getCakeCollateFilePath())
+                .readCakeCollate().get().getOrderList().size());
+    }
+
+    @Test
+    public void write_binaryFormatPreferred_writesBinarySnapshot() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCakeCollateFileFormat(DataFormat.BINARY);
+        GenerateSampleData generateSampleData = new GenerateSampleData(userPrefs);
+        generateSampleData.parse("--orders=10", "--data=" + testFolder.resolve("binary"));
+        generateSampleData.write();
+
+        // binary snapshots start with the bytes "CCBS"
+        byte[] bytes = Files.readAllBytes(generateSampleData.getCakeCollateFilePath());
+        assertEquals("CCBS", new String(bytes, 0, 4, StandardCharsets.US_ASCII));
+        assertEquals(10, new BinaryCakeCollateStorage(generateSampleData.getCakeCollateFilePath())
+                .readCakeCollate().get().getOrderList().size());
+    }
+
+    @Test
+    public void write_validParameters_writesGeneratedOrders() throws Exception {
+        GenerateSampleData generateSampleData = new GenerateSampleData(new UserPrefs());
+        generateSampleData.parse("--orders=100", "--seed=7", "--today=2021-04-01", "--data=" + testFolder);
+        assertEquals(testFolder.resolve("cakecollate.json"), generateSampleData.getCakeCollateFilePath());
+        assertEquals(testFolder.resolve("OrderItems.json"), generateSampleData.getOrderItemsFilePath());
+        generateSampleData.write();
+
+        CakeCollate expectedCakeCollate = new CakeCollate();
+        expectedCakeCollate.setOrders(new SampleDataGenerator(100, 7, LocalDate.of(2021, 4, 1)).generateOrders());
+        assertEquals(expectedCakeCollate, new CakeCollate(
+                new JsonCakeCollateStorage(generateSampleData.getCakeCollateFilePath()).readCakeCollate().get()));
+        assertEquals(SampleDataGenerator.getOrderItems().getOrderItemList(),
+                new JsonOrderItemsStorage(generateSampleData.getOrderItemsFilePath()).readOrderItems().get()
+                        .getOrderItemList());
+    }
+
+}
@@ -0,0 +1,119 @@
+package seedu.cakecollate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.commons.core.Config;
+import seedu.cakecollate.commons.util.ConfigUtil;
+import seedu.cakecollate.model.util.SampleDataUtil;
+import seedu.cakecollate.storage.JournalCakeCollateStorage;
+
+public class RunBatchTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private RunBatch runBatch;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        Config config = new Config();
+        config.setUserPrefsFilePath(testFolder.resolve("preferences.json"));
+        config.setMetricsFilePath(testFolder.resolve("metrics.json"));
+        Path configPath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configPath);
+
+        runBatch = new RunBatch();
+        runBatch.parse("--config=" + configPath, "--data=" + testFolder.resolve("data"));
+    }
+
+    @Test
+    public void parse_invalidParameters_throwsIllegalArgumentException() {
+        RunBatch runBatch = new RunBatch();
+        assertThrows(IllegalArgumentException.class, () -> runBatch.parse("--config="));
+        assertThrows(IllegalArgumentException.class, () -> runBatch.parse("--data="));
+        assertThrows(IllegalArgumentException.class, () -> runBatch.parse("--size=1"));
+        assertThrows(IllegalArgumentException.class, () -> runBatch.parse("first.txt", "second.txt"));
+    }
+
+    @Test
+    public void run_validCommands_dataSavedAtEnd() throws Exception {
+        int sampleOrderCount = SampleDataUtil.getSampleOrders().length;
+        assertTrue(run("# end of day", "", "delete 1", "  delete 1  ", "list"));
+
+        assertEquals("", err.toString());
+        assertTrue(out.toString().startsWith("Ran 3 command(s), 0 failed"));
+        assertEquals(sampleOrderCount - 2, readSavedOrderCount());
+    }
+
+    @Test
+    public void run_failedCommands_reportedAndOthersRun() throws Exception {
+        int sampleOrderCount = SampleDataUtil.getSampleOrders().length;
+        assertFalse(run("delete 1", "bake 1", "delete 1000"));
+
+        String errors = err.toString();
+        assertTrue(errors.contains("Line 2: bake 1"));
+        assertTrue(errors.contains("Line 3: delete 1000"));
+        assertFalse(errors.contains("Line 1"));
+        assertTrue(out.toString().startsWith("Ran 3 command(s), 2 failed"));
+        assertEquals(sampleOrderCount - 1, readSavedOrderCount());
+    }
+
+    @Test
+    public void run_exit_laterCommandsNotRun() throws Exception {
+        int sampleOrderCount = SampleDataUtil.getSampleOrders().length;
+        assertTrue(run("delete 1", "exit", "delete 1"));
+
+        assertTrue(out.toString().startsWith("Ran 2 command(s), 0 failed"));
+        assertEquals(sampleOrderCount - 1, readSavedOrderCount());
+    }
+
+    @Test
+    public void run_unreadableData_nothingRunOrSaved() throws Exception {
+        Path cakeCollateFilePath = testFolder.resolve("data").resolve("cakecollate.json");
+        Files.createDirectories(cakeCollateFilePath.getParent());
+        String unreadableData = "{ \"orders\": [ { \"name\": \"Alex\" ";
+        Files.writeString(cakeCollateFilePath, unreadableData);
+
+        assertFalse(run("delete 1"));
+
+        assertTrue(err.toString().startsWith("Could not read the data, so no commands were run"));
+        assertEquals("", out.toString());
+        // the unreadable data was moved aside when it was read, and nothing was saved in its place
+        assertFalse(Files.exists(cakeCollateFilePath));
+        try (Stream<Path> dataFiles = Files.list(cakeCollateFilePath.getParent())) {
+            List<Path> movedFiles = dataFiles.collect(Collectors.toList());
+            assertEquals(1, movedFiles.size());
+            assertEquals(unreadableData, Files.readString(movedFiles.get(0)));
+        }
+    }
+
+    private boolean run(String... lines) throws Exception {
+        BufferedReader commands = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return runBatch.run(commands, new PrintStream(out, true), new PrintStream(err, true));
+    }
+
+    private int readSavedOrderCount() throws Exception {
+        Path cakeCollateFilePath = testFolder.resolve("data").resolve("cakecollate.json");
+        assertTrue(Files.exists(cakeCollateFilePath));
+        return new JournalCakeCollateStorage(cakeCollateFilePath).readCakeCollate().get().getOrderList().size();
+    }
+}
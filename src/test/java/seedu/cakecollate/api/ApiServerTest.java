@@ -0,0 +1,275 @@
+package seedu.cakecollate.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.commons.util.JsonUtil;
+import seedu.cakecollate.logic.LogicManager;
+import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.ModelManager;
+import seedu.cakecollate.model.OrderItems;
+import seedu.cakecollate.model.UserPrefs;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.storage.JsonCakeCollateStorage;
+import seedu.cakecollate.storage.JsonOrderItemsStorage;
+import seedu.cakecollate.storage.JsonUserPrefsStorage;
+import seedu.cakecollate.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final String TOKEN = ApiServer.newToken();
+    private static final String FUTURE_DATE =
+            LocalDate.now().plusDays(10).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+
+    @TempDir
+    public Path testFolder;
+
+    /** Stands in for the JavaFX thread, which commands run on in the app. */
+    private final ExecutorService modelThread = Executors.newSingleThreadExecutor();
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private LogicManager logic;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalCakeCollate(), new UserPrefs(), new OrderItems());
+        StorageManager storage = new StorageManager(new JsonCakeCollateStorage(testFolder.resolve("cakecollate.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonOrderItemsStorage(testFolder.resolve("OrderItems.json")));
+        logic = new LogicManager(model, storage);
+        server = new ApiServer(logic, modelThread, TOKEN);
+        server.start(0);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+        modelThread.shutdownNow();
+    }
+
+    @Test
+    public void get_allOrders_listed() throws Exception {
+        HttpResponse<String> response = send("GET", ApiServer.ORDERS_PATH, null);
+        assertEquals(200, response.statusCode());
+
+        Map<?, ?> body = JsonUtil.fromJsonString(response.body(), Map.class);
+        List<?> orders = (List<?>) body.get("orders");
+        assertEquals(model.getCakeCollate().getOrderList().size(), body.get("count"));
+        assertEquals(model.getCakeCollate().getOrderList().size(), orders.size());
+
+        Order first = model.getCakeCollate().getOrderList().get(0);
+        Map<?, ?> firstOrder = (Map<?, ?>) orders.get(0);
+        assertEquals(first.getName().fullName, firstOrder.get("name"));
+        assertEquals(first.getDeliveryDate().toString(), firstOrder.get("deliveryDate"));
+        assertEquals((int) first.getId().get().value, firstOrder.get("id"));
+    }
+
+    @Test
+    public void get_find_matchingOrdersListed() throws Exception {
+        HttpResponse<String> response = send("GET", ApiServer.ORDERS_PATH + "?find="
+                + URLEncoder.encode("n/Meier", StandardCharsets.UTF_8), null);
+        assertEquals(200, response.statusCode());
+
+        long expectedCount = model.getCakeCollate().getOrderList().stream()
+                .filter(order -> order.getName().fullName.contains("Meier")).count();
+        Map<?, ?> body = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals((int) expectedCount, body.get("count"));
+
+        // the orders shown in the app are not filtered
+        assertEquals(model.getCakeCollate().getOrderList().size(), model.getFilteredOrderList().size());
+    }
+
+    @Test
+    public void get_invalidQuery_badRequest() throws Exception {
+        assertEquals(400, send("GET", ApiServer.ORDERS_PATH + "?remind=soon", null).statusCode());
+        assertEquals(400, send("GET", ApiServer.ORDERS_PATH + "?sort=name", null).statusCode());
+        assertEquals(404, send("GET", ApiServer.ORDERS_PATH + "/1", null).statusCode());
+        assertEquals(405, send("DELETE", ApiServer.ORDERS_PATH, null).statusCode());
+    }
+
+    @Test
+    public void post_validOrder_addedAndListed() throws Exception {
+        int orderCount = model.getCakeCollate().getOrderList().size();
+        String order = "{\"name\": \"Amy Bee\", \"phone\": \"11111111\", \"email\": \"amy@example.com\", "
+                + "\"address\": \"Block 312, Amy Street 1\", \"orderDescriptions\": [\"Chocolate Cake\", "
+                + "\"Chocolate Cake\"], \"tags\": [\"friends\"], \"deliveryDate\": \"" + FUTURE_DATE + "\"}";
+        HttpResponse<String> response = send("POST", ApiServer.ORDERS_PATH, order);
+        assertEquals(201, response.statusCode(), response.body());
+
+        assertEquals(orderCount + 1, model.getCakeCollate().getOrderList().size());
+        Map<?, ?> body = JsonUtil.fromJsonString(send("GET", ApiServer.ORDERS_PATH, null).body(), Map.class);
+        assertEquals(orderCount + 1, body.get("count"));
+
+        // the order was added like an entered command, so it can be undone
+        assertTrue(model.canUndoCakeCollate());
+    }
+
+    @Test
+    public void post_invalidOrder_badRequest() throws Exception {
+        int orderCount = model.getCakeCollate().getOrderList().size();
+        assertEquals(400, send("POST", ApiServer.ORDERS_PATH, "{\"name\": \"Amy Bee\"}").statusCode());
+        assertEquals(400, send("POST", ApiServer.ORDERS_PATH, "not json").statusCode());
+        assertEquals(orderCount, model.getCakeCollate().getOrderList().size());
+    }
+
+    @Test
+    public void put_status_orderUpdated() throws Exception {
+        OrderId id = model.getCakeCollate().getOrderList().get(0).getId().get();
+        HttpResponse<String> response = send("PUT", ApiServer.ORDERS_PATH + "/" + id.value + "/status",
+                "{\"status\": \"cancelled\"}");
+        assertEquals(200, response.statusCode(), response.body());
+        assertEquals(Status.CANCELLED,
+                model.getOrder(id).get().getDeliveryStatus().getDeliveryStatus());
+
+        assertEquals(400, send("PUT", ApiServer.ORDERS_PATH + "/" + id.value + "/status",
+                "{\"status\": \"eaten\"}").statusCode());
+        assertEquals(400, send("PUT", ApiServer.ORDERS_PATH + "/999999/status",
+                "{\"status\": \"delivered\"}").statusCode());
+    }
+
+    @Test
+    public void get_withoutToken_unauthorized() throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url(ApiServer.ORDERS_PATH)));
+        assertEquals(401, client.send(request.build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        request.header("Authorization", "Bearer " + TOKEN + "x");
+        assertEquals(401, client.send(request.build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void get_foreignOrigin_forbidden() throws Exception {
+        HttpRequest.Builder request = newRequest("GET", ApiServer.ORDERS_PATH, null);
+        request.header("Origin", "http://localhost:" + server.getPort());
+        assertEquals(200, client.send(request.build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        request.setHeader("Origin", "https://cakes.example.com");
+        assertEquals(403, client.send(request.build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void get_foreignHost_forbidden() throws Exception {
+        // the http client sets the host header itself, so the request is written out by hand
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(("GET " + ApiServer.ORDERS_PATH + " HTTP/1.1\r\nHost: cakes.example.com\r\n"
+                    + "Authorization: Bearer " + TOKEN + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            InputStream input = socket.getInputStream();
+            String response = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            assertTrue(response.startsWith("HTTP/1.1 403"), response);
+        }
+    }
+
+    @Test
+    public void post_notJsonContentType_unsupportedMediaType() throws Exception {
+        int orderCount = model.getCakeCollate().getOrderList().size();
+        HttpRequest request = newRequest("POST", ApiServer.ORDERS_PATH, "{\"name\": \"Amy Bee\"}")
+                .setHeader("Content-Type", "text/plain")
+                .build();
+        assertEquals(415, client.send(request, HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(orderCount, model.getCakeCollate().getOrderList().size());
+    }
+
+    @Test
+    public void put_modelThreadBusy_acceptedAndRunLater() throws Exception {
+        server.stop();
+        server = new ApiServer(logic, modelThread, TOKEN, 100);
+        server.start(0);
+        CountDownLatch busy = new CountDownLatch(1);
+        modelThread.execute(() -> {
+            try {
+                busy.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        OrderId id = model.getCakeCollate().getOrderList().get(0).getId().get();
+        HttpResponse<String> response = send("PUT", ApiServer.ORDERS_PATH + "/" + id.value + "/status",
+                "{\"status\": \"cancelled\"}");
+        assertEquals(202, response.statusCode(), response.body());
+
+        busy.countDown();
+        modelThread.submit(() -> { }).get();
+        assertEquals(Status.CANCELLED, model.getOrder(id).get().getDeliveryStatus().getDeliveryStatus());
+    }
+
+    @Test
+    public void get_concurrentReadsAndWrites_consistentLists() throws Exception {
+        int orderCount = model.getCakeCollate().getOrderList().size();
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> counts = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                String statusName = i % 2 == 0 ? "delivered" : "undelivered";
+                Callable<Integer> read = () -> {
+                    Map<?, ?> body = JsonUtil.fromJsonString(send("GET", ApiServer.ORDERS_PATH, null).body(),
+                            Map.class);
+                    return ((List<?>) body.get("orders")).size();
+                };
+                Callable<Integer> write = () -> send("PUT", ApiServer.ORDERS_PATH + "/1/status",
+                        "{\"status\": \"" + statusName + "\"}").statusCode();
+                counts.add(clients.submit(read));
+                assertEquals(200, (int) clients.submit(write).get());
+            }
+            for (Future<Integer> count : counts) {
+                assertEquals(orderCount, (int) count.get());
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, String body) throws Exception {
+        return client.send(newRequest(method, path, body).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Returns a request with the API token, which sends {@code body} as json unless it is null.
+     */
+    private HttpRequest.Builder newRequest(String method, String path, String body) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url(path)))
+                .header("Authorization", "Bearer " + TOKEN);
+        if (body == null) {
+            return request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return request.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getPort() + path;
+    }
+}
@@ -0,0 +1,161 @@
+package seedu.cakecollate.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void publish_records_passedToHandlersInOrder() {
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, first, second);
+        handler.publish(createRecord(Level.INFO, "a"));
+        handler.publish(createRecord(Level.WARNING, "b"));
+        handler.close();
+
+        for (RecordingHandler recordingHandler : List.of(first, second)) {
+            assertEquals(List.of("a", "b"), recordingHandler.getMessages());
+            assertTrue(recordingHandler.isClosed);
+        }
+
+        // source is the logger, not the background thread
+        LogRecord record = first.records.get(0);
+        assertEquals("TestLogger", record.getSourceClassName());
+        assertNull(record.getSourceMethodName());
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        RecordingHandler recordingHandler = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, recordingHandler);
+        handler.setLevel(Level.INFO);
+        handler.publish(createRecord(Level.FINE, "fine"));
+        handler.publish(createRecord(Level.INFO, "info"));
+        handler.close();
+
+        assertEquals(List.of("info"), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void publish_afterClose_ignored() {
+        RecordingHandler recordingHandler = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, recordingHandler);
+        handler.close();
+        handler.publish(createRecord(Level.INFO, "a"));
+        handler.close();
+
+        assertEquals(List.of(), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void publish_recordsWhileWriting_writtenInOneBatch() throws Exception {
+        BlockingHandler blockingHandler = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(16, blockingHandler);
+        handler.publish(createRecord(Level.INFO, "first"));
+        blockingHandler.awaitPublish();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createRecord(Level.INFO, "waiting " + i));
+        }
+        blockingHandler.release();
+        handler.close();
+
+        assertEquals(6, blockingHandler.records.size());
+        // once after the first record and once after the 5 records that waited for it
+        assertEquals(2, blockingHandler.flushCount);
+    }
+
+    @Test
+    public void publish_bufferFull_droppedAndCounted() throws Exception {
+        BlockingHandler blockingHandler = new BlockingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(2, blockingHandler);
+        handler.publish(createRecord(Level.INFO, "first"));
+        blockingHandler.awaitPublish();
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createRecord(Level.INFO, "waiting " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        blockingHandler.release();
+        handler.close();
+
+        List<String> messages = blockingHandler.getMessages();
+        assertEquals(List.of("first", "waiting 0", "waiting 1"), messages.subList(0, 3));
+        assertTrue(messages.get(3).startsWith("Dropped 3 log message(s)"));
+        assertEquals(4, messages.size());
+    }
+
+    private static LogRecord createRecord(Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName("TestLogger");
+        return record;
+    }
+
+    /**
+     * A handler that keeps the records published to it.
+     */
+    private static class RecordingHandler extends Handler {
+        final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        volatile int flushCount;
+        volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        List<String> getMessages() {
+            return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * A handler that keeps the records published to it, and waits to be released before returning from the
+     * first record.
+     */
+    private static class BlockingHandler extends RecordingHandler {
+        private final CountDownLatch published = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            super.publish(record);
+            published.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void awaitPublish() throws InterruptedException {
+            assertTrue(published.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
@@ -11,7 +11,9 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Metrics file Location : metrics.json\n"
+                + "API port : 0";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,65 @@
+package seedu.cakecollate.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RollingFileHandlerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void publish_writtenWhenFlushed() throws Exception {
+        RollingFileHandler handler = new RollingFileHandler(testFolder.resolve("test.log").toString(), 1 << 20, 2);
+        Path filePath = handler.getFilePath(0);
+        assertEquals(testFolder.resolve("test.log.0"), filePath);
+
+        handler.publish(new LogRecord(Level.INFO, "first message"));
+        assertEquals(0, Files.size(filePath));
+
+        handler.flush();
+        assertTrue(Files.readString(filePath).contains("first message"));
+        handler.close();
+    }
+
+    @Test
+    public void flush_fileFull_newFileStarted() throws Exception {
+        RollingFileHandler handler = new RollingFileHandler(testFolder.resolve("test.log").toString(), 50, 3);
+        for (int i = 0; i < 3; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i + " that fills up the log file"));
+            handler.flush();
+        }
+        handler.close();
+
+        // each message fills up a file, and only the last 3 files are kept
+        assertTrue(Files.readString(handler.getFilePath(2)).contains("message 1"));
+        assertTrue(Files.readString(handler.getFilePath(1)).contains("message 2"));
+        assertEquals(0, Files.size(handler.getFilePath(0)));
+        assertFalse(Files.exists(handler.getFilePath(3)));
+    }
+
+    @Test
+    public void constructor_existingFile_appended() throws Exception {
+        String fileName = testFolder.resolve("test.log").toString();
+        RollingFileHandler handler = new RollingFileHandler(fileName, 1 << 20, 2);
+        handler.publish(new LogRecord(Level.INFO, "first message"));
+        handler.close();
+
+        handler = new RollingFileHandler(fileName, 1 << 20, 2);
+        handler.publish(new LogRecord(Level.INFO, "second message"));
+        handler.close();
+
+        String log = Files.readString(handler.getFilePath(0));
+        assertTrue(log.contains("first message"));
+        assertTrue(log.contains("second message"));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.cakecollate.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexListTest {
+
+    @Test
+    public void addRange_overlappingRanges_keepsRepeatedIndexes() {
+        IndexList indexList = new IndexList(new ArrayList<>());
+        indexList.addRange(Index.fromOneBased(5), Index.fromOneBased(7));
+        indexList.add(Index.fromOneBased(1));
+        indexList.addRange(Index.fromOneBased(2), Index.fromOneBased(6));
+        indexList.add(Index.fromOneBased(6));
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 5, 6, 6, 6, 7), getOneBased(indexList));
+        assertEquals(6, indexList.getLargestZeroBased());
+    }
+
+    @Test
+    public void sortList_iteratesInDescendingOrder() {
+        IndexList indexList = createIndexList(3, 1, 2, 1);
+        assertEquals(List.of(1, 1, 2, 3), getOneBased(indexList));
+
+        indexList.sortList();
+        assertEquals(List.of(3, 2, 1, 1), getOneBased(indexList));
+    }
+
+    @Test
+    public void resolve() {
+        // a list of indexes is unchanged
+        IndexList indexList = createIndexList(2, 4);
+        assertTrue(indexList == indexList.resolve(1));
+
+        // all indexes of the displayed list
+        IndexList all = IndexList.all();
+        assertTrue(all.isAll());
+        assertFalse(all.isEmpty());
+        assertEquals(createIndexList(1, 2, 3), all.resolve(3));
+        assertTrue(all.resolve(0).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        IndexList indexList = createIndexList(1, 2, 3);
+
+        // same values -> returns true
+        assertTrue(indexList.equals(createIndexList(3, 2, 1)));
+        IndexList range = new IndexList(new ArrayList<>());
+        range.addRange(Index.fromOneBased(1), Index.fromOneBased(3));
+        assertTrue(indexList.equals(range));
+        assertEquals(indexList.hashCode(), range.hashCode());
+
+        // order of iteration is not compared -> returns true
+        range.sortList();
+        assertTrue(indexList.equals(range));
+        assertEquals(List.of(1, 2, 3), getOneBased(indexList));
+
+        // same object -> returns true
+        assertTrue(indexList.equals(indexList));
+
+        // null -> returns false
+        assertFalse(indexList.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(indexList.equals(createIndexList(1, 2)));
+        assertFalse(indexList.equals(createIndexList(1, 2, 3, 3)));
+        assertFalse(indexList.equals(IndexList.all()));
+    }
+
+    private static IndexList createIndexList(int... oneBasedIndexes) {
+        IndexList indexList = new IndexList(new ArrayList<>());
+        for (int oneBasedIndex : oneBasedIndexes) {
+            indexList.add(Index.fromOneBased(oneBasedIndex));
+        }
+        return indexList;
+    }
+
+    private static List<Integer> getOneBased(IndexList indexList) {
+        List<Integer> oneBasedIndexes = new ArrayList<>();
+        indexList.forEachZeroBased(index -> oneBasedIndexes.add(index + 1));
+        return oneBasedIndexes;
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.cakecollate.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void indexOf_eachValueInItsBucket() {
+        long[] values = {0, 1, 7, 8, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE / 3, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(value <= LatencyHistogram.highestValueAt(index));
+            assertTrue(index == 0 || value > LatencyHistogram.highestValueAt(index - 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueAt(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void getValueAtPercentile_noDurations_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_withinAnEighthOfTheValue() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(millis * 1_000_000L);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(100_000_000L, histogram.getMax());
+
+        assertCloseTo(50_000_000L, histogram.getValueAtPercentile(50));
+        assertCloseTo(95_000_000L, histogram.getValueAtPercentile(95));
+        assertCloseTo(99_000_000L, histogram.getValueAtPercentile(99));
+        assertEquals(100_000_000L, histogram.getValueAtPercentile(100)); // never more than the longest duration
+        assertCloseTo(1_000_000L, histogram.getValueAtPercentile(0));
+    }
+
+    @Test
+    public void reset_clearsDurations() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(5);
+        histogram.record(-5); // recorded as 0
+        assertEquals(2, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    private static void assertCloseTo(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8,
+                "expected about " + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.cakecollate.commons.core.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.commons.core.metrics.CommandMetrics.Phase;
+import seedu.cakecollate.commons.util.FileUtil;
+import seedu.cakecollate.commons.util.JsonUtil;
+
+public class MetricsCenterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @BeforeEach
+    @AfterEach
+    public void reset() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void startRun_sameCommandWord_sameMetrics() {
+        CommandMetrics metrics = MetricsCenter.startRun("add");
+        metrics.recordRun(false);
+        metrics.recordRun(true);
+
+        assertTrue(metrics == MetricsCenter.startRun("add"));
+        assertEquals(2, metrics.getRunCount());
+        assertEquals(1, metrics.getErrorCount());
+    }
+
+    @Test
+    public void recordUiRefresh_recordedForLastRun() {
+        // no run yet -> nothing recorded
+        MetricsCenter.recordUiRefresh(1000);
+
+        CommandMetrics addMetrics = MetricsCenter.startRun("add");
+        CommandMetrics listMetrics = MetricsCenter.startRun("list");
+        MetricsCenter.recordUiRefresh(1000);
+
+        assertEquals(0, addMetrics.getPhaseDurations(Phase.UI_REFRESH).getCount());
+        assertEquals(1, listMetrics.getPhaseDurations(Phase.UI_REFRESH).getCount());
+    }
+
+    @Test
+    public void getReport() {
+        MetricsCenter.startRun("stats"); // not run yet -> not reported
+        CommandMetrics metrics = MetricsCenter.startRun("add");
+        metrics.recordPhase(Phase.PARSE, 2_000_000);
+        metrics.recordRun(false);
+        MetricsCenter.recordStorageWrite(1234, 3_000_000);
+
+        String report = MetricsCenter.getReport();
+        assertTrue(report.contains("add: 1 run(s), 0 failed"));
+        assertTrue(report.contains("parse 2.00 / 2.00 / 2.00, execute 0.00 / 0.00 / 0.00"));
+        assertFalse(report.contains("stats"));
+        assertTrue(report.contains("Files, for all commands together: 1 written, 1,234 bytes in total"));
+        assertTrue(report.contains("write 3.00 / 3.00 / 3.00"));
+    }
+
+    @Test
+    public void fileWrites_recorded() throws Exception {
+        FileUtil.writeToFile(testFolder.resolve("file.txt"), "12345");
+        assertEquals(5, MetricsCenter.getBytesWritten());
+        assertEquals(1, MetricsCenter.getStorageWriteDurations().getCount());
+    }
+
+    @Test
+    public void saveMetrics_savedAsJson() throws Exception {
+        CommandMetrics metrics = MetricsCenter.startRun("delete");
+        metrics.recordPhase(Phase.EXECUTE, 5000);
+        metrics.recordRun(true);
+
+        Path filePath = testFolder.resolve("metrics.json");
+        MetricsCenter.saveMetrics(filePath);
+
+        Map<?, ?> saved = JsonUtil.fromJsonString(FileUtil.readFromFile(filePath), Map.class);
+        Map<?, ?> delete = (Map<?, ?>) ((Map<?, ?>) saved.get("commands")).get("delete");
+        assertEquals(1, delete.get("runs"));
+        assertEquals(1, delete.get("errors"));
+        assertEquals(5000, ((Map<?, ?>) delete.get("execute")).get("p99Nanos"));
+        assertEquals(0, ((Map<?, ?>) delete.get("ui_refresh")).get("count"));
+        assertTrue(saved.containsKey("storage"));
+    }
+}
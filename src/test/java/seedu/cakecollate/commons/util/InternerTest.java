@@ -0,0 +1,106 @@
+package seedu.cakecollate.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final AtomicInteger madeCount = new AtomicInteger();
+    private final Interner<Value> interner = new Interner<>(value -> {
+        madeCount.incrementAndGet();
+        return new Value(value);
+    }, value -> value.text);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Interner<Value>(null, value -> value.text));
+        assertThrows(NullPointerException.class, () -> new Interner<>(Value::new, null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_equalStrings_sameObjectMadeOnce() {
+        Value first = interner.intern("Chocolate Cake");
+        Value second = interner.intern(new String("Chocolate Cake"));
+        assertSame(first, second);
+        assertEquals(1, madeCount.get());
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentStrings_differentObjects() {
+        Value chocolate = interner.intern("Chocolate Cake");
+        Value cheese = interner.intern("Cheese Cake");
+        assertNotSame(chocolate, cheese);
+        assertEquals("Cheese Cake", cheese.text);
+        assertEquals(2, madeCount.get());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingAdded() {
+        Interner<Value> checkingInterner = new Interner<>(value -> {
+            throw new IllegalArgumentException("invalid");
+        }, value -> value.text);
+        assertThrows(IllegalArgumentException.class, () -> checkingInterner.intern("Chocolate Cake"));
+        assertEquals(0, checkingInterner.size());
+    }
+
+    @Test
+    public void intern_manyThreads_sameObject() throws Exception {
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Callable<Value>> tasks = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                tasks.add(() -> interner.intern(new String("Chocolate Cake")));
+            }
+            List<Future<Value>> results = executor.invokeAll(tasks);
+            Value interned = interner.intern("Chocolate Cake");
+            for (Future<Value> result : results) {
+                assertSame(interned, result.get());
+            }
+            assertEquals(1, interner.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void contains_internedString_returnsTrue() {
+        Value interned = interner.intern("Chocolate Cake");
+        assertTrue(interner.contains(new String("Chocolate Cake")));
+        assertFalse(interner.contains("Cheese Cake"));
+        assertEquals("Chocolate Cake", interned.text);
+    }
+
+    @Test
+    public void contains_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.contains(null));
+    }
+
+    private static class Value {
+        private final String text;
+
+        Value(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.cakecollate.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.cakecollate.commons.core.Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX;
 import static seedu.cakecollate.commons.core.Messages.MESSAGE_ORDERS_LISTED_OVERVIEW;
 import static seedu.cakecollate.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
@@ -15,14 +16,20 @@ import static seedu.cakecollate.testutil.Assert.assertThrows;
 import static seedu.cakecollate.testutil.TypicalOrders.AMY;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.cakecollate.commons.core.metrics.CommandMetrics;
+import seedu.cakecollate.commons.core.metrics.CommandMetrics.Phase;
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
 import seedu.cakecollate.logic.commands.AddCommand;
+import seedu.cakecollate.logic.commands.Command;
 import seedu.cakecollate.logic.commands.CommandResult;
+import seedu.cakecollate.logic.commands.DeleteCommand;
 import seedu.cakecollate.logic.commands.ListCommand;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
@@ -97,6 +104,68 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_readOnlyCommand_storageNotWritten() throws Exception {
+        // storage that fails on every save, so the command would fail if it was saved
+        JsonCakeCollateStorage cakeCollateStorage =
+                new JsonCakeCollateIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionCakeCollate.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        JsonOrderItemsStorage orderItemsStorage = new JsonOrderItemsStorage(temporaryFolder.resolve("OrderItems.json"));
+        StorageManager storage = new StorageManager(cakeCollateStorage, userPrefsStorage, orderItemsStorage);
+        logic = new LogicManager(model, storage);
+
+        String listCommand = ListCommand.COMMAND_WORD;
+        String expectedMessage = String.format(MESSAGE_ORDERS_LISTED_OVERVIEW, model.getFilteredOrderList().size());
+        assertCommandSuccess(listCommand, expectedMessage, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("OrderItems.json")));
+    }
+
+    @Test
+    public void execute_commandFailsPartWay_changesRolledBack() {
+        String failure = "failed after adding an order";
+        Command addThenFail = new Command() {
+            @Override
+            public CommandResult execute(Model model) throws CommandException {
+                model.addOrder(AMY);
+                throw new CommandException(failure);
+            }
+        };
+
+        assertThrows(CommandException.class, failure, () -> logic.execute("add", addThenFail));
+        assertEquals(new ModelManager(), model);
+        assertFalse(model.canUndoCakeCollate());
+        assertFalse(Files.exists(temporaryFolder.resolve("cakeCollate.json")));
+    }
+
+    @Test
+    public void execute_commands_metricsRecorded() throws Exception {
+        MetricsCenter.reset();
+        try {
+            logic.execute(ListCommand.COMMAND_WORD);
+            assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+            assertThrows(ParseException.class, () -> logic.execute("delete"));
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+            CommandMetrics listMetrics = MetricsCenter.startRun(ListCommand.COMMAND_WORD);
+            assertEquals(1, listMetrics.getRunCount());
+            assertEquals(0, listMetrics.getErrorCount());
+            assertEquals(1, listMetrics.getPhaseDurations(Phase.PARSE).getCount());
+            assertEquals(1, listMetrics.getPhaseDurations(Phase.EXECUTE).getCount());
+            assertEquals(1, listMetrics.getPhaseDurations(Phase.PERSIST).getCount());
+
+            // failed runs are counted under their command word, even if they could not be parsed
+            CommandMetrics deleteMetrics = MetricsCenter.startRun(DeleteCommand.COMMAND_WORD);
+            assertEquals(2, deleteMetrics.getRunCount());
+            assertEquals(2, deleteMetrics.getErrorCount());
+            assertEquals(1, deleteMetrics.getPhaseDurations(Phase.PARSE).getCount());
+
+            assertEquals(1, MetricsCenter.startRun(LogicManager.UNKNOWN_COMMAND_WORD).getErrorCount());
+        } finally {
+            MetricsCenter.reset();
+        }
+    }
+
     @Test
     public void getFilteredOrderList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredOrderList().remove(0));
@@ -7,7 +7,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cakecollate.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -16,11 +19,14 @@ import javafx.collections.ObservableList;
 import seedu.cakecollate.commons.core.GuiSettings;
 import seedu.cakecollate.logic.commands.exceptions.CommandException;
 import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.ModelSnapshot;
+import seedu.cakecollate.model.OrderBatch;
 import seedu.cakecollate.model.OrderItems;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
 import seedu.cakecollate.model.ReadOnlyOrderItems;
 import seedu.cakecollate.model.ReadOnlyUserPrefs;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.orderitem.OrderItem;
 import seedu.cakecollate.testutil.OrderItemBuilder;
 
@@ -129,27 +135,95 @@ public class AddOrderItemCommandTest {
         }
 
         @Override
-        public boolean hasOrder(Order order) {
+        public long getCakeCollateVersion() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void deleteOrder(Order target) {
+        public long getOrderItemsVersion() {
             throw new AssertionError("This method should not be called.");
         }
 
+
         @Override
-        public void setOrder(Order target, Order editedOrder) {
+        public List<Order> deliverOrdersBefore(LocalDate date) {
             throw new AssertionError("This method should not be called.");
         }
 
+
         @Override
-        public ObservableList<Order> getFilteredOrderList() {
+        public OrderBatch beginOrderBatch() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+
+        @Override
+        public Optional<Order> getOrder(OrderId id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitCakeCollate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollBackCakeCollate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoCakeCollate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoCakeCollate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoCakeCollate() {
             throw new AssertionError("This method should not be called.");
         }
 
         @Override
-        public void sortFilteredOrderList() {
+        public void redoCakeCollate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void addSnapshotReader() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void removeSnapshotReader() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ModelSnapshot getSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasOrder(Order order) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteOrder(Order target) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setOrder(Order target, Order editedOrder) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Order> getFilteredOrderList() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -1,5 +1,6 @@
 package seedu.cakecollate.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cakecollate.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -11,16 +12,19 @@ import static seedu.cakecollate.testutil.TypicalIndexes.INDEX_THIRD_ORDER;
 import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.cakecollate.commons.core.Messages;
 import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.commons.core.index.IndexList;
+import seedu.cakecollate.logic.parser.ParserUtil;
 import seedu.cakecollate.model.Model;
 import seedu.cakecollate.model.ModelManager;
 import seedu.cakecollate.model.UserPrefs;
 import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.testutil.TypicalOrderItems;
 
 /**
@@ -57,6 +61,48 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_indexesInAnyOrder_listedFromLastIndexToFirst() throws Exception {
+        Order firstOrder = model.getFilteredOrderList().get(INDEX_FIRST_ORDER.getZeroBased());
+        Order thirdOrder = model.getFilteredOrderList().get(INDEX_THIRD_ORDER.getZeroBased());
+        String expectedMessage = DeleteCommand.getResultString(List.of(thirdOrder, firstOrder));
+
+        // the indexes are parsed into descending order, as they have always been listed in
+        for (String indexes : List.of("1 3", "3 1")) {
+            Model model = new ModelManager(getTypicalCakeCollate(), new UserPrefs(),
+                    TypicalOrderItems.getTypicalOrderItemsModel());
+            DeleteCommand deleteCommand = new DeleteCommand(ParserUtil.parseIndexList(indexes));
+            assertEquals(expectedMessage, deleteCommand.execute(model).getFeedbackToUser());
+        }
+    }
+
+    @Test
+    public void execute_validOrderIdFilteredList_success() {
+        showOrderAtIndex(model, INDEX_FIRST_ORDER);
+        // the order is found by its ID even though it is not displayed
+        Order orderToDelete = getTypicalCakeCollate().getOrderList().get(INDEX_SECOND_ORDER.getZeroBased());
+        OrderId orderId = model.getCakeCollate().getOrderList().get(INDEX_SECOND_ORDER.getZeroBased()).getId().get();
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(orderId));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_ORDER_SUCCESS, orderToDelete);
+
+        ModelManager expectedModel = new ModelManager(model.getCakeCollate(), new UserPrefs(),
+                TypicalOrderItems.getTypicalOrderItemsModel());
+        showOrderAtIndex(expectedModel, INDEX_FIRST_ORDER);
+        expectedModel.deleteOrder(orderToDelete);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_unknownOrderId_throwsCommandException() {
+        OrderId unknownOrderId = new OrderId(model.getCakeCollate().getOrderList().size() + 1);
+        DeleteCommand deleteCommand = new DeleteCommand(List.of(unknownOrderId));
+
+        assertCommandFailure(deleteCommand, model,
+                String.format(Messages.MESSAGE_ORDER_ID_NOT_FOUND, unknownOrderId));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredOrderList().size() + 1);
@@ -88,6 +134,31 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_allIndexesFilteredList_success() {
+        showOrderAtIndex(model, INDEX_FIRST_ORDER);
+
+        Order orderToDelete = model.getFilteredOrderList().get(INDEX_FIRST_ORDER.getZeroBased());
+        DeleteCommand deleteCommand = new DeleteCommand(IndexList.all());
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_ORDER_SUCCESS, orderToDelete);
+
+        Model expectedModel = new ModelManager(getTypicalCakeCollate(), new UserPrefs(),
+                TypicalOrderItems.getTypicalOrderItemsModel());
+        expectedModel.deleteOrder(orderToDelete);
+        showNoOrder(expectedModel);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allIndexesEmptyList_throwsCommandException() {
+        showNoOrder(model);
+
+        assertCommandFailure(new DeleteCommand(IndexList.all()), model,
+                Messages.MESSAGE_INVALID_ORDER_DISPLAYED_INDEX);
+    }
+
     @Test
     public void execute_invalidIndexFilteredList_throwsCommandException() {
         showOrderAtIndex(model, INDEX_FIRST_ORDER);
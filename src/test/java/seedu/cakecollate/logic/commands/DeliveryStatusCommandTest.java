@@ -7,6 +7,7 @@ import static seedu.cakecollate.logic.commands.CommandTestUtil.assertCommandSucc
 import static seedu.cakecollate.logic.commands.CommandTestUtil.showOrderAtIndex;
 import static seedu.cakecollate.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
 import static seedu.cakecollate.testutil.TypicalIndexes.INDEX_SECOND_ORDER;
+import static seedu.cakecollate.testutil.TypicalIndexes.INDEX_THIRD_ORDER;
 import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
 import static seedu.cakecollate.testutil.TypicalOrders.BOB;
 import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import seedu.cakecollate.commons.core.Messages;
 import seedu.cakecollate.commons.core.index.Index;
 import seedu.cakecollate.commons.core.index.IndexList;
+import seedu.cakecollate.logic.parser.ParserUtil;
 import seedu.cakecollate.model.CakeCollate;
 import seedu.cakecollate.model.Model;
 import seedu.cakecollate.model.ModelManager;
@@ -111,6 +113,24 @@ class DeliveryStatusCommandTest {
 
     }
 
+    @Test
+    public void execute_indexesInAnyOrder_listedFromLastIndexToFirst() throws Exception {
+        Order firstOrder = model.getFilteredOrderList().get(INDEX_FIRST_ORDER.getZeroBased());
+        Order thirdOrder = model.getFilteredOrderList().get(INDEX_THIRD_ORDER.getZeroBased());
+
+        // the indexes are parsed into descending order, as they have always been listed in
+        for (String indexes : List.of("1 3", "3 1")) {
+            Model model = new ModelManager(getTypicalCakeCollate(), new UserPrefs(),
+                    TypicalOrderItems.getTypicalOrderItemsModel());
+            DeliveryStatusCommand command = new DeliveryStatusCommand(ParserUtil.parseIndexList(indexes),
+                    new DeliveryStatus(Status.CANCELLED));
+            String message = command.execute(model).getFeedbackToUser();
+            int thirdOrderPosition = message.indexOf(thirdOrder.getName().fullName);
+            assertTrue(thirdOrderPosition >= 0);
+            assertTrue(thirdOrderPosition < message.indexOf(firstOrder.getName().fullName));
+        }
+    }
+
     @Test
     public void execute_validIndexesUnfilteredListWithDifferentStatus_success() {
         Order order1 = new OrderBuilder(ALICE).withDeliveryStatus(Status.UNDELIVERED).build();
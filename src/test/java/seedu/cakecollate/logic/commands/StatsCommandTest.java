@@ -0,0 +1,29 @@
+package seedu.cakecollate.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.commons.core.metrics.MetricsCenter;
+import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.ModelManager;
+
+public class StatsCommandTest {
+
+    @AfterEach
+    public void tearDown() {
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void execute_showsReport() {
+        Model model = new ModelManager();
+        Model expectedModel = new ModelManager();
+        MetricsCenter.startRun(ListCommand.COMMAND_WORD).recordRun(false);
+
+        CommandResult result = new StatsCommand().execute(model);
+        assertEquals(new CommandResult(MetricsCenter.getReport()), result);
+        assertEquals(expectedModel, model);
+    }
+}
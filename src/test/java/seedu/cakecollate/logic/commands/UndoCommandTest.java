@@ -0,0 +1,41 @@
+package seedu.cakecollate.logic.commands;
+
+import static seedu.cakecollate.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.cakecollate.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.cakecollate.logic.commands.CommandTestUtil.showOrderAtIndex;
+import static seedu.cakecollate.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.model.Model;
+import seedu.cakecollate.model.ModelManager;
+import seedu.cakecollate.model.UserPrefs;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.testutil.TypicalOrderItems;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalCakeCollate(), new UserPrefs(),
+            TypicalOrderItems.getTypicalOrderItemsModel());
+    private final Model expectedModel = new ModelManager(getTypicalCakeCollate(), new UserPrefs(),
+            TypicalOrderItems.getTypicalOrderItemsModel());
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_deletedOrder_orderRestored() {
+        Order orderToDelete = model.getFilteredOrderList().get(INDEX_FIRST_ORDER.getZeroBased());
+        model.deleteOrder(orderToDelete);
+        model.commitCakeCollate();
+        showOrderAtIndex(model, INDEX_FIRST_ORDER);
+
+        // the filter is cleared, so that the restored order is shown
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+}
@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -28,8 +29,11 @@ import seedu.cakecollate.logic.commands.ExitCommand;
 import seedu.cakecollate.logic.commands.FindCommand;
 import seedu.cakecollate.logic.commands.HelpCommand;
 import seedu.cakecollate.logic.commands.ListCommand;
+import seedu.cakecollate.logic.commands.RedoCommand;
 import seedu.cakecollate.logic.commands.RemindCommand;
 import seedu.cakecollate.logic.commands.RequestCommand;
+import seedu.cakecollate.logic.commands.StatsCommand;
+import seedu.cakecollate.logic.commands.UndoCommand;
 import seedu.cakecollate.logic.parser.exceptions.ParseException;
 import seedu.cakecollate.model.order.ContainsKeywordsPredicate;
 import seedu.cakecollate.model.order.Order;
@@ -107,6 +111,32 @@ public class CakeCollateParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(Optional.of(AddCommand.COMMAND_WORD), CakeCollateParser.getCommandWord("  add n/Amy "));
+        assertEquals(Optional.of(StatsCommand.COMMAND_WORD), CakeCollateParser.getCommandWord("stats"));
+        assertEquals(Optional.empty(), CakeCollateParser.getCommandWord("unknownCommand 1"));
+        assertEquals(Optional.empty(), CakeCollateParser.getCommandWord("   "));
+    }
+
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_remind() throws Exception {
         RemindCommand command = (RemindCommand) parser.parseCommand(
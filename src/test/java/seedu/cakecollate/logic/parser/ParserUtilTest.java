@@ -1,6 +1,7 @@
 package seedu.cakecollate.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cakecollate.commons.core.Messages.MESSAGE_NEGATIVE_INDEX;
 import static seedu.cakecollate.testutil.Assert.assertThrows;
@@ -11,6 +12,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -25,6 +27,7 @@ import seedu.cakecollate.model.order.DeliveryDate;
 import seedu.cakecollate.model.order.Email;
 import seedu.cakecollate.model.order.Name;
 import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Phone;
 import seedu.cakecollate.model.orderitem.OrderItem;
 import seedu.cakecollate.model.orderitem.Type;
@@ -668,6 +671,64 @@ public class ParserUtilTest {
             -> ParserUtil.parseIndexList(INVALID_INDEX_LIST_WITH_MIXED_INTEGERS_3));
     }
 
+    @Test
+    public void parseIndexList_rangesAndCommas_returnsValidIndexList() throws Exception {
+        IndexList expectedIndexList = new IndexList(new ArrayList<Index>());
+        expectedIndexList.add(Index.fromOneBased(3));
+        expectedIndexList.add(Index.fromOneBased(7));
+        expectedIndexList.addRange(Index.fromOneBased(9), Index.fromOneBased(12));
+        expectedIndexList.add(Index.fromOneBased(15));
+        assertEquals(expectedIndexList, ParserUtil.parseIndexList(" 3,7,9-12 15 "));
+
+        IndexList expectedRange = new IndexList(new ArrayList<Index>());
+        expectedRange.addRange(Index.fromOneBased(1), Index.fromOneBased(500));
+        assertEquals(expectedRange, ParserUtil.parseIndexList("1-500"));
+        assertEquals(expectedRange, ParserUtil.parseIndexList("1-250 251-500"));
+
+        // single index range
+        IndexList expectedIndexListWithOneIndex = new IndexList(new ArrayList<Index>());
+        expectedIndexListWithOneIndex.add(Index.fromOneBased(4));
+        assertEquals(expectedIndexListWithOneIndex, ParserUtil.parseIndexList("4-4"));
+    }
+
+    @Test
+    public void parseIndexList_all_returnsAllIndexList() throws Exception {
+        assertEquals(IndexList.all(), ParserUtil.parseIndexList(" all "));
+        assertEquals(IndexList.all(), ParserUtil.parseIndexList("ALL"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexList("1 all"));
+    }
+
+    @Test
+    public void parseIndexList_invalidRange_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+            -> ParserUtil.parseIndexList("12-9"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexList("0-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexList("1-"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexList("1-2-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexList("3,,7"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexList("3,7,"));
+    }
+
+    @Test
+    public void parseOrderId_validValue_returnsOrderId() throws Exception {
+        assertEquals(new OrderId(12), ParserUtil.parseOrderId(" #12 "));
+        assertThrows(ParseException.class, OrderId.MESSAGE_CONSTRAINTS, () -> ParserUtil.parseOrderId("#0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseOrderId("12"));
+    }
+
+    @Test
+    public void parseOrderIds_validValues_returnsOrderIds() throws Exception {
+        assertEquals(List.of(new OrderId(3), new OrderId(1)), ParserUtil.parseOrderIds(" #3  #1"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseOrderIds(" "));
+        assertThrows(ParseException.class, () -> ParserUtil.parseOrderIds("#3 1"));
+    }
+
+    @Test
+    public void isOrderIdArgs() {
+        assertTrue(ParserUtil.isOrderIdArgs(" #3"));
+        assertFalse(ParserUtil.isOrderIdArgs("3 #4"));
+    }
+
     @Test
     public void parseOrderItem_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseOrderItem(null));
@@ -0,0 +1,137 @@
+package seedu.cakecollate.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.TypicalOrderItems.DURIAN;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.HOON;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.UniqueOrderList;
+import seedu.cakecollate.testutil.OrderBuilder;
+import seedu.cakecollate.testutil.TypicalOrderItems;
+
+public class CakeCollateHistoryTest {
+
+    private final CakeCollate cakeCollate = new CakeCollate(getTypicalCakeCollate());
+    private final OrderItems orderItems = new OrderItems(TypicalOrderItems.getTypicalOrderItemsModel());
+    private final CakeCollateHistory history = new CakeCollateHistory(cakeCollate, orderItems);
+
+    @Test
+    public void commit_noChanges_nothingToUndo() {
+        history.commit();
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undoAndRedo_addedOrder_orderRemovedAndAddedAgain() {
+        CakeCollate original = new CakeCollate(cakeCollate);
+        cakeCollate.addOrder(HOON);
+        history.commit();
+        CakeCollate withHoon = new CakeCollate(cakeCollate);
+
+        assertTrue(history.canUndo());
+        history.undo();
+        assertEquals(original, cakeCollate);
+        assertFalse(history.canUndo());
+
+        assertTrue(history.canRedo());
+        history.redo();
+        assertEquals(withHoon, cakeCollate);
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void undo_editedOrder_originalOrderRestoredWithId() {
+        Order alice = cakeCollate.getOrderList().stream().filter(ALICE::equals).findFirst().get();
+        Order editedAlice = new OrderBuilder(ALICE).withRequest("Less sugar").build();
+        cakeCollate.setOrder(alice, editedAlice);
+        history.commit();
+
+        history.undo();
+        assertTrue(cakeCollate.getOrderList().stream().anyMatch(order -> order == alice));
+        assertEquals(alice, cakeCollate.getOrder(alice.getId().get()).get());
+    }
+
+    @Test
+    public void undo_severalCommits_undoneInReverseOrder() {
+        CakeCollate original = new CakeCollate(cakeCollate);
+        cakeCollate.addOrder(HOON);
+        history.commit();
+        CakeCollate withHoon = new CakeCollate(cakeCollate);
+        orderItems.addOrderItem(DURIAN);
+        history.commit();
+
+        history.undo();
+        assertEquals(withHoon, cakeCollate);
+        assertFalse(orderItems.hasOrderItem(DURIAN));
+        history.undo();
+        assertEquals(original, cakeCollate);
+
+        history.redo();
+        history.redo();
+        assertEquals(withHoon, cakeCollate);
+        assertTrue(orderItems.hasOrderItem(DURIAN));
+    }
+
+    @Test
+    public void undo_clearedData_allDataRestored() {
+        CakeCollate original = new CakeCollate(cakeCollate);
+        List<Order> originalOrders = new ArrayList<>(cakeCollate.getOrderList());
+        OrderItems originalOrderItems = new OrderItems(orderItems);
+        cakeCollate.resetData(new CakeCollate());
+        orderItems.resetData(new OrderItems());
+        history.commit();
+
+        history.undo();
+        assertEquals(original, cakeCollate);
+        assertEquals(originalOrderItems, orderItems);
+        for (int i = 0; i < originalOrders.size(); i++) {
+            assertEquals(originalOrders.get(i).getId(), cakeCollate.getOrderList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void undo_manyOrdersChanged_allChangesUndone() {
+        CakeCollate original = new CakeCollate(cakeCollate);
+        OrderBatch batch = new OrderBatch(cakeCollate);
+        for (int i = 0; i <= UniqueOrderList.MAX_ORDERS_CHANGED_IN_PLACE; i++) {
+            batch.addOrder(new OrderBuilder(HOON).withName("Hoon " + i).build());
+        }
+        batch.commit();
+        history.commit();
+
+        history.undo();
+        assertEquals(original, cakeCollate);
+    }
+
+    @Test
+    public void commit_afterUndo_redoCleared() {
+        cakeCollate.addOrder(HOON);
+        history.commit();
+        history.undo();
+
+        cakeCollate.removeOrder(ALICE);
+        history.commit();
+        assertFalse(history.canRedo());
+        assertTrue(history.canUndo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_committedFirst() {
+        CakeCollate original = new CakeCollate(cakeCollate);
+        cakeCollate.addOrder(HOON);
+
+        history.undo();
+        assertEquals(original, cakeCollate);
+    }
+
+}
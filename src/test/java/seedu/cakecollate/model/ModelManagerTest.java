@@ -2,6 +2,7 @@ package seedu.cakecollate.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.cakecollate.model.Model.PREDICATE_SHOW_ALL_ORDERS;
@@ -18,6 +19,7 @@ import static seedu.cakecollate.testutil.TypicalOrders.GEORGE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -103,6 +105,103 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasOrder(ALICE));
     }
 
+    @Test
+    public void getCakeCollateVersion_orderAdded_versionChanges() {
+        long version = modelManager.getCakeCollateVersion();
+        long orderItemsVersion = modelManager.getOrderItemsVersion();
+        modelManager.addOrder(ALICE);
+        assertNotEquals(version, modelManager.getCakeCollateVersion());
+        assertEquals(orderItemsVersion, modelManager.getOrderItemsVersion());
+    }
+
+    @Test
+    public void getCakeCollateVersion_filterUpdated_versionUnchanged() {
+        modelManager.addOrder(ALICE);
+        long version = modelManager.getCakeCollateVersion();
+        modelManager.updateFilteredOrderList(order -> false);
+        assertEquals(version, modelManager.getCakeCollateVersion());
+    }
+
+    @Test
+    public void getOrderItemsVersion_orderItemAdded_versionChanges() {
+        long version = modelManager.getOrderItemsVersion();
+        modelManager.addOrderItem(CHOCOLATE);
+        assertNotEquals(version, modelManager.getOrderItemsVersion());
+    }
+
+    @Test
+    public void updateFilteredOrderList_keywords_filterFollowsChanges() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addOrder(ALICE);
+        modelManager.addOrder(BENSON);
+        HashMap<Prefix, List<String>> keywords = new HashMap<>();
+        keywords.put(PREFIX_NAME, Arrays.asList("alice", "carl"));
+        modelManager.updateFilteredOrderList(new ContainsKeywordsPredicate(keywords));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredOrderList());
+
+        // edited and new orders are filtered by the same keywords
+        Order editedBenson = new OrderBuilder(BENSON).withName("Carl Meier").build();
+        modelManager.setOrder(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredOrderList());
+
+        modelManager.deleteOrder(ALICE);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredOrderList());
+    }
+
+    @Test
+    public void deliverOrdersBefore_overdueOrders_updatesUndeliveredOrders() {
+        Order overdueOrder = new OrderBuilder(ALICE).withDeliveryDate("31/12/2021").build();
+        Order cancelledOrder = new OrderBuilder(BENSON).withDeliveryDate("31/12/2021")
+                .withDeliveryStatus(Status.CANCELLED).build();
+        ModelManager modelManager = new ModelManager();
+        modelManager.addOrder(overdueOrder);
+        modelManager.addOrder(cancelledOrder);
+        modelManager.addOrder(CARL);
+        long version = modelManager.getCakeCollateVersion();
+
+        List<Order> deliveredOrders = modelManager.deliverOrdersBefore(LocalDate.of(2022, 1, 1));
+
+        Order deliveredOrder = new OrderBuilder(overdueOrder).withDeliveryStatus(Status.DELIVERED).build();
+        assertEquals(Arrays.asList(deliveredOrder), deliveredOrders);
+        assertEquals(Arrays.asList(CARL, cancelledOrder, deliveredOrder), modelManager.getFilteredOrderList());
+        // all the orders are updated in a single change
+        assertEquals(version + 1, modelManager.getCakeCollateVersion());
+    }
+
+    @Test
+    public void deliverOrdersBefore_overdueOrders_cannotBeUndone() {
+        Order overdueOrder = new OrderBuilder(ALICE).withDeliveryDate("31/12/2021").build();
+        ModelManager modelManager = new ModelManager();
+        modelManager.addOrder(overdueOrder);
+        modelManager.commitCakeCollate();
+        assertTrue(modelManager.canUndoCakeCollate());
+
+        modelManager.deliverOrdersBefore(LocalDate.of(2022, 1, 1));
+
+        assertFalse(modelManager.canUndoCakeCollate());
+        assertFalse(modelManager.canRedoCakeCollate());
+    }
+
+    @Test
+    public void deliverOrdersBefore_deliveredOrderOverdue_notChangedAgain() {
+        Order overdueOrder = new OrderBuilder(ALICE).withDeliveryDate("31/12/2021").build();
+        ModelManager modelManager = new ModelManager();
+        modelManager.addOrder(overdueOrder);
+        assertEquals(1, modelManager.deliverOrdersBefore(LocalDate.of(2022, 1, 1)).size());
+
+        assertTrue(modelManager.deliverOrdersBefore(LocalDate.of(2022, 1, 1)).isEmpty());
+    }
+
+    @Test
+    public void deliverOrdersBefore_noOverdueOrders_noChange() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.addOrder(CARL);
+        long version = modelManager.getCakeCollateVersion();
+
+        assertTrue(modelManager.deliverOrdersBefore(LocalDate.of(2022, 1, 1)).isEmpty());
+        assertEquals(version, modelManager.getCakeCollateVersion());
+    }
+
     @Test
     public void getFilteredOrderList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredOrderList().remove(0));
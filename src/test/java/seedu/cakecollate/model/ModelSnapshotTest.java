@@ -0,0 +1,190 @@
+package seedu.cakecollate.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrderItems.getTypicalOrderItemsModel;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class ModelSnapshotTest {
+
+    private final ModelManager model = new ModelManager(getTypicalCakeCollate(), new UserPrefs(),
+            getTypicalOrderItemsModel());
+
+    @BeforeEach
+    public void setUp() {
+        model.addSnapshotReader();
+    }
+
+    @Test
+    public void getSnapshot_noReader_throwsIllegalStateException() {
+        ModelManager modelWithoutReader = new ModelManager();
+        assertThrows(IllegalStateException.class, modelWithoutReader::getSnapshot);
+    }
+
+    @Test
+    public void removeSnapshotReader_lastReader_snapshotsNoLongerKept() {
+        model.addSnapshotReader();
+        model.removeSnapshotReader();
+        ModelSnapshot snapshot = model.getSnapshot();
+
+        model.removeSnapshotReader();
+        model.deleteOrder(ALICE);
+        model.commitCakeCollate();
+        assertThrows(IllegalStateException.class, model::getSnapshot);
+
+        // a new reader starts from the data as it is
+        model.addSnapshotReader();
+        assertEquals(model.getCakeCollate().getOrderList(), model.getSnapshot().getOrderList());
+        assertTrue(snapshot.getOrderList().contains(ALICE));
+    }
+
+    @Test
+    public void getSnapshot_noCommit_dataAsLoaded() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        assertEquals(0, snapshot.getVersion());
+        assertEquals(model.getCakeCollate().getOrderList(), snapshot.getOrderList());
+        assertEquals(model.getOrderItems().getOrderItemList(), snapshot.getOrderItemList());
+    }
+
+    @Test
+    public void getSnapshot_uncommittedChange_notInSnapshot() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        model.deleteOrder(ALICE);
+
+        assertSame(snapshot, model.getSnapshot());
+        assertTrue(snapshot.getOrderList().contains(ALICE));
+    }
+
+    @Test
+    public void getSnapshot_afterCommit_newVersionWithChange() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        model.deleteOrder(ALICE);
+        model.commitCakeCollate();
+
+        ModelSnapshot committed = model.getSnapshot();
+        assertEquals(snapshot.getVersion() + 1, committed.getVersion());
+        assertEquals(model.getCakeCollate().getOrderList(), committed.getOrderList());
+        // the order items did not change, so they are not copied again
+        assertSame(snapshot.getOrderItemList(), committed.getOrderItemList());
+        // the earlier snapshot is unchanged
+        assertTrue(snapshot.getOrderList().contains(ALICE));
+    }
+
+    @Test
+    public void getSnapshot_commitWithoutChange_sameSnapshot() {
+        ModelSnapshot snapshot = model.getSnapshot();
+        model.commitCakeCollate();
+        assertSame(snapshot, model.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_undoAndRedo_followsData() {
+        model.deleteOrder(BENSON);
+        model.commitCakeCollate();
+
+        model.undoCakeCollate();
+        assertTrue(model.getSnapshot().getOrderList().contains(BENSON));
+        assertEquals(2, model.getSnapshot().getVersion());
+
+        model.redoCakeCollate();
+        assertEquals(model.getCakeCollate().getOrderList(), model.getSnapshot().getOrderList());
+        assertEquals(3, model.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void getOrderList_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> model.getSnapshot().getOrderList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> model.getSnapshot().getOrderItemList().clear());
+    }
+
+    /**
+     * Readers on other threads read snapshots while this thread, standing in for the JavaFX thread, makes changes.
+     * Each command adds two orders, so no reader should ever see an odd number of orders added.
+     */
+    @Test
+    public void getSnapshot_concurrentReaders_seeOnlyCommittedStates() throws Exception {
+        int readerCount = 4;
+        int commandCount = 400;
+        int initialSize = model.getSnapshot().getOrderList().size();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(readerCount);
+        try {
+            List<Future<Integer>> snapshotsRead = new ArrayList<>();
+            for (int i = 0; i < readerCount; i++) {
+                snapshotsRead.add(readers.submit(readSnapshots(initialSize, isWriting)));
+            }
+
+            int undoneCount = 0;
+            for (int i = 0; i < commandCount; i++) {
+                model.addOrder(new OrderBuilder().withName("Customer " + i + " A").build());
+                model.addOrder(new OrderBuilder().withName("Customer " + i + " B").build());
+                model.commitCakeCollate();
+                if (i % 4 == 3) {
+                    model.undoCakeCollate();
+                    undoneCount++;
+                }
+            }
+            isWriting.set(false);
+
+            for (Future<Integer> count : snapshotsRead) {
+                assertTrue(count.get() > 0);
+            }
+            ModelSnapshot last = model.getSnapshot();
+            assertEquals(initialSize + 2 * (commandCount - undoneCount), last.getOrderList().size());
+            assertEquals(model.getCakeCollate().getOrderList(), last.getOrderList());
+            assertEquals(commandCount + undoneCount, last.getVersion());
+        } finally {
+            isWriting.set(false);
+            readers.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns a reader that checks every snapshot it reads until writing stops, and returns the number read.
+     */
+    private Callable<Integer> readSnapshots(int initialSize, AtomicBoolean isWriting) {
+        return () -> {
+            int count = 0;
+            ModelSnapshot previous = null;
+            do {
+                ModelSnapshot snapshot = model.getSnapshot();
+                if (previous != null) {
+                    assertTrue(snapshot.getVersion() >= previous.getVersion());
+                    if (snapshot.getVersion() == previous.getVersion()) {
+                        assertSame(previous, snapshot);
+                    }
+                }
+                List<Order> orders = snapshot.getOrderList();
+                int size = orders.size();
+                assertEquals(0, (size - initialSize) % 2);
+                int iterated = 0;
+                for (Order order : orders) {
+                    assertTrue(order != null);
+                    iterated++;
+                }
+                assertEquals(size, iterated);
+                previous = snapshot;
+                count++;
+            } while (isWriting.get());
+            return count;
+        };
+    }
+}
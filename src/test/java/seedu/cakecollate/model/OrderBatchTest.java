@@ -0,0 +1,89 @@
+package seedu.cakecollate.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+import static seedu.cakecollate.testutil.TypicalOrders.CARL;
+import static seedu.cakecollate.testutil.TypicalOrders.DANIEL;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.model.order.exceptions.DuplicateOrderException;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class OrderBatchTest {
+
+    private final CakeCollate cakeCollate = new CakeCollate();
+    private OrderBatch batch;
+
+    @BeforeEach
+    public void setUp() {
+        cakeCollate.addOrder(ALICE);
+        cakeCollate.addOrder(BENSON);
+        batch = new OrderBatch(cakeCollate);
+    }
+
+    @Test
+    public void commit_stagedChanges_appliedAsSingleChange() {
+        int[] changeCount = {0};
+        cakeCollate.getOrderList().addListener((ListChangeListener<Order>) change -> changeCount[0]++);
+        Order deliveredAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.DELIVERED).build();
+
+        batch.setOrder(ALICE, deliveredAlice);
+        batch.deleteOrder(BENSON);
+        batch.addOrder(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON), cakeCollate.getOrderList());
+        batch.commit();
+
+        assertEquals(Arrays.asList(CARL, deliveredAlice), cakeCollate.getOrderList());
+        assertEquals(1, changeCount[0]);
+        assertTrue(batch.isEmpty());
+    }
+
+    @Test
+    public void commit_stagedOrdersChangedAgain_appliesLatestChanges() {
+        Order deliveredAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.DELIVERED).build();
+        Order cancelledAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.CANCELLED).build();
+        Order deliveredCarl = new OrderBuilder(CARL).withDeliveryStatus(Status.DELIVERED).build();
+
+        batch.setOrder(ALICE, deliveredAlice);
+        batch.setOrder(deliveredAlice, cancelledAlice);
+        batch.addOrder(CARL);
+        batch.setOrder(CARL, deliveredCarl);
+        batch.addOrder(DANIEL);
+        batch.deleteOrder(DANIEL);
+        batch.commit();
+
+        assertEquals(Arrays.asList(BENSON, cancelledAlice, deliveredCarl), cakeCollate.getOrderList());
+    }
+
+    @Test
+    public void commit_editedThenDeletedOrder_deletesOriginalOrder() {
+        Order deliveredAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.DELIVERED).build();
+        batch.setOrder(ALICE, deliveredAlice);
+        batch.deleteOrder(deliveredAlice);
+        batch.commit();
+
+        assertEquals(Arrays.asList(BENSON), cakeCollate.getOrderList());
+    }
+
+    @Test
+    public void commit_duplicateOrder_throwsDuplicateOrderExceptionWithoutChanges() {
+        batch.deleteOrder(BENSON);
+        batch.addOrder(new OrderBuilder(ALICE).withRequest("Extra candles").build());
+        assertThrows(DuplicateOrderException.class, () -> batch.commit());
+
+        assertEquals(Arrays.asList(ALICE, BENSON), cakeCollate.getOrderList());
+        assertFalse(batch.isEmpty());
+    }
+
+}
@@ -0,0 +1,80 @@
+package seedu.cakecollate.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+import static seedu.cakecollate.testutil.TypicalOrders.HOON;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class OrderChangesTest {
+
+    private final CakeCollate cakeCollate = new CakeCollate(getTypicalCakeCollate());
+    private final OrderChanges changes = new OrderChanges();
+
+    @Test
+    public void record_addedAndRemovedOrders_recorded() {
+        cakeCollate.getOrderList().addListener(changes::record);
+        cakeCollate.addOrder(HOON);
+        cakeCollate.removeOrder(ALICE);
+
+        assertEquals(Set.of(HOON), changes.getAddedOrders());
+        assertEquals(Set.of(ALICE), changes.getRemovedOrders());
+        assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void record_editedOrder_removedAndAdded() {
+        cakeCollate.getOrderList().addListener(changes::record);
+        Order deliveredBenson = new OrderBuilder(BENSON).withDeliveryStatus(Status.DELIVERED).build();
+        cakeCollate.setOrder(BENSON, deliveredBenson);
+
+        assertEquals(Set.of(deliveredBenson), changes.getAddedOrders());
+        assertEquals(Set.of(BENSON), changes.getRemovedOrders());
+    }
+
+    @Test
+    public void record_orderAddedThenRemoved_nothingRecorded() {
+        cakeCollate.getOrderList().addListener(changes::record);
+        cakeCollate.addOrder(HOON);
+        cakeCollate.removeOrder(HOON);
+
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void addAll_laterChangesUndoEarlierOnes_nothingRecorded() {
+        OrderChanges later = new OrderChanges();
+        ListChangeListener<Order> listener = changes::record;
+        cakeCollate.getOrderList().addListener(listener);
+        cakeCollate.addOrder(HOON);
+        cakeCollate.getOrderList().removeListener(listener);
+        cakeCollate.getOrderList().addListener(later::record);
+        cakeCollate.removeOrder(HOON);
+
+        changes.addAll(later);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void applyTo_orders_changesApplied() {
+        Set<Order> orders = OrderChanges.newIdentitySet();
+        orders.addAll(cakeCollate.getOrderList());
+        cakeCollate.getOrderList().addListener(changes::record);
+        cakeCollate.addOrder(HOON);
+        cakeCollate.removeOrder(ALICE);
+
+        changes.applyTo(orders);
+        assertEquals(cakeCollate.getOrderList().size(), orders.size());
+        assertTrue(orders.containsAll(cakeCollate.getOrderList()));
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.cakecollate.model.order;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cakecollate.testutil.Assert.assertThrows;
 
@@ -19,6 +21,18 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Name.of("peter*"));
+    }
+
+    @Test
+    public void of_equalNames_sameName() {
+        Name name = Name.of("Alex Yeoh");
+        assertSame(name, Name.of(new String("Alex Yeoh")));
+        assertEquals(new Name("Alex Yeoh"), name);
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,68 @@
+package seedu.cakecollate.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+import static seedu.cakecollate.testutil.TypicalOrders.CARL;
+import static seedu.cakecollate.testutil.TypicalOrders.DANIEL;
+import static seedu.cakecollate.testutil.TypicalOrders.ELLE;
+import static seedu.cakecollate.testutil.TypicalOrders.FIONA;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalOrders;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class OrderDateIndexTest {
+
+    private static final LocalDate NEW_YEAR = LocalDate.of(2022, 1, 1);
+
+    private final OrderDateIndex index = new OrderDateIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalOrders().forEach(index::add);
+    }
+
+    @Test
+    public void find_nullDate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null, NEW_YEAR));
+        assertThrows(NullPointerException.class, () -> index.find(NEW_YEAR, null));
+    }
+
+    @Test
+    public void find_singleDay_returnsOrdersOnThatDay() {
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL), index.find(NEW_YEAR, NEW_YEAR));
+    }
+
+    @Test
+    public void find_range_returnsOrdersWithinRangeInclusive() {
+        assertEquals(Set.of(FIONA), index.find(NEW_YEAR.plusDays(1), LocalDate.of(2022, 2, 28)));
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL, FIONA),
+                index.find(LocalDate.of(2021, 12, 31), LocalDate.of(2022, 2, 28)));
+    }
+
+    @Test
+    public void find_endBeforeStart_returnsEmptySet() {
+        assertTrue(index.find(NEW_YEAR, NEW_YEAR.minusDays(1)).isEmpty());
+    }
+
+    @Test
+    public void find_removedAndEditedOrders_followsChanges() {
+        index.remove(ELLE);
+        assertTrue(index.find(LocalDate.of(2022, 12, 31), LocalDate.of(2022, 12, 31)).isEmpty());
+
+        Order editedAlice = new OrderBuilder(ALICE).withDeliveryDate("02/01/2022").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertEquals(Set.of(BENSON, CARL, DANIEL), index.find(NEW_YEAR, NEW_YEAR));
+        assertEquals(Set.of(editedAlice), index.find(NEW_YEAR.plusDays(1), NEW_YEAR.plusDays(1)));
+    }
+
+}
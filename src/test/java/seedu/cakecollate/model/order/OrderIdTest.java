@@ -0,0 +1,67 @@
+package seedu.cakecollate.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new OrderId(null));
+    }
+
+    @Test
+    public void constructor_invalidOrderId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OrderId(0));
+        assertThrows(IllegalArgumentException.class, () -> new OrderId(-3));
+        assertThrows(IllegalArgumentException.class, () -> new OrderId("12"));
+    }
+
+    @Test
+    public void isValidOrderId() {
+        // invalid order IDs
+        assertFalse(OrderId.isValidOrderId("")); // empty string
+        assertFalse(OrderId.isValidOrderId("#")); // no number
+        assertFalse(OrderId.isValidOrderId("12")); // no prefix
+        assertFalse(OrderId.isValidOrderId("#0")); // zero
+        assertFalse(OrderId.isValidOrderId("#-1")); // negative
+        assertFalse(OrderId.isValidOrderId("#1a")); // not a number
+        assertFalse(OrderId.isValidOrderId("# 1")); // spaces within
+        assertFalse(OrderId.isValidOrderId("#1234567890123456789")); // too long
+
+        // valid order IDs
+        assertTrue(OrderId.isValidOrderId("#1"));
+        assertTrue(OrderId.isValidOrderId("#007")); // leading zeroes
+        assertTrue(OrderId.isValidOrderId("#123456789012345678"));
+    }
+
+    @Test
+    public void toString_parsedOrderId_sameText() {
+        assertEquals("#12", new OrderId("#012").toString());
+        assertEquals(new OrderId(12), new OrderId("#12"));
+    }
+
+    @Test
+    public void equals() {
+        OrderId orderId = new OrderId(5);
+
+        // same values -> returns true
+        assertTrue(orderId.equals(new OrderId("#5")));
+
+        // same object -> returns true
+        assertTrue(orderId.equals(orderId));
+
+        // null -> returns false
+        assertFalse(orderId.equals(null));
+
+        // different types -> returns false
+        assertFalse(orderId.equals(5));
+
+        // different order ID -> returns false
+        assertFalse(orderId.equals(new OrderId(6)));
+    }
+}
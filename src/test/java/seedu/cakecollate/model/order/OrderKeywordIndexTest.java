@@ -0,0 +1,125 @@
+package seedu.cakecollate.model.order;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ALL;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_DELIVERY_STATUS;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_ORDER_DESCRIPTION;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.cakecollate.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+import static seedu.cakecollate.testutil.TypicalOrders.DANIEL;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalOrders;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.logic.parser.Prefix;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class OrderKeywordIndexTest {
+
+    private final OrderKeywordIndex index = new OrderKeywordIndex();
+
+    @BeforeEach
+    public void setUp() {
+        getTypicalOrders().forEach(index::add);
+    }
+
+    @Test
+    public void find_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_keywords_sameAsPredicate() {
+        // whole and partial words, in any case
+        assertFindsSameAsPredicate(createPredicate(PREFIX_NAME, "Meier"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_NAME, "eIeR", "kUR"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_ADDRESS, "street", "ave"));
+
+        // keywords shorter than a trigram
+        assertFindsSameAsPredicate(createPredicate(PREFIX_NAME, "a"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_PHONE, "94"));
+
+        // keywords found in one of several tags or order descriptions
+        assertFindsSameAsPredicate(createPredicate(PREFIX_TAG, "friends"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_TAG, "owes"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_ORDER_DESCRIPTION, "cake"));
+
+        // dates and delivery status
+        assertFindsSameAsPredicate(createPredicate(PREFIX_DATE, "jan"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_DATE, "2022"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_DELIVERY_STATUS, "undelivered"));
+
+        // all fields
+        assertFindsSameAsPredicate(createPredicate(PREFIX_ALL, "meier", "friends"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_ALL, "e"));
+
+        // no matches
+        assertFindsSameAsPredicate(createPredicate(PREFIX_NAME, "Zelda"));
+        assertFindsSameAsPredicate(createPredicate(PREFIX_NAME, "zz"));
+    }
+
+    @Test
+    public void find_multiplePrefixes_matchesAllPrefixes() {
+        HashMap<Prefix, List<String>> keywords = new HashMap<>();
+        keywords.put(PREFIX_NAME, Arrays.asList("meier"));
+        keywords.put(PREFIX_TAG, Arrays.asList("friends"));
+        ContainsKeywordsPredicate predicate = new ContainsKeywordsPredicate(keywords);
+
+        assertFindsSameAsPredicate(predicate);
+        assertEquals(Set.of(BENSON, DANIEL), index.find(predicate));
+    }
+
+    @Test
+    public void find_removedOrder_notFound() {
+        index.remove(ALICE);
+        assertTrue(index.find(createPredicate(PREFIX_NAME, "alice")).isEmpty());
+
+        // other orders with the same values are still found
+        index.remove(BENSON);
+        assertFindsSameAsPredicate(createPredicate(PREFIX_TAG, "friends"), ALICE, BENSON);
+    }
+
+    @Test
+    public void find_editedOrder_foundByNewValues() {
+        Order editedAlice = new OrderBuilder(ALICE).withName("Alicia Keys").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        assertEquals(Set.of(editedAlice), index.find(createPredicate(PREFIX_NAME, "keys")));
+        assertTrue(index.find(createPredicate(PREFIX_NAME, "pauline")).isEmpty());
+    }
+
+    private static ContainsKeywordsPredicate createPredicate(Prefix prefix, String... keywords) {
+        HashMap<Prefix, List<String>> map = new HashMap<>();
+        map.put(prefix, Arrays.asList(keywords));
+        return new ContainsKeywordsPredicate(map);
+    }
+
+    /**
+     * Asserts that the index finds the typical orders, other than {@code removedOrders}, that satisfy
+     * {@code predicate}.
+     */
+    private void assertFindsSameAsPredicate(ContainsKeywordsPredicate predicate, Order... removedOrders) {
+        List<Order> removed = Arrays.asList(removedOrders);
+        Set<Order> expectedOrders = getTypicalOrders().stream()
+                .filter(order -> !removed.contains(order))
+                .filter(predicate)
+                .collect(Collectors.toSet());
+        assertEquals(expectedOrders, index.find(predicate));
+    }
+
+}
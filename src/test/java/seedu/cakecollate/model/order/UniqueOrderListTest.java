@@ -8,13 +8,20 @@ import static seedu.cakecollate.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND
 import static seedu.cakecollate.testutil.Assert.assertThrows;
 import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
 import static seedu.cakecollate.testutil.TypicalOrders.BOB;
+import static seedu.cakecollate.testutil.TypicalOrders.CARL;
+import static seedu.cakecollate.testutil.TypicalOrders.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.cakecollate.model.order.exceptions.DuplicateOrderException;
 import seedu.cakecollate.model.order.exceptions.OrderNotFoundException;
 import seedu.cakecollate.testutil.OrderBuilder;
@@ -57,6 +64,58 @@ public class UniqueOrderListTest {
         assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.add(ALICE));
     }
 
+    @Test
+    public void add_ordersOutOfOrder_keepsListSorted() {
+        Order later = new OrderBuilder(ALICE).withDeliveryDate("31/12/2022").build();
+        Order delivered = new OrderBuilder(BOB).withDeliveryStatus(Status.DELIVERED).build();
+        uniqueOrderList.add(delivered);
+        uniqueOrderList.add(later);
+        uniqueOrderList.add(CARL);
+        assertEquals(Arrays.asList(CARL, later, delivered), uniqueOrderList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setOrder_editedOrderChangesPosition_keepsListSorted() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(CARL);
+        Order deliveredAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.DELIVERED).build();
+        uniqueOrderList.setOrder(ALICE, deliveredAlice);
+        assertEquals(Arrays.asList(CARL, deliveredAlice), uniqueOrderList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setOrder_editedOrderChangesPosition_movedInSingleChange() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(CARL);
+        int oldIndex = uniqueOrderList.asUnmodifiableObservableList().get(0).isSameOrder(ALICE) ? 0 : 1;
+        List<Integer> permutedFrom = new ArrayList<>();
+        List<Order> removed = new ArrayList<>();
+        List<Integer> replacedAt = new ArrayList<>();
+        int[] changeCount = {0};
+        uniqueOrderList.asUnmodifiableObservableList().addListener((ListChangeListener<Order>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    permutedFrom.add(change.getPermutation(oldIndex));
+                } else {
+                    removed.addAll(change.getRemoved());
+                    replacedAt.add(change.getFrom());
+                }
+            }
+        });
+
+        Order deliveredAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.DELIVERED).build();
+        uniqueOrderList.setOrder(ALICE, deliveredAlice);
+
+        // the order is moved to the end and replaced there, so views of the list keep it selected
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(1), permutedFrom);
+        assertEquals(List.of(1), replacedAt);
+        assertEquals(1, removed.size());
+        assertTrue(removed.get(0).isSameOrder(ALICE));
+        assertEquals(Arrays.asList(CARL, deliveredAlice), uniqueOrderList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setOrder_nullTargetOrder_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueOrderList.setOrder(null, ALICE));
@@ -101,6 +160,16 @@ public class UniqueOrderListTest {
         assertEquals(expectedUniqueOrderList, uniqueOrderList);
     }
 
+    @Test
+    public void setOrder_editedOrderHasDifferentIdentity_releasesOldIdentity() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.setOrder(ALICE, BOB);
+        assertFalse(uniqueOrderList.contains(ALICE));
+        assertTrue(uniqueOrderList.contains(BOB));
+        uniqueOrderList.add(ALICE);
+        assertTrue(uniqueOrderList.contains(ALICE));
+    }
+
     @Test
     public void setOrder_editedOrderHasNonUniqueIdentity_throwsDuplicateOrderException() {
         uniqueOrderList.add(ALICE);
@@ -126,6 +195,15 @@ public class UniqueOrderListTest {
         assertEquals(expectedUniqueOrderList, uniqueOrderList);
     }
 
+    @Test
+    public void remove_existingOrder_releasesIdentity() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.remove(ALICE);
+        assertFalse(uniqueOrderList.contains(ALICE));
+        uniqueOrderList.add(ALICE);
+        assertTrue(uniqueOrderList.contains(ALICE));
+    }
+
     @Test
     public void setOrders_nullUniqueOrderList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueOrderList.setOrders((UniqueOrderList) null));
@@ -155,12 +233,208 @@ public class UniqueOrderListTest {
         assertEquals(expectedUniqueOrderList, uniqueOrderList);
     }
 
+    @Test
+    public void setOrders_list_replacesOwnIdentities() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.setOrders(Collections.singletonList(BOB));
+        assertFalse(uniqueOrderList.contains(ALICE));
+        assertTrue(uniqueOrderList.contains(BOB));
+    }
+
     @Test
     public void setOrders_listWithDuplicateOrders_throwsDuplicateOrderException() {
         List<Order> listWithDuplicateOrders = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.setOrders(listWithDuplicateOrders));
     }
 
+    @Test
+    public void setOrders_listWithSameIdentityOrders_throwsDuplicateOrderException() {
+        Order editedAlice = new OrderBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        List<Order> listWithDuplicateOrders = Arrays.asList(ALICE, editedAlice);
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.setOrders(listWithDuplicateOrders));
+    }
+
+    @Test
+    public void add_orders_assignsIncreasingIds() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        assertEquals(Optional.of(ALICE), uniqueOrderList.get(new OrderId(1)));
+        assertEquals(Optional.of(BOB), uniqueOrderList.get(new OrderId(2)));
+        assertEquals(Optional.empty(), uniqueOrderList.get(new OrderId(3)));
+    }
+
+    @Test
+    public void add_orderWithUsedId_assignsNextId() {
+        uniqueOrderList.add(ALICE.withId(new OrderId(7)));
+        uniqueOrderList.add(BOB.withId(new OrderId(7)));
+        uniqueOrderList.add(CARL);
+        assertEquals(Optional.of(new OrderId(7)), uniqueOrderList.get(new OrderId(7)).get().getId());
+        assertEquals(Optional.of(BOB), uniqueOrderList.get(new OrderId(8)));
+        assertEquals(Optional.of(CARL), uniqueOrderList.get(new OrderId(9)));
+    }
+
+    @Test
+    public void setOrder_editedOrder_keepsIdOfTarget() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        Order editedAlice = new OrderBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueOrderList.setOrder(ALICE, editedAlice);
+
+        Order storedAlice = uniqueOrderList.get(new OrderId(1)).get();
+        assertEquals(editedAlice, storedAlice);
+        assertEquals(Optional.of(new OrderId(1)), storedAlice.getId());
+    }
+
+    @Test
+    public void applyChanges_editedAndAddedOrders_idsKeptAndAssigned() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        Order editedBob = new OrderBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        uniqueOrderList.applyChanges(List.of(ALICE), Map.of(BOB, editedBob), List.of(CARL));
+
+        assertEquals(Optional.empty(), uniqueOrderList.get(new OrderId(1)));
+        assertEquals(Optional.of(editedBob), uniqueOrderList.get(new OrderId(2)));
+        assertEquals(Optional.of(CARL), uniqueOrderList.get(new OrderId(3)));
+    }
+
+    @Test
+    public void remove_existingOrder_idNotReused() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        uniqueOrderList.remove(ALICE);
+        uniqueOrderList.add(CARL);
+        assertEquals(Optional.empty(), uniqueOrderList.get(new OrderId(1)));
+        assertEquals(Optional.of(CARL), uniqueOrderList.get(new OrderId(3)));
+    }
+
+    @Test
+    public void setOrders_listWithIds_keepsUniqueIds() {
+        uniqueOrderList.setOrders(Arrays.asList(ALICE.withId(new OrderId(5)), BOB, CARL.withId(new OrderId(5))));
+        assertEquals(Optional.of(ALICE), uniqueOrderList.get(new OrderId(5)));
+        assertEquals(Optional.of(BOB), uniqueOrderList.get(new OrderId(6)));
+        assertEquals(Optional.of(CARL), uniqueOrderList.get(new OrderId(7)));
+    }
+
+    @Test
+    public void setNextId_idOfDeletedOrder_idNotReused() {
+        uniqueOrderList.setOrders(List.of(ALICE));
+        uniqueOrderList.setNextId(5);
+        uniqueOrderList.add(BOB);
+        assertEquals(Optional.of(BOB), uniqueOrderList.get(new OrderId(5)));
+
+        // the next ID is never lowered
+        uniqueOrderList.setNextId(2);
+        uniqueOrderList.setOrders(List.of());
+        uniqueOrderList.add(CARL);
+        assertEquals(Optional.of(CARL), uniqueOrderList.get(new OrderId(6)));
+    }
+
+    @Test
+    public void setNextId_notPositive_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> uniqueOrderList.setNextId(0));
+    }
+
+    @Test
+    public void applyChanges_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueOrderList.applyChanges(null, Map.of(), List.of()));
+        assertThrows(NullPointerException.class, () -> uniqueOrderList.applyChanges(List.of(), null, List.of()));
+        assertThrows(NullPointerException.class, () -> uniqueOrderList.applyChanges(List.of(), Map.of(), null));
+    }
+
+    @Test
+    public void applyChanges_validChanges_appliesChangesKeepingListSorted() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        uniqueOrderList.add(CARL);
+        Order deliveredAlice = new OrderBuilder(ALICE).withDeliveryStatus(Status.DELIVERED).build();
+        Map<Order, Order> editedOrders = new HashMap<>();
+        editedOrders.put(ALICE, deliveredAlice);
+
+        uniqueOrderList.applyChanges(List.of(CARL), editedOrders, List.of(DANIEL));
+
+        UniqueOrderList expectedUniqueOrderList = new UniqueOrderList();
+        expectedUniqueOrderList.setOrders(Arrays.asList(BOB, DANIEL, deliveredAlice));
+        assertEquals(expectedUniqueOrderList, uniqueOrderList);
+        assertFalse(uniqueOrderList.contains(CARL));
+        assertTrue(uniqueOrderList.contains(DANIEL));
+    }
+
+    @Test
+    public void applyChanges_fewOrders_singleChangeOfOnlyThoseOrders() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        uniqueOrderList.add(CARL);
+        List<Order> removed = new ArrayList<>();
+        List<Order> added = new ArrayList<>();
+        int[] changeCount = {0};
+        uniqueOrderList.asUnmodifiableObservableList().addListener((ListChangeListener<Order>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+                added.addAll(change.getAddedSubList());
+            }
+        });
+
+        uniqueOrderList.applyChanges(List.of(CARL), Map.of(), List.of(DANIEL));
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(List.of(CARL), removed);
+        assertEquals(1, added.size());
+        assertTrue(added.get(0).isSameOrder(DANIEL));
+    }
+
+    @Test
+    public void applyChanges_manyOrders_appliesChangesKeepingListSorted() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        List<Order> toAdd = new ArrayList<>();
+        for (int i = 0; i <= UniqueOrderList.MAX_ORDERS_CHANGED_IN_PLACE; i++) {
+            toAdd.add(new OrderBuilder(CARL).withName("Carl " + i).build());
+        }
+
+        uniqueOrderList.applyChanges(List.of(ALICE), Map.of(), toAdd);
+
+        List<Order> orders = uniqueOrderList.asUnmodifiableObservableList();
+        assertEquals(toAdd.size() + 1, orders.size());
+        for (int i = 1; i < orders.size(); i++) {
+            assertTrue(orders.get(i - 1).compareTo(orders.get(i)) <= 0);
+        }
+        assertTrue(toAdd.stream().allMatch(uniqueOrderList::contains));
+        assertTrue(uniqueOrderList.contains(BOB));
+        assertFalse(uniqueOrderList.contains(ALICE));
+    }
+
+    @Test
+    public void applyChanges_targetOrderNotInList_throwsOrderNotFoundException() {
+        uniqueOrderList.add(ALICE);
+        Map<Order, Order> editedOrders = new HashMap<>();
+        editedOrders.put(ALICE, ALICE);
+        editedOrders.put(BOB, BOB);
+        assertThrows(OrderNotFoundException.class, () -> uniqueOrderList.applyChanges(List.of(), editedOrders,
+                List.of()));
+        assertThrows(OrderNotFoundException.class, () -> uniqueOrderList.applyChanges(List.of(BOB), Map.of(),
+                List.of()));
+        assertEquals(Collections.singletonList(ALICE), uniqueOrderList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void applyChanges_nonUniqueIdentities_throwsDuplicateOrderException() {
+        uniqueOrderList.add(ALICE);
+        uniqueOrderList.add(BOB);
+        Map<Order, Order> editedOrders = new HashMap<>();
+        editedOrders.put(ALICE, BOB);
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.applyChanges(List.of(), editedOrders,
+                List.of(CARL)));
+        assertThrows(DuplicateOrderException.class, () -> uniqueOrderList.applyChanges(List.of(), Map.of(),
+                List.of(CARL, CARL)));
+
+        // the list is left as it was
+        assertEquals(Arrays.asList(ALICE, BOB), uniqueOrderList.asUnmodifiableObservableList());
+        assertTrue(uniqueOrderList.contains(ALICE));
+        assertTrue(uniqueOrderList.contains(BOB));
+        assertFalse(uniqueOrderList.contains(CARL));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
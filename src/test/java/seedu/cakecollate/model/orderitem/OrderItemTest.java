@@ -3,6 +3,7 @@ package seedu.cakecollate.model.orderitem;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.cakecollate.logic.commands.CommandTestUtil.VALID_TYPE_STRAWBERRY;
 import static seedu.cakecollate.testutil.TypicalOrderItems.CHOCOLATE;
@@ -15,6 +16,14 @@ import seedu.cakecollate.testutil.OrderItemBuilder;
 
 public class OrderItemTest {
 
+    @Test
+    public void of_equalTypes_sameOrderItemAndType() {
+        OrderItem orderItem = OrderItem.of("Black Forest");
+        assertSame(orderItem, OrderItem.of(new String("Black Forest")));
+        assertSame(Type.of("Black Forest"), orderItem.getType());
+        assertEquals(new OrderItem(new Type("Black Forest")), orderItem);
+    }
+
     @Test
     public void equals() {
         //same values -> return true
@@ -0,0 +1,112 @@
+package seedu.cakecollate.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderItems;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.model.orderitem.OrderItem;
+import seedu.cakecollate.model.orderitem.Type;
+
+public class SampleDataGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 4, 1);
+
+    @Test
+    public void constructor_negativeOrderCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SampleDataGenerator(-1, 0, TODAY));
+    }
+
+    @Test
+    public void constructor_nullToday_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SampleDataGenerator(1, 0, null));
+    }
+
+    @Test
+    public void generateOrders_sameArguments_sameOrders() {
+        List<Order> orders = new SampleDataGenerator(1000, 7, TODAY).generateOrders();
+        assertEquals(1000, orders.size());
+        assertEquals(orders, new SampleDataGenerator(1000, 7, TODAY).generateOrders());
+
+        // different seed -> different orders
+        assertNotEquals(orders, new SampleDataGenerator(1000, 8, TODAY).generateOrders());
+    }
+
+    @Test
+    public void iterator_generatesOrdersOneAtATime() {
+        SampleDataGenerator generator = new SampleDataGenerator(3, 7, TODAY);
+        Iterator<Order> iterator = generator.iterator();
+        for (Order order : generator.generateOrders()) {
+            assertTrue(iterator.hasNext());
+            assertEquals(order, iterator.next());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertFalse(new SampleDataGenerator(0, 7, TODAY).iterator().hasNext());
+    }
+
+    @Test
+    public void generateOrders_manyOrdersOnEachDay_allDifferentOrders() {
+        // about 10 orders on each day
+        List<Order> orders = new SampleDataGenerator(12000, 7, TODAY).generateOrders();
+
+        CakeCollate cakeCollate = new CakeCollate();
+        cakeCollate.setOrders(orders); // throws if two orders are the same order
+        for (int i = 0; i < orders.size(); i++) {
+            assertEquals(new OrderId(i + 1), orders.get(i).getId().get());
+        }
+    }
+
+    @Test
+    public void generateOrders_realisticOrders() {
+        List<Order> orders = new SampleDataGenerator(10000, 7, TODAY).generateOrders();
+
+        Map<String, Integer> ordersByEmail = new HashMap<>();
+        Map<OrderDescription, Integer> cakeCounts = new HashMap<>();
+        OrderItems menu = new OrderItems(SampleDataGenerator.getOrderItems());
+        for (Order order : orders) {
+            ordersByEmail.merge(order.getEmail().value, 1, Integer::sum);
+            for (OrderDescription cake : order.getOrderDescriptions().keySet()) {
+                assertTrue(menu.hasOrderItem(new OrderItem(new Type(cake.value))));
+                cakeCounts.merge(cake, 1, Integer::sum);
+            }
+
+            // delivery dates spread from years before today to a few months after it
+            LocalDate deliveryDate = order.getDeliveryDate().value;
+            assertFalse(deliveryDate.isBefore(TODAY.minusYears(SampleDataGenerator.YEARS_OF_HISTORY)));
+            assertFalse(deliveryDate.isAfter(TODAY.plusDays(SampleDataGenerator.DAYS_AHEAD)));
+
+            Status status = order.getDeliveryStatus().getDeliveryStatus();
+            if (status != Status.CANCELLED) {
+                assertEquals(deliveryDate.isBefore(TODAY), status == Status.DELIVERED);
+            }
+        }
+
+        // regular customers order far more often than the average customer
+        int mostOrdersOfACustomer = ordersByEmail.values().stream().mapToInt(Integer::intValue).max().getAsInt();
+        assertTrue(mostOrdersOfACustomer > 10 * orders.size() / ordersByEmail.size());
+
+        // popular cakes are ordered far more often than the others
+        int mostOrdersOfACake = cakeCounts.values().stream().mapToInt(Integer::intValue).max().getAsInt();
+        int fewestOrdersOfACake = cakeCounts.values().stream().mapToInt(Integer::intValue).min().getAsInt();
+        assertTrue(mostOrdersOfACake > 5 * fewestOrdersOfACake);
+    }
+
+}
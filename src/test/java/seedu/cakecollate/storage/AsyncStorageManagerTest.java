@@ -0,0 +1,163 @@
+package seedu.cakecollate.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.HOON;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
+import seedu.cakecollate.model.OrderItems;
+import seedu.cakecollate.testutil.TypicalOrderItems;
+
+public class AsyncStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AsyncStorageManager createStorage(Path cakeCollateFilePath) {
+        return new AsyncStorageManager(new StorageManager(new JsonCakeCollateStorage(cakeCollateFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonOrderItemsStorage(testFolder.resolve("item"))));
+    }
+
+    @Test
+    public void saveCakeCollate_thenFlush_dataWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("ab"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+        storage.flush();
+
+        assertEquals(original, new JsonCakeCollateStorage(testFolder.resolve("ab")).readCakeCollate().get());
+    }
+
+    @Test
+    public void saveOrderItems_thenFlush_dataWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("ab"));
+        OrderItems original = TypicalOrderItems.getTypicalOrderItemsModel();
+        storage.saveOrderItems(original);
+        storage.flush();
+
+        assertEquals(original, new JsonOrderItemsStorage(testFolder.resolve("item")).readOrderItems().get());
+    }
+
+    @Test
+    public void saveCakeCollate_modifiedAfterSave_savedDataUnchanged() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("ab"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.flush();
+
+        assertEquals(getTypicalCakeCollate(), storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollate_severalSaves_latestDataWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("ab"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+        storage.flush();
+
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollateChanges_lastOrderDeleted_nextOrderIdWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("nextOrderId"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+        OrderChanges changes = new OrderChanges();
+        original.getOrderList().addListener(changes::record);
+        original.addOrder(HOON);
+        original.removeOrder(HOON);
+        storage.saveCakeCollateChanges(original, changes);
+        storage.flush();
+
+        assertEquals(original.getNextOrderId(), storage.readCakeCollate().get().getNextOrderId());
+    }
+
+    @Test
+    public void saveCakeCollateChanges_afterSave_changesWritten() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("changes"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+
+        OrderChanges changes = new OrderChanges();
+        original.getOrderList().addListener(changes::record);
+        original.addOrder(HOON);
+        original.removeOrder(ALICE);
+        storage.saveCakeCollateChanges(original, changes);
+        storage.flush();
+
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollateChanges_firstSave_savedInFull() throws Exception {
+        AsyncStorageManager storage = createStorage(testFolder.resolve("changesFirstSave"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollateChanges(original, new OrderChanges());
+        original.addOrder(HOON);
+        storage.flush();
+
+        assertEquals(getTypicalCakeCollate(), storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollateChanges_afterFailedWrite_allChangesWritten() throws Exception {
+        Path notADirectory = testFolder.resolve("notADirectoryForChanges");
+        Files.createFile(notADirectory);
+        AsyncStorageManager storage = createStorage(notADirectory.resolve("ab"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+        assertThrows(IOException.class, storage::flush);
+
+        Files.delete(notADirectory);
+        OrderChanges changes = new OrderChanges();
+        original.getOrderList().addListener(changes::record);
+        original.addOrder(HOON);
+        storage.saveCakeCollateChanges(original, changes);
+        storage.flush();
+
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void flush_failedWrite_throwsIoException() throws Exception {
+        // the parent of the data file is a regular file, so the data file cannot be created
+        Path notADirectory = testFolder.resolve("notADirectory");
+        Files.createFile(notADirectory);
+        AsyncStorageManager storage = createStorage(notADirectory.resolve("ab"));
+
+        storage.saveCakeCollate(getTypicalCakeCollate());
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void flush_afterFailedWrite_failedDataWrittenAgain() throws Exception {
+        Path notADirectory = testFolder.resolve("notADirectory");
+        Files.createFile(notADirectory);
+        AsyncStorageManager storage = createStorage(notADirectory.resolve("ab"));
+        CakeCollate original = getTypicalCakeCollate();
+
+        storage.saveCakeCollate(original);
+        assertThrows(IOException.class, storage::flush);
+
+        Files.delete(notADirectory);
+        storage.flush();
+        storage.checkForSaveErrors();
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+}
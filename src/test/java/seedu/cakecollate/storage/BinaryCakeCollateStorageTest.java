@@ -0,0 +1,191 @@
+package seedu.cakecollate.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.HOON;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.commons.core.DataFormat;
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.order.Request;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class BinaryCakeCollateStorageTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonCakeCollateStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCakeCollate_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryCakeCollateStorage(testFolder.resolve("data.bin")).readCakeCollate(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryCakeCollateStorage(testFolder.resolve("data.bin")).readCakeCollate().isPresent());
+    }
+
+    @Test
+    public void readAndSaveCakeCollate_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        CakeCollate original = getTypicalCakeCollate();
+        BinaryCakeCollateStorage storage = new BinaryCakeCollateStorage(filePath);
+
+        storage.saveCakeCollate(original);
+        assertEquals(original, storage.readCakeCollate().get());
+
+        original.addOrder(HOON);
+        original.removeOrder(ALICE);
+        original.addOrder(new OrderBuilder(ALICE).withName("Alice Request").withRequest("").build());
+        storage.saveCakeCollate(original);
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_orderIds_idsKept() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        CakeCollate original = getTypicalCakeCollate();
+        original.removeOrder(ALICE);
+        BinaryCakeCollateStorage storage = new BinaryCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+
+        ReadOnlyCakeCollate read = storage.readCakeCollate().get();
+        for (int i = 0; i < original.getOrderList().size(); i++) {
+            assertEquals(original.getOrderList().get(i).getId(), read.getOrderList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void readCakeCollate_lastOrderDeleted_nextOrderIdKept() throws Exception {
+        Path filePath = testFolder.resolve("nextOrderId.bin");
+        CakeCollate original = getTypicalCakeCollate();
+        original.addOrder(HOON);
+        original.removeOrder(HOON);
+        new BinaryCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        assertEquals(original.getNextOrderId(),
+                new BinaryCakeCollateStorage(filePath).readCakeCollate().get().getNextOrderId());
+    }
+
+    @Test
+    public void readCakeCollate_emptyRequest_requestStillEmpty() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        CakeCollate original = new CakeCollate();
+        original.addOrder(new OrderBuilder(ALICE).withRequest("").build());
+        BinaryCakeCollateStorage storage = new BinaryCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+
+        Request request = storage.readCakeCollate().get().getOrderList().get(0).getRequest();
+        assertTrue(request.isRequestEmpty());
+    }
+
+    @Test
+    public void readCakeCollate_memoryMapped_success() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        CakeCollate original = getTypicalCakeCollate();
+        BinaryCakeCollateStorage storage = new BinaryCakeCollateStorage(filePath, 0);
+        storage.saveCakeCollate(original);
+
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_memoryMappedTruncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryCakeCollateStorage(filePath).saveCakeCollate(getTypicalCakeCollate());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, () ->
+                new BinaryCakeCollateStorage(filePath, 0).readCakeCollate());
+    }
+
+    @Test
+    public void saveCakeCollate_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("data.bin");
+        Path jsonFilePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new BinaryCakeCollateStorage(binaryFilePath).saveCakeCollate(original);
+        new JsonCakeCollateStorage(jsonFilePath).saveCakeCollate(original);
+
+        assertTrue(Files.size(binaryFilePath) * 2 < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readCakeCollate_jsonFile_imported() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new JsonCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        assertEquals(original, new BinaryCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_invalidJsonFile_throwDataConversionException() {
+        assertThrows(DataConversionException.class, () -> new BinaryCakeCollateStorage(testFolder)
+                .readCakeCollate(TEST_DATA_FOLDER.resolve("invalidOrderCakeCollate.json")));
+    }
+
+    @Test
+    public void jsonStorage_readBinaryFile_exported() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        CakeCollate original = getTypicalCakeCollate();
+        new BinaryCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        assertEquals(original, new JsonCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_unsupportedVersion_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryCakeCollateStorage(filePath).saveCakeCollate(getTypicalCakeCollate());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, BinaryCakeCollateStorage.FORMAT_VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataConversionException.class, () -> new BinaryCakeCollateStorage(filePath).readCakeCollate());
+    }
+
+    @Test
+    public void readCakeCollate_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("data.bin");
+        new BinaryCakeCollateStorage(filePath).saveCakeCollate(getTypicalCakeCollate());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinaryCakeCollateStorage(filePath).readCakeCollate());
+    }
+
+    @Test
+    public void journalStorage_binaryFormatOverJsonFile_convertedOnFirstSave() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new JsonCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath, DataFormat.BINARY);
+        CakeCollate readBack = new CakeCollate(storage.readCakeCollate().get());
+        readBack.addOrder(HOON);
+        storage.saveCakeCollate(readBack);
+
+        assertTrue(BinaryCakeCollateStorage.isBinarySnapshot(filePath));
+        original.addOrder(HOON);
+        assertEquals(original, new JournalCakeCollateStorage(filePath, DataFormat.BINARY).readCakeCollate().get());
+    }
+
+}
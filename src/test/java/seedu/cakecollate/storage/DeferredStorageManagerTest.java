@@ -0,0 +1,68 @@
+package seedu.cakecollate.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.HOON;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderItems;
+import seedu.cakecollate.testutil.TypicalOrderItems;
+
+public class DeferredStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private DeferredStorageManager createStorage(Path cakeCollateFilePath) {
+        return new DeferredStorageManager(new StorageManager(new JsonCakeCollateStorage(cakeCollateFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonOrderItemsStorage(testFolder.resolve("item"))));
+    }
+
+    @Test
+    public void saveCakeCollate_notWrittenUntilFlush() throws Exception {
+        DeferredStorageManager storage = createStorage(testFolder.resolve("ab"));
+        CakeCollate original = getTypicalCakeCollate();
+        storage.saveCakeCollate(original);
+        assertFalse(Files.exists(testFolder.resolve("ab")));
+
+        // the data is written as it is when flushed
+        original.addOrder(HOON);
+        storage.flush();
+        assertEquals(original, storage.readCakeCollate().get());
+    }
+
+    @Test
+    public void saveOrderItems_notWrittenUntilFlush() throws Exception {
+        DeferredStorageManager storage = createStorage(testFolder.resolve("ab"));
+        OrderItems original = TypicalOrderItems.getTypicalOrderItemsModel();
+        storage.saveOrderItems(original);
+        assertFalse(Files.exists(testFolder.resolve("item")));
+
+        storage.flush();
+        assertEquals(original, storage.readOrderItems().get());
+    }
+
+    @Test
+    public void flush_failedWrite_dataKeptForNextFlush() throws Exception {
+        // the parent of the data file is a regular file, so the data file cannot be created
+        Path notAFolder = testFolder.resolve("notAFolder");
+        Files.createFile(notAFolder);
+        DeferredStorageManager storage = createStorage(notAFolder.resolve("ab"));
+        storage.saveCakeCollate(getTypicalCakeCollate());
+        assertThrows(IOException.class, storage::flush);
+
+        Files.delete(notAFolder);
+        storage.flush();
+        assertEquals(getTypicalCakeCollate(), storage.readCakeCollate().get());
+    }
+}
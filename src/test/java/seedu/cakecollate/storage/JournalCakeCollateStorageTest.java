@@ -0,0 +1,289 @@
+package seedu.cakecollate.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+import static seedu.cakecollate.testutil.TypicalOrders.HOON;
+import static seedu.cakecollate.testutil.TypicalOrders.IDA;
+import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.OrderChanges;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.Status;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class JournalCakeCollateStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCakeCollate_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JournalCakeCollateStorage(testFolder.resolve("data.json")).readCakeCollate(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalCakeCollateStorage(testFolder.resolve("data.json")).readCakeCollate().isPresent());
+    }
+
+    @Test
+    public void saveCakeCollate_firstSave_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new JournalCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        assertEquals(original, new JsonCakeCollateStorage(filePath).readCakeCollate().get());
+        assertFalse(Files.exists(journalPath(filePath)));
+    }
+
+    @Test
+    public void saveCakeCollate_changesAfterFirstSave_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+        Order deliveredBenson = new OrderBuilder(BENSON).withDeliveryStatus(Status.DELIVERED).build();
+        original.setOrder(BENSON, deliveredBenson);
+        original.removeOrder(ALICE);
+        storage.saveCakeCollate(original);
+
+        // snapshot is untouched, and each save is one line in the journal
+        assertEquals(getTypicalCakeCollate(), new JsonCakeCollateStorage(filePath).readCakeCollate().get());
+        assertEquals(2, Files.readAllLines(journalPath(filePath)).size());
+
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollateChanges_afterFirstSave_appendsOnlyChanges() throws Exception {
+        Path filePath = testFolder.resolve("changes.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+
+        OrderChanges changes = new OrderChanges();
+        original.getOrderList().addListener(changes::record);
+        original.addOrder(HOON);
+        original.removeOrder(ALICE);
+        storage.saveCakeCollateChanges(original, changes);
+
+        assertEquals(getTypicalCakeCollate(), new JsonCakeCollateStorage(filePath).readCakeCollate().get());
+        assertEquals(1, Files.readAllLines(journalPath(filePath)).size());
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollateChanges_savedOrdersUnknown_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("changesFirstSave.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new JournalCakeCollateStorage(filePath).saveCakeCollateChanges(original, new OrderChanges());
+
+        assertEquals(original, new JsonCakeCollateStorage(filePath).readCakeCollate().get());
+        assertFalse(Files.exists(journalPath(filePath)));
+    }
+
+    @Test
+    public void saveCakeCollate_noChanges_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        storage.saveCakeCollate(original);
+
+        assertFalse(Files.exists(journalPath(filePath)));
+    }
+
+    @Test
+    public void readCakeCollate_lastOrderDeletedInJournal_nextOrderIdKept() throws Exception {
+        Path filePath = testFolder.resolve("nextOrderId.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+        original.removeOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        assertEquals(original.getNextOrderId(),
+                new JournalCakeCollateStorage(filePath).readCakeCollate().get().getNextOrderId());
+    }
+
+    @Test
+    public void saveCakeCollate_newStorageInstance_startsFromReplayedData() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        JournalCakeCollateStorage restartedStorage = new JournalCakeCollateStorage(filePath);
+        CakeCollate readBack = new CakeCollate(restartedStorage.readCakeCollate().get());
+        readBack.addOrder(IDA);
+        restartedStorage.saveCakeCollate(readBack);
+
+        original.addOrder(IDA);
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void saveCakeCollate_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = new CakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+
+        for (int i = 0; i < JournalCakeCollateStorage.COMPACTION_THRESHOLD; i++) {
+            original.addOrder(new OrderBuilder(ALICE).withName("Alice " + i).build());
+            storage.saveCakeCollate(original);
+        }
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        Files.write(journalPath(filePath), "{\"added\":[{\"name\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_incompleteEntryInMiddle_laterEntriesReplayed() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        // a write cut short by a crash, followed by more saves
+        Files.write(journalPath(filePath), "{\"added\":[{\"name\":".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        original.addOrder(IDA);
+        storage.saveCakeCollate(original);
+        original.removeOrder(ALICE);
+        storage.saveCakeCollate(original);
+
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_blankLine_skipped() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        List<String> lines = Files.readAllLines(journalPath(filePath));
+        lines.add(0, "");
+        Files.write(journalPath(filePath), lines);
+
+        assertEquals(original, new JournalCakeCollateStorage(filePath).readCakeCollate().get());
+    }
+
+    @Test
+    public void readCakeCollate_malformedEntryInMiddle_throwsDataConversionException() throws Exception {
+        for (String malformedEntry : List.of("not json", "{\"added\":[}", "{\"added\":\"Hoon\"}")) {
+            Path filePath = testFolder.resolve("malformed.json");
+            Files.deleteIfExists(filePath);
+            Files.deleteIfExists(journalPath(filePath));
+            CakeCollate original = getTypicalCakeCollate();
+            JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+            storage.saveCakeCollate(original);
+            original.addOrder(HOON);
+            storage.saveCakeCollate(original);
+
+            // a complete but corrupt entry is not taken for a write cut short, so later entries are not replayed
+            List<String> lines = Files.readAllLines(journalPath(filePath));
+            lines.add(0, malformedEntry);
+            Files.write(journalPath(filePath), lines);
+
+            assertThrows(DataConversionException.class, () -> new JournalCakeCollateStorage(filePath)
+                    .readCakeCollate());
+            assertFalse(Files.exists(journalPath(filePath)));
+            try (Stream<Path> files = Files.list(testFolder)) {
+                files.filter(path -> path.getFileName().toString().startsWith("malformed.json."))
+                        .forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    @Test
+    public void readCakeCollate_invalidEntry_dataMovedAsideAndNotOverwritten() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        CakeCollate original = getTypicalCakeCollate();
+        JournalCakeCollateStorage storage = new JournalCakeCollateStorage(filePath);
+        storage.saveCakeCollate(original);
+        original.addOrder(HOON);
+        storage.saveCakeCollate(original);
+
+        String journal = Files.readString(journalPath(filePath));
+        Files.writeString(journalPath(filePath), journal.replace(HOON.getName().fullName, "Hoon*"));
+
+        JournalCakeCollateStorage restartedStorage = new JournalCakeCollateStorage(filePath);
+        assertThrows(DataConversionException.class, restartedStorage::readCakeCollate);
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath(filePath)));
+
+        // the app then starts with an empty CakeCollate, and saving it leaves the data moved aside alone
+        restartedStorage.saveCakeCollate(new CakeCollate());
+        try (Stream<Path> files = Files.list(testFolder)) {
+            List<Path> damagedFiles = files.filter(path -> path.getFileName().toString().contains(".damaged-"))
+                    .sorted().collect(Collectors.toList());
+            assertEquals(2, damagedFiles.size());
+            assertEquals(getTypicalCakeCollate(), new JsonCakeCollateStorage(damagedFiles.get(0))
+                    .readCakeCollate().get());
+        }
+    }
+
+    @Test
+    public void saveCakeCollate_otherFilePath_writesPlainSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("data.json");
+        Path otherFilePath = testFolder.resolve("other.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new JournalCakeCollateStorage(filePath).saveCakeCollate(original, otherFilePath);
+
+        assertTrue(Files.exists(otherFilePath));
+        assertFalse(Files.exists(filePath));
+        assertEquals(original, new JsonCakeCollateStorage(otherFilePath).readCakeCollate().get());
+    }
+
+    private static Path journalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+}
@@ -7,6 +7,7 @@ import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,7 @@ import seedu.cakecollate.model.order.DeliveryDate;
 import seedu.cakecollate.model.order.Email;
 import seedu.cakecollate.model.order.Name;
 import seedu.cakecollate.model.order.OrderDescription;
+import seedu.cakecollate.model.order.OrderId;
 import seedu.cakecollate.model.order.Phone;
 import seedu.cakecollate.model.order.Status;
 
@@ -50,6 +52,21 @@ public class JsonAdaptedOrderTest {
         assertEquals(BENSON, order.toModelType());
     }
 
+    @Test
+    public void toModelType_orderWithId_keepsId() throws Exception {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_ORDER_DESC, VALID_TAGS, VALID_DELIVERY_DATE, VALID_DELIVERY_STATUS, VALID_REQUEST, 12L);
+        assertEquals(Optional.of(new OrderId(12)), order.toModelType().getId());
+        assertEquals(Optional.of(new OrderId(12)), new JsonAdaptedOrder(order.toModelType()).toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedOrder order = new JsonAdaptedOrder(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_ORDER_DESC, VALID_TAGS, VALID_DELIVERY_DATE, VALID_DELIVERY_STATUS, VALID_REQUEST, 0L);
+        assertThrows(IllegalValueException.class, OrderId.MESSAGE_CONSTRAINTS, order::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedOrder order = new JsonAdaptedOrder(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
@@ -11,13 +11,17 @@ import static seedu.cakecollate.testutil.TypicalOrders.getTypicalCakeCollate;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.cakecollate.commons.exceptions.DataConversionException;
+import seedu.cakecollate.commons.util.FileUtil;
+import seedu.cakecollate.commons.util.JsonUtil;
 import seedu.cakecollate.model.CakeCollate;
 import seedu.cakecollate.model.ReadOnlyCakeCollate;
+import seedu.cakecollate.model.util.SampleDataGenerator;
 
 public class JsonCakeCollateStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonCakeCollateStorageTest");
@@ -86,6 +90,50 @@ public class JsonCakeCollateStorageTest {
 
     }
 
+    @Test
+    public void readCakeCollate_duplicateOrders_throwDataConversionException() {
+        Path duplicateOrderFile = Paths.get("src", "test", "data", "JsonSerializableCakeCollateTest",
+                "duplicateOrderCakeCollate.json");
+        assertThrows(DataConversionException.class, () ->
+                new JsonCakeCollateStorage(duplicateOrderFile).readCakeCollate());
+    }
+
+    @Test
+    public void readCakeCollate_lastOrderDeleted_nextOrderIdKept() throws Exception {
+        Path filePath = testFolder.resolve("nextOrderId.json");
+        CakeCollate original = getTypicalCakeCollate();
+        original.addOrder(HOON);
+        original.removeOrder(HOON);
+        new JsonCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        assertEquals(original.getNextOrderId(),
+                new JsonCakeCollateStorage(filePath).readCakeCollate().get().getNextOrderId());
+    }
+
+    @Test
+    public void saveCakeCollate_sameFormatAsJsonSerializableCakeCollate() throws Exception {
+        Path filePath = testFolder.resolve("TempCakeCollate.json");
+        CakeCollate original = getTypicalCakeCollate();
+        new JsonCakeCollateStorage(filePath).saveCakeCollate(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableCakeCollate(original)),
+                FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void saveOrders_generatedOrders_readBackInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempCakeCollate.json");
+        SampleDataGenerator generator = new SampleDataGenerator(500, SampleDataGenerator.DEFAULT_SEED,
+                LocalDate.of(2021, 4, 1));
+        new JsonCakeCollateStorage(filePath).saveOrders(generator, filePath);
+
+        CakeCollate expected = new CakeCollate();
+        expected.setOrders(generator.generateOrders());
+        ReadOnlyCakeCollate readBack = new JsonCakeCollateStorage(filePath).readCakeCollate().get();
+        assertEquals(expected, new CakeCollate(readBack));
+        assertEquals(expected.getOrderList().get(0).getId(), readBack.getOrderList().get(0).getId());
+    }
+
     @Test
     public void saveCakeCollate_nullCakeCollate_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCakeCollate(null, "SomeFile.json"));
@@ -0,0 +1,100 @@
+package seedu.cakecollate.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.cakecollate.testutil.Assert.assertThrows;
+import static seedu.cakecollate.testutil.TypicalOrders.ALICE;
+import static seedu.cakecollate.testutil.TypicalOrders.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.cakecollate.commons.exceptions.IllegalValueException;
+import seedu.cakecollate.model.CakeCollate;
+import seedu.cakecollate.model.order.Order;
+import seedu.cakecollate.model.order.Phone;
+import seedu.cakecollate.testutil.OrderBuilder;
+
+public class ParallelOrderConverterTest {
+
+    private static final int ORDER_COUNT = 3 * ParallelOrderConverter.CHUNK_SIZE + 7;
+
+    @Test
+    public void toModelType_noOrders_emptyCakeCollate() throws Exception {
+        assertEquals(new CakeCollate(), new ParallelOrderConverter().toModelType());
+    }
+
+    @Test
+    public void toModelType_manyOrders_allOrdersConverted() throws Exception {
+        List<Order> orders = createOrders();
+        ParallelOrderConverter converter = new ParallelOrderConverter();
+        for (Order order : orders) {
+            converter.add(new JsonAdaptedOrder(order));
+        }
+
+        CakeCollate expected = new CakeCollate();
+        expected.setOrders(orders);
+        assertEquals(expected, converter.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidOrdersInSeveralChunks_firstInvalidOrderReported() {
+        List<JsonAdaptedOrder> jsonAdaptedOrders = new ArrayList<>();
+        for (Order order : createOrders()) {
+            jsonAdaptedOrders.add(new JsonAdaptedOrder(order));
+        }
+        jsonAdaptedOrders.set(ParallelOrderConverter.CHUNK_SIZE + 5, withPhone(BENSON, "+651234"));
+        jsonAdaptedOrders.set(2 * ParallelOrderConverter.CHUNK_SIZE + 1, withName(BENSON, "R@chel"));
+        jsonAdaptedOrders.set(ORDER_COUNT - 1, withName(BENSON, "R@chel"));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> {
+            ParallelOrderConverter converter = new ParallelOrderConverter();
+            for (JsonAdaptedOrder jsonAdaptedOrder : jsonAdaptedOrders) {
+                converter.add(jsonAdaptedOrder);
+            }
+            converter.toModelType();
+        });
+    }
+
+    @Test
+    public void toModelType_duplicateOrdersInDifferentChunks_throwsIllegalValueException() {
+        List<Order> orders = createOrders();
+        orders.set(ORDER_COUNT - 1, orders.get(0));
+
+        assertThrows(IllegalValueException.class, JsonSerializableCakeCollate.MESSAGE_DUPLICATE_ORDER, () -> {
+            ParallelOrderConverter converter = new ParallelOrderConverter();
+            for (Order order : orders) {
+                converter.add(new JsonAdaptedOrder(order));
+            }
+            converter.toModelType();
+        });
+    }
+
+    private static List<Order> createOrders() {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            orders.add(new OrderBuilder(ALICE).withName("Alice " + i).build());
+        }
+        return orders;
+    }
+
+    private static JsonAdaptedOrder withName(Order order, String name) {
+        return createJsonAdaptedOrder(order, name, order.getPhone().value);
+    }
+
+    private static JsonAdaptedOrder withPhone(Order order, String phone) {
+        return createJsonAdaptedOrder(order, order.getName().fullName, phone);
+    }
+
+    private static JsonAdaptedOrder createJsonAdaptedOrder(Order order, String name, String phone) {
+        List<JsonAdaptedOrderDescription> orderDescriptions = order.getOrderDescriptions().keySet().stream()
+                .map(JsonAdaptedOrderDescription::new)
+                .collect(Collectors.toList());
+        return new JsonAdaptedOrder(name, phone, order.getEmail().value, order.getAddress().value,
+                orderDescriptions, new ArrayList<>(), order.getDeliveryDate().toString(),
+                order.getDeliveryStatus().getDeliveryStatus(), order.getRequest().toString());
+    }
+
+}